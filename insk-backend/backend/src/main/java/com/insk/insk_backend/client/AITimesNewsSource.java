@@ -0,0 +1,48 @@
+package com.insk.insk_backend.client;
+
+import com.insk.insk_backend.domain.Keyword;
+import com.insk.insk_backend.dto.AITimesDto;
+import com.insk.insk_backend.service.FetchCursorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** AITimes RSS 소스. 키워드와 무관하게 최신 피드를 가져오고, 본문은 피드 요약을 쓴다. */
+@Component
+@RequiredArgsConstructor
+public class AITimesNewsSource implements NewsSource {
+
+    private static final int LIMIT = 10;
+    private static final String FEED_CURSOR = "";
+
+    private final AITimesClient aiTimesClient;
+    private final FetchCursorService fetchCursorService;
+
+    @Override
+    public String name() {
+        return "AITimes";
+    }
+
+    @Override
+    public List<Item> fetch(List<Keyword> keywords) {
+        // RSS는 키워드 검색이 없으므로 피드 단위 커서(keyword="")로 이미 본 항목을 건너뛴다.
+        FetchCursorService.Cursor cursor = fetchCursorService.open(name(), FEED_CURSOR);
+        List<Item> fresh = new ArrayList<>();
+        for (AITimesDto dto : aiTimesClient.fetchNews(LIMIT)) {
+            LocalDateTime parsedPubDate = dto.getPublishedAt();
+            if (cursor.isBeforeWatermark(parsedPubDate) || cursor.isSeen(dto.getOriginalUrl())) continue;
+            fresh.add(new Item(name(), dto.getTitle(), dto.getOriginalUrl(), dto.getSummary(),
+                    parsedPubDate,
+                    "KR", "ko", null));
+        }
+        return fresh;
+    }
+
+    @Override
+    public void commit(List<Item> handled, List<Item> unhandled) {
+        fetchCursorService.advance(fetchCursorService.open(name(), FEED_CURSOR), handled, unhandled);
+    }
+}
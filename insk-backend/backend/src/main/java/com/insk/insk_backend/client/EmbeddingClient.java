@@ -1,13 +1,17 @@
 package com.insk.insk_backend.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -21,11 +25,21 @@ public class EmbeddingClient {
     @Value("${openai.model.embedding:text-embedding-3-small}")
     private String embeddingModel;
 
+    /**
+     * 저장용 임베딩 차원 (text-embedding-3의 dimensions 파라미터). MySQL에 저장되는 원본이라 기본은 전체 1536:
+     * 색인 차원(vector.index.dimensions)은 이 벡터를 {@link #shorten}으로 잘라 쓰므로 재임베딩 없이 256/512로 바꿀 수 있다.
+     * 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값.
+     */
+    @Value("${openai.embedding.dimensions:1536}")
+    private int dimensions = 1536;
+
     private final RestTemplate restTemplate;   // 멘토 #5: 타임아웃 설정된 외부 API 전용 RestTemplate 주입
+    private final OpenAiRateLimiter rateLimiter;
     private static final String EMBEDDING_URL = "https://api.openai.com/v1/embeddings";
 
-    public EmbeddingClient(RestTemplate externalApiRestTemplate) {
-        this.restTemplate = externalApiRestTemplate;
+    public EmbeddingClient(RestTemplate openAiRestTemplate, OpenAiRateLimiter rateLimiter) {
+        this.restTemplate = openAiRestTemplate;
+        this.rateLimiter = rateLimiter;
     }
 
     public List<Double> embed(String text) {
@@ -37,7 +51,9 @@ public class EmbeddingClient {
                 log.warn("⚠️ Embedding 텍스트가 너무 길어서 잘랐습니다. 원본 길이: {}, 잘린 길이: {}", text.length(), truncatedText.length());
             }
 
-            EmbeddingRequest requestBody = new EmbeddingRequest(embeddingModel, truncatedText);
+            // dimensions는 text-embedding-3 계열만 받는다 (ada-002에 보내면 400)
+            Integer dims = embeddingModel.startsWith("text-embedding-3") ? dimensions : null;
+            EmbeddingRequest requestBody = new EmbeddingRequest(embeddingModel, truncatedText, dims);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -45,25 +61,53 @@ public class EmbeddingClient {
 
             HttpEntity<EmbeddingRequest> entity = new HttpEntity<>(requestBody, headers);
 
+            // 파이프라인 공유 rate limiter: 한도가 차면 429 대신 여기서 기다린다
+            int estimated = TokenEstimator.estimate(truncatedText);
+            rateLimiter.acquire(embeddingModel, estimated);
             ResponseEntity<EmbeddingResponse> response =
                     restTemplate.postForEntity(EMBEDDING_URL, entity, EmbeddingResponse.class);
+            rateLimiter.onResponse(embeddingModel, response.getHeaders());
+            if (response.getBody().getUsage() != null) {
+                rateLimiter.settle(embeddingModel, estimated, response.getBody().getUsage().getTotalTokens());
+            }
 
             return response.getBody().getData().get(0).getEmbedding();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            rateLimiter.onRateLimited(embeddingModel, e.getResponseHeaders());
+            log.error("❗ Embedding 생성 실패(rate limit): {}", e.getMessage());
+            return null;
         } catch (Exception e) {
             log.error("❗ Embedding 생성 실패: {}", e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Matryoshka 축소: text-embedding-3 벡터는 앞쪽 성분에 정보가 몰리도록 학습돼 있어, 앞 dim개만 남기고
+     * L2 정규화하면 dimensions=dim으로 받은 임베딩과 같다(OpenAI 문서). 이미 dim 이하면 그대로 돌려준다.
+     */
+    public static List<Double> shorten(List<Double> vector, int dim) {
+        if (vector == null || dim <= 0 || vector.size() <= dim) return vector;
+        double norm = 0;
+        for (int i = 0; i < dim; i++) norm += vector.get(i) * vector.get(i);
+        double length = norm > 0 ? Math.sqrt(norm) : 1;
+        List<Double> out = new ArrayList<>(dim);
+        for (int i = 0; i < dim; i++) out.add(vector.get(i) / length);
+        return out;
+    }
+
     @Getter
     @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class EmbeddingRequest {
         private final String model;
         private final String input;
+        private final Integer dimensions;
 
-        public EmbeddingRequest(String model, String input) {
+        public EmbeddingRequest(String model, String input, Integer dimensions) {
             this.model = model;
             this.input = input;
+            this.dimensions = dimensions;
         }
     }
 
@@ -71,6 +115,14 @@ public class EmbeddingClient {
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class EmbeddingResponse {
         private List<EmbeddingData> data;
+        private Usage usage;
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("total_tokens")
+        private int totalTokens;
     }
 
     @Getter
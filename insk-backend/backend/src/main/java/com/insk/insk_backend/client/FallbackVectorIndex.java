@@ -0,0 +1,65 @@
+package com.insk.insk_backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+/**
+ * 벡터 인덱스 선택 (vector.index.mode).
+ *
+ * <ul>
+ *   <li>qdrant — Qdrant만 (기존 동작)</li>
+ *   <li>local — 프로세스 내장 HNSW만 (단일 노드 배포)</li>
+ *   <li>fallback — 색인은 양쪽에, 검색은 Qdrant 먼저. Qdrant가 빈 결과(장애·미색인)면 로컬 인덱스로 답한다.
+ *       네트워크 홉 없는 폴백이라 Qdrant가 꺼져도 부서 Top-5가 비지 않는다.</li>
+ * </ul>
+ * 지표: vector.search.fallback (로컬로 대신 답한 검색 수).
+ */
+@Slf4j
+public class FallbackVectorIndex implements VectorIndex {
+
+    public enum Mode { QDRANT, LOCAL, FALLBACK }
+
+    private final Mode mode;
+    private final VectorIndex remote;
+    private final LocalHnswVectorIndex local;   // mode=qdrant면 null
+    private final Counter fallbacks;
+
+    public FallbackVectorIndex(Mode mode, VectorIndex remote, LocalHnswVectorIndex local, MeterRegistry meterRegistry) {
+        if (mode != Mode.QDRANT && local == null) {
+            throw new IllegalArgumentException("vector.index.mode=" + mode + "에는 로컬 인덱스가 필요합니다");
+        }
+        this.mode = mode;
+        this.remote = remote;
+        this.local = local;
+        this.fallbacks = Counter.builder("vector.search.fallback")
+                .description("Qdrant 대신 로컬 인덱스로 답한 검색 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void ensureCollection(int vectorSize) {
+        if (mode != Mode.LOCAL) remote.ensureCollection(vectorSize);
+        if (mode != Mode.QDRANT) local.ensureCollection(vectorSize);
+    }
+
+    @Override
+    public void upsert(long articleId, List<Double> vector) {
+        if (mode != Mode.LOCAL) remote.upsert(articleId, vector);
+        if (mode != Mode.QDRANT) local.upsert(articleId, vector);
+    }
+
+    @Override
+    public List<ScoredId> search(List<Double> vector, int limit) {
+        if (mode == Mode.LOCAL) return local.search(vector, limit);
+        List<ScoredId> hits = remote.search(vector, limit);
+        if (mode == Mode.FALLBACK && hits.isEmpty() && local.size() > 0) {
+            fallbacks.increment();
+            log.debug("Qdrant 검색 결과 없음 → 로컬 인덱스로 대체 ({}건 색인)", local.size());
+            return local.search(vector, limit);
+        }
+        return hits;
+    }
+}
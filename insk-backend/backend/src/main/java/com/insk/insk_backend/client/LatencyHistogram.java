@@ -0,0 +1,88 @@
+package com.insk.insk_backend.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 응답 지연 분포 (헤징 지연 계산용). 스레드 안전.
+ *
+ * <p>100µs~60s를 1.25배 간격 로그 눈금 버킷으로 센다(상대 오차 25% 이내). 오래된 분포가
+ * 계속 남지 않도록 창 2개(현재·직전)를 windowMs마다 회전하고, 분위수는 두 창을 합쳐 계산한다.
+ */
+public class LatencyHistogram {
+
+    private static final long[] UPPER_BOUNDS_MICROS;
+
+    static {
+        List<Long> bounds = new ArrayList<>();
+        for (double b = 100; b < 60_000_000; b *= 1.25) bounds.add((long) b);
+        bounds.add(Long.MAX_VALUE);
+        UPPER_BOUNDS_MICROS = bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private final long windowMs;
+    private volatile AtomicLongArray current = new AtomicLongArray(UPPER_BOUNDS_MICROS.length);
+    private volatile AtomicLongArray previous = new AtomicLongArray(UPPER_BOUNDS_MICROS.length);
+    private volatile long windowStartedAt = System.currentTimeMillis();
+
+    public LatencyHistogram(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    public void record(long nanos) {
+        rotateIfNeeded();
+        current.incrementAndGet(bucketOf(nanos / 1_000));
+    }
+
+    /** 두 창에 쌓인 표본 수. */
+    public long count() {
+        rotateIfNeeded();
+        long n = 0;
+        for (int i = 0; i < UPPER_BOUNDS_MICROS.length; i++) n += current.get(i) + previous.get(i);
+        return n;
+    }
+
+    /** q 분위수(0~1)에 해당하는 버킷 상한(µs). 표본이 없으면 -1. */
+    public long percentileMicros(double q) {
+        rotateIfNeeded();
+        long[] merged = new long[UPPER_BOUNDS_MICROS.length];
+        long total = 0;
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] = current.get(i) + previous.get(i);
+            total += merged[i];
+        }
+        if (total == 0) return -1;
+
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) return UPPER_BOUNDS_MICROS[i];
+        }
+        return UPPER_BOUNDS_MICROS[merged.length - 1];
+    }
+
+    private void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartedAt < windowMs) return;
+        synchronized (this) {
+            if (now - windowStartedAt < windowMs) return;
+            // 두 창 이상 지났으면 직전 창도 비운다
+            previous = now - windowStartedAt >= 2 * windowMs ? new AtomicLongArray(UPPER_BOUNDS_MICROS.length) : current;
+            current = new AtomicLongArray(UPPER_BOUNDS_MICROS.length);
+            windowStartedAt = now;
+        }
+    }
+
+    private static int bucketOf(long micros) {
+        int lo = 0;
+        int hi = UPPER_BOUNDS_MICROS.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (UPPER_BOUNDS_MICROS[mid] >= micros) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+}
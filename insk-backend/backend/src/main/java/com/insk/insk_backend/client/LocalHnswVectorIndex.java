@@ -0,0 +1,475 @@
+package com.insk.insk_backend.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 프로세스 내장 HNSW 벡터 인덱스 (Qdrant 폴백 또는 단일 노드 배포의 주 인덱스).
+ *
+ * <p>벡터는 정규화한 float32로 {@link MappedVectorStore}(메모리 매핑 파일, 힙 밖)에 두고, 내적 = cosine 유사도로
+ * 비교한다. 그래프(계층별 이웃 목록)는 힙에 두며 노드당 수백 바이트라 수만 건이면 수 MB다.
+ * 그래프·id 매핑은 flushEvery건마다, 그리고 종료 시 graph.bin으로 원자적으로(임시 파일 → rename) 내린다.
+ * 마지막 flush 이후 추가분은 재기동 시 사라지지만 VectorIndexInitializer 백필이 다시 채운다.
+ *
+ * <p>알고리즘은 HNSW 원 논문(Malkov &amp; Yashunin) 그대로: 노드 계층은 지수 분포로 뽑고, 위 계층에서
+ * greedy로 내려와 layer 0에서 ef 후보 빔 탐색, 이웃은 다양성 휴리스틱으로 M개(layer 0은 2M)만 남긴다.
+ * 같은 id를 다시 upsert하면 벡터만 덮어쓴다(기사 임베딩은 거의 바뀌지 않으므로 링크는 그대로 둔다).
+ * 동시성: 검색은 읽기 락(동시 실행), 삽입·flush는 쓰기 락.
+ *
+ * <p>quantized=true면 벡터마다 int8 코드({@link MappedInt8VectorStore}, 약 1/4 크기)를 함께 두고 검색 시 그래프 탐색은
+ * int8 근사 내적으로 한다. 상위 limit×oversampling개만 float 원본으로 다시 채점(rescore)하므로 검색 중 자주 닿는
+ * 페이지는 int8 파일뿐이고 float 파일은 후보 몇십 개만 읽는다. 그래프 구성(삽입)은 정확도를 위해 float로 한다.
+ */
+@Slf4j
+public class LocalHnswVectorIndex implements VectorIndex, Closeable {
+
+    private static final int MAGIC = 0x484E5357;   // "HNSW"
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path dir;
+    private final int m;
+    private final int m0;
+    private final int efConstruction;
+    private final int efSearch;
+    private final int flushEvery;
+    private final boolean quantized;
+    private final int oversampling;
+    private final double levelMultiplier;
+    private final Random random = new Random(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MappedVectorStore vectors;
+    private MappedInt8VectorStore codes;   // quantized=false면 null
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private long[] idByNode = new long[1024];
+    /** links.get(node)[level] = {개수, 이웃...} */
+    private final List<int[][]> links = new ArrayList<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int dirty;
+
+    public LocalHnswVectorIndex(Path dir, int m, int efConstruction, int efSearch, int flushEvery,
+                                boolean quantized, int oversampling) {
+        this.dir = dir;
+        this.m = m;
+        this.m0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.flushEvery = flushEvery;
+        this.quantized = quantized;
+        this.oversampling = Math.max(1, oversampling);
+        this.levelMultiplier = 1 / Math.log(m);
+        try {
+            Files.createDirectories(dir);
+            if (!quantized) Files.deleteIfExists(dir.resolve("vectors.i8"));   // 꺼진 동안 바뀐 벡터와 어긋나지 않게
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 벡터 인덱스 열기 실패: " + dir, e);
+        }
+    }
+
+    // ----------------------------------------------------
+    // VectorIndex
+    // ----------------------------------------------------
+
+    /** 차원이 다르면(임베딩 모델 변경) 기존 인덱스를 버리고 새로 만든다. */
+    @Override
+    public void ensureCollection(int vectorSize) {
+        lock.writeLock().lock();
+        try {
+            if (vectors != null && vectors.dim() == vectorSize) return;
+            if (vectors != null) {
+                log.warn("로컬 벡터 인덱스 차원 변경 {} → {}: 초기화", vectors.dim(), vectorSize);
+                reset();
+            }
+            vectors = new MappedVectorStore(dir.resolve("vectors.f32"), vectorSize);
+            if (quantized) codes = new MappedInt8VectorStore(dir.resolve("vectors.i8"), vectorSize);
+        } catch (IOException e) {
+            log.warn("로컬 벡터 인덱스 생성 실패: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(long articleId, List<Double> vector) {
+        lock.writeLock().lock();
+        try {
+            if (vectors == null) ensureCollection(vector.size());
+            if (vectors == null) return;
+            float[] v = normalize(vector, vectors.dim());   // 더 긴 임베딩은 앞 dim개만 (Matryoshka 축소)
+            if (v.length != vectors.dim()) {
+                log.warn("로컬 벡터 인덱스 차원 불일치 articleId={} ({} != {})", articleId, v.length, vectors.dim());
+                return;
+            }
+            Integer existing = nodeById.get(articleId);
+            if (existing != null) {
+                vectors.set(existing, v);
+                if (codes != null) codes.set(existing, v);
+            } else {
+                insert(articleId, v);
+            }
+            if (++dirty >= flushEvery) flush();
+        } catch (IOException e) {
+            log.warn("로컬 벡터 인덱스 upsert 실패 articleId={}: {}", articleId, e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ScoredId> search(List<Double> vector, int limit) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) return List.of();
+            float[] q = normalize(vector, vectors.dim());
+            if (q.length != vectors.dim()) return List.of();
+            Query query = Query.of(q, codes != null);
+            int ep = entryPoint;
+            for (int level = maxLevel; level > 0; level--) ep = greedyClosest(query, ep, level);
+            List<Candidate> found;
+            if (codes != null) {
+                int rescore = limit * oversampling;
+                found = searchLayer(query, ep, Math.max(efSearch, rescore), 0);
+                List<Candidate> exact = new ArrayList<>(Math.min(rescore, found.size()));
+                for (int i = 0; i < found.size() && i < rescore; i++) {
+                    int node = found.get(i).node;
+                    exact.add(new Candidate(node, vectors.dot(node, q)));
+                }
+                exact.sort(Candidate.BEST_FIRST);
+                found = exact;
+            } else {
+                found = searchLayer(query, ep, Math.max(efSearch, limit), 0);
+            }
+            List<ScoredId> out = new ArrayList<>(Math.min(limit, found.size()));
+            for (int i = 0; i < found.size() && i < limit; i++) {
+                Candidate c = found.get(i);
+                out.add(new ScoredId(idByNode[c.node], c.sim));
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 검색 시 벡터 1개당 읽는 바이트 (int8 코드 또는 float 원본). */
+    public int searchBytesPerVector() {
+        lock.readLock().lock();
+        try {
+            if (vectors == null) return 0;
+            return codes != null ? codes.recordBytes() : vectors.dim() * Float.BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 그래프·id 매핑을 graph.bin에 쓰고, 벡터 페이지를 디스크에 내린다. */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            if (vectors == null) return;
+            vectors.force();
+            if (codes != null) codes.force();
+            Path tmp = dir.resolve("graph.bin.tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                int count = nodeById.size();
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(vectors.dim());
+                out.writeInt(count);
+                out.writeInt(entryPoint);
+                out.writeInt(maxLevel);
+                for (int node = 0; node < count; node++) {
+                    out.writeLong(idByNode[node]);
+                    int[][] nodeLinks = links.get(node);
+                    out.writeInt(nodeLinks.length);
+                    for (int[] level : nodeLinks) {
+                        out.writeInt(level[0]);
+                        for (int i = 1; i <= level[0]; i++) out.writeInt(level[i]);
+                    }
+                }
+            }
+            Files.move(tmp, dir.resolve("graph.bin"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = 0;
+        } catch (IOException e) {
+            log.warn("로컬 벡터 인덱스 flush 실패: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        lock.writeLock().lock();
+        try {
+            if (vectors != null) vectors.close();
+            if (codes != null) codes.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ----------------------------------------------------
+    // HNSW
+    // ----------------------------------------------------
+
+    private void insert(long id, float[] v) throws IOException {
+        int node = nodeById.size();
+        if (node == idByNode.length) idByNode = Arrays.copyOf(idByNode, node * 2);
+        vectors.set(node, v);
+        if (codes != null) codes.set(node, v);
+        idByNode[node] = id;
+        nodeById.put(id, node);
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        int[][] nodeLinks = new int[level + 1][];
+        for (int l = 0; l <= level; l++) nodeLinks[l] = new int[(l == 0 ? m0 : m) + 1];
+        links.add(nodeLinks);
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        Query query = Query.of(v, false);
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) ep = greedyClosest(query, ep, l);
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(query, ep, efConstruction, l);
+            int cap = l == 0 ? m0 : m;
+            for (int neighbor : selectNeighbors(candidates, m)) {
+                addLink(node, neighbor, l, cap);
+                addLink(neighbor, node, l, cap);
+            }
+            ep = candidates.get(0).node;
+        }
+        if (level > maxLevel) {
+            entryPoint = node;
+            maxLevel = level;
+        }
+    }
+
+    /** from의 level 이웃 목록에 to를 더한다. 가득 차면 from 기준으로 다시 골라 cap개만 남긴다. */
+    private void addLink(int from, int to, int level, int cap) {
+        int[] list = links.get(from)[level];
+        int count = list[0];
+        for (int i = 1; i <= count; i++) if (list[i] == to) return;
+        if (count < cap) {
+            list[count + 1] = to;
+            list[0] = count + 1;
+            return;
+        }
+        List<Candidate> all = new ArrayList<>(count + 1);
+        for (int i = 1; i <= count; i++) all.add(new Candidate(list[i], vectors.dot(from, list[i])));
+        all.add(new Candidate(to, vectors.dot(from, to)));
+        all.sort(Candidate.BEST_FIRST);
+        List<Integer> kept = selectNeighbors(all, cap);
+        list[0] = kept.size();
+        for (int i = 0; i < kept.size(); i++) list[i + 1] = kept.get(i);
+    }
+
+    /**
+     * 다양성 휴리스틱: 가까운 후보부터, 이미 고른 이웃보다 질의점에 더 가까운 후보만 고른다
+     * (같은 방향 후보가 이웃을 다 차지하지 않게). 모자라면 남은 후보로 채운다.
+     */
+    private List<Integer> selectNeighbors(List<Candidate> bestFirst, int max) {
+        List<Integer> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate c : bestFirst) {
+            if (selected.size() >= max) break;
+            boolean diverse = true;
+            for (int s : selected) {
+                if (vectors.dot(c.node, s) > c.sim) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) selected.add(c.node);
+            else pruned.add(c);
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < max; i++) selected.add(pruned.get(i).node);
+        return selected;
+    }
+
+    private int greedyClosest(Query q, int ep, int level) {
+        int best = ep;
+        float bestSim = sim(ep, q);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int[] list = links.get(best)[level];
+            for (int i = 1; i <= list[0]; i++) {
+                float s = sim(list[i], q);
+                if (s > bestSim) {
+                    bestSim = s;
+                    best = list[i];
+                    changed = true;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** 한 계층에서 ef개 빔 탐색 → 유사도 내림차순. */
+    private List<Candidate> searchLayer(Query q, int ep, int ef, int level) {
+        BitSet visited = new BitSet(nodeById.size());
+        visited.set(ep);
+        Candidate start = new Candidate(ep, sim(ep, q));
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>(Candidate.BEST_FIRST);
+        PriorityQueue<Candidate> top = new PriorityQueue<>(Candidate.BEST_FIRST.reversed());   // 가장 먼 것이 head
+        frontier.add(start);
+        top.add(start);
+
+        while (!frontier.isEmpty()) {
+            Candidate c = frontier.poll();
+            if (top.size() >= ef && c.sim < top.peek().sim) break;
+            int[][] nodeLinks = links.get(c.node);
+            if (level >= nodeLinks.length) continue;
+            int[] list = nodeLinks[level];
+            for (int i = 1; i <= list[0]; i++) {
+                int n = list[i];
+                if (visited.get(n)) continue;
+                visited.set(n);
+                float s = sim(n, q);
+                if (top.size() < ef || s > top.peek().sim) {
+                    Candidate nc = new Candidate(n, s);
+                    frontier.add(nc);
+                    top.add(nc);
+                    if (top.size() > ef) top.poll();
+                }
+            }
+        }
+        List<Candidate> out = new ArrayList<>(top);
+        out.sort(Candidate.BEST_FIRST);
+        return out;
+    }
+
+    private float sim(int node, Query q) {
+        return q.codes != null ? codes.dot(node, q.codes, q.scale) : vectors.dot(node, q.vector);
+    }
+
+    // ----------------------------------------------------
+    // 저장·복원
+    // ----------------------------------------------------
+
+    private void load() throws IOException {
+        Path graph = dir.resolve("graph.bin");
+        if (!Files.exists(graph)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(graph)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("로컬 벡터 인덱스 형식이 달라 새로 만듭니다: {}", graph);
+                return;
+            }
+            int dim = in.readInt();
+            int count = in.readInt();
+            entryPoint = in.readInt();
+            maxLevel = in.readInt();
+            idByNode = new long[Math.max(1024, count)];
+            for (int node = 0; node < count; node++) {
+                long id = in.readLong();
+                idByNode[node] = id;
+                nodeById.put(id, node);
+                int[][] nodeLinks = new int[in.readInt()][];
+                for (int l = 0; l < nodeLinks.length; l++) {
+                    int[] list = new int[(l == 0 ? m0 : m) + 1];
+                    int n = in.readInt();
+                    list[0] = n;
+                    for (int i = 1; i <= n; i++) list[i] = in.readInt();
+                    nodeLinks[l] = list;
+                }
+                links.add(nodeLinks);
+            }
+            vectors = new MappedVectorStore(dir.resolve("vectors.f32"), dim);
+            vectors.mapExisting(count);
+            if (quantized) {
+                Path codeFile = dir.resolve("vectors.i8");
+                boolean existed = Files.exists(codeFile);
+                codes = new MappedInt8VectorStore(codeFile, dim);
+                codes.mapExisting(count);
+                if (!existed) {   // 양자화를 새로 켰으면 float 원본에서 코드를 만든다
+                    float[] buf = new float[dim];
+                    for (int node = 0; node < count; node++) {
+                        vectors.get(node, buf);
+                        codes.set(node, buf);
+                    }
+                }
+            }
+        }
+        log.info("로컬 벡터 인덱스 복원: {}건 (dim={})", nodeById.size(), vectors.dim());
+    }
+
+    private void reset() throws IOException {
+        if (vectors != null) vectors.close();
+        if (codes != null) codes.close();
+        vectors = null;
+        codes = null;
+        nodeById.clear();
+        links.clear();
+        idByNode = new long[1024];
+        entryPoint = -1;
+        maxLevel = -1;
+        Files.deleteIfExists(dir.resolve("graph.bin"));
+        Files.deleteIfExists(dir.resolve("vectors.f32"));
+        Files.deleteIfExists(dir.resolve("vectors.i8"));
+    }
+
+    /** 앞 최대 dim개 성분을 L2 정규화한 float 벡터. */
+    private static float[] normalize(List<Double> vector, int dim) {
+        float[] v = new float[Math.min(vector.size(), dim)];
+        double norm = 0;
+        for (int i = 0; i < v.length; i++) {
+            double x = vector.get(i);
+            v[i] = (float) x;
+            norm += x * x;
+        }
+        if (norm > 0) {
+            float inv = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < v.length; i++) v[i] *= inv;
+        }
+        return v;
+    }
+
+    /** 탐색용 질의: float 원본, 양자화 탐색이면 int8 코드·배율도 함께. */
+    private record Query(float[] vector, byte[] codes, float scale) {
+        static Query of(float[] vector, boolean quantize) {
+            if (!quantize) return new Query(vector, null, 0);
+            byte[] codes = new byte[vector.length];
+            return new Query(vector, codes, MappedInt8VectorStore.quantize(vector, codes));
+        }
+    }
+
+    private record Candidate(int node, float sim) {
+        static final Comparator<Candidate> BEST_FIRST = (a, b) -> Float.compare(b.sim, a.sim);
+    }
+}
@@ -0,0 +1,109 @@
+package com.insk.insk_backend.client;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 기사 페이지 본문 추출 (readability 방식의 간이 구현).
+ *
+ * <p>언론사 셀렉터가 하나도 맞지 않으면 예전에는 {@code doc.body().text()} 전체(메뉴·댓글·광고·랭킹 포함)를
+ * LLM에 보냈다. 여기서는 보일러플레이트 영역을 먼저 지우고, 문단 텍스트가 가장 많이 모인 컨테이너를
+ * 점수로 골라 그 텍스트만 쓴다. 점수는 문단마다 (1 + 쉼표 수 + 길이/100, 최대 3)을 부모에 전부, 조부모에 절반
+ * 더한 뒤 링크 밀도만큼 깎는다(링크 목록은 본문이 아니다).
+ */
+public final class MainTextExtractor {
+
+    /** 본문이 아닌 영역으로 볼 class/id 패턴. */
+    private static final Pattern BOILERPLATE_HINT = Pattern.compile(
+            "comment|reply|footer|header|gnb|lnb|nav|menu|sidebar|aside|share|sns|social|related|recommend|"
+                    + "banner|\\bads?\\b|advert|sponsor|promo|copyright|subscribe|newsletter|popular|ranking|"
+                    + "breadcrumb|tag-list|login|modal|popup",
+            Pattern.CASE_INSENSITIVE);
+
+    /** 본문 텍스트 안에 섞여 나오는 정형 문구 (저작권·기자 서명·제보 안내 등). */
+    private static final Pattern BOILERPLATE_PHRASE = Pattern.compile(
+            "(?:<저작권자\\s*©[^>]*>)|(?:ⓒ|©|Copyright)[^.。]{0,80}?(?:무단\\s*전재|All rights reserved)[^.。]*[.。]?"
+                    + "|무단\\s*전재\\s*(?:및|&)\\s*재배포\\s*금지"
+                    + "|[가-힣]{2,4}\\s*기자\\s*[\\w.+-]+@[\\w.-]+"
+                    + "|[\\w.+-]+@[\\w.-]+\\.[a-z]{2,}"
+                    + "|기사\\s*제보\\s*[^.。]*[.。]?",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final int MIN_PARAGRAPH_CHARS = 25;
+
+    private MainTextExtractor() {
+    }
+
+    /** 문서에서 본문 텍스트를 뽑는다. 후보가 없으면 정리된 body 텍스트로 대체한다. */
+    public static String extract(Document doc) {
+        Document work = doc.clone();
+        removeBoilerplate(work);
+
+        Map<Element, Double> scores = new HashMap<>();
+        for (Element p : work.select("p, td, pre, div:not(:has(div, p, table))")) {
+            String text = p.ownText().isBlank() ? p.text() : p.ownText();
+            if (text.length() < MIN_PARAGRAPH_CHARS) continue;
+
+            double score = 1 + countCommas(text) + Math.min(text.length() / 100.0, 3);
+            Element parent = p.parent();
+            if (parent == null) continue;
+            scores.merge(parent, score, Double::sum);
+            Element grand = parent.parent();
+            if (grand != null) scores.merge(grand, score / 2, Double::sum);
+        }
+
+        Element best = null;
+        double bestScore = 0;
+        for (Map.Entry<Element, Double> e : scores.entrySet()) {
+            double adjusted = e.getValue() * (1 - linkDensity(e.getKey()));
+            if (adjusted > bestScore) {
+                bestScore = adjusted;
+                best = e.getKey();
+            }
+        }
+
+        String text = best != null ? best.text() : (work.body() != null ? work.body().text() : "");
+        return stripBoilerplate(text);
+    }
+
+    /** 셀렉터로 얻은 본문에도 남는 저작권·기자 이메일 등 정형 문구를 지운다. */
+    public static String stripBoilerplate(String text) {
+        if (text == null) return null;
+        return BOILERPLATE_PHRASE.matcher(text).replaceAll(" ").replaceAll("\\s{2,}", " ").trim();
+    }
+
+    private static void removeBoilerplate(Document doc) {
+        doc.select("script, style, noscript, iframe, form, button, nav, header, footer, aside, svg, figure figcaption").remove();
+        Elements all = doc.body() != null ? doc.body().select("*") : new Elements();
+        for (Element el : all) {
+            if (el.parent() == null) continue;   // 이미 상위와 함께 제거됨
+            if (el.tagName().equals("article") || el.tagName().equals("body")) continue;
+            String hint = el.className() + " " + el.id();
+            if (!hint.isBlank() && BOILERPLATE_HINT.matcher(hint).find()) {
+                el.remove();
+            }
+        }
+    }
+
+    private static double linkDensity(Element el) {
+        int textLength = el.text().length();
+        if (textLength == 0) return 1;
+        int linkLength = 0;
+        for (Element a : el.select("a")) linkLength += a.text().length();
+        return Math.min(1.0, (double) linkLength / textLength);
+    }
+
+    private static int countCommas(String text) {
+        int n = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '、' || c == '，') n++;
+        }
+        return n;
+    }
+}
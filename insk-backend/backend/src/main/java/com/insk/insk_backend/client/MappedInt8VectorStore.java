@@ -0,0 +1,93 @@
+package com.insk.insk_backend.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * int8 스칼라 양자화 벡터 저장소 (메모리 매핑 파일, 힙 밖).
+ *
+ * <p>정규화된 벡터를 벡터별 배율 s = max|x|/127로 나눠 반올림한 int8 코드로 둔다. 레코드 = 배율(float32) + dim바이트라
+ * 1536차원 기준 6,144B → 1,540B (약 4배 작음). 두 벡터의 내적은 정수 곱의 합 × s₁ × s₂로 근사한다
+ * (오차는 성분당 s/2 이내라 cosine 순위는 거의 유지되고, 상위 후보는 float 원본으로 다시 채점한다).
+ * 구간 매핑·동시 읽기 규칙은 {@link MappedVectorStore}와 같다.
+ */
+final class MappedInt8VectorStore implements Closeable {
+
+    private final FileChannel channel;
+    private final int dim;
+    private final int recordBytes;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+
+    MappedInt8VectorStore(Path file, int dim) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.dim = dim;
+        this.recordBytes = Float.BYTES + dim;
+    }
+
+    /** 벡터 1개가 차지하는 바이트 수. */
+    int recordBytes() {
+        return recordBytes;
+    }
+
+    void set(int node, float[] vector) throws IOException {
+        byte[] codes = new byte[dim];
+        float scale = quantize(vector, codes);
+        MappedByteBuffer buf = chunkFor(node);
+        int base = (node % MappedVectorStore.CHUNK_VECTORS) * recordBytes;
+        buf.putFloat(base, scale);
+        buf.put(base + Float.BYTES, codes);
+    }
+
+    /** 저장된 벡터와 양자화된 질의(codes, scale)의 근사 내적. */
+    float dot(int node, byte[] codes, float scale) {
+        MappedByteBuffer buf = chunks.get(node / MappedVectorStore.CHUNK_VECTORS);
+        int base = (node % MappedVectorStore.CHUNK_VECTORS) * recordBytes;
+        int offset = base + Float.BYTES;
+        int sum = 0;
+        for (int i = 0; i < dim; i++) sum += buf.get(offset + i) * codes[i];
+        return sum * buf.getFloat(base) * scale;
+    }
+
+    void mapExisting(int count) throws IOException {
+        if (count > 0) chunkFor(count - 1);
+    }
+
+    void force() {
+        for (MappedByteBuffer m : chunks) m.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /** vector를 int8 코드로 바꿔 codes에 채우고 배율을 돌려준다. */
+    static float quantize(float[] vector, byte[] codes) {
+        float maxAbs = 0;
+        for (float x : vector) maxAbs = Math.max(maxAbs, Math.abs(x));
+        if (maxAbs == 0) return 0;
+        float scale = maxAbs / 127f;
+        for (int i = 0; i < vector.length; i++) codes[i] = (byte) Math.round(vector[i] / scale);
+        return scale;
+    }
+
+    private MappedByteBuffer chunkFor(int node) throws IOException {
+        int chunk = node / MappedVectorStore.CHUNK_VECTORS;
+        while (chunks.size() <= chunk) {
+            long bytes = (long) MappedVectorStore.CHUNK_VECTORS * recordBytes;
+            MappedByteBuffer m = channel.map(FileChannel.MapMode.READ_WRITE, chunks.size() * bytes, bytes);
+            m.order(ByteOrder.LITTLE_ENDIAN);
+            chunks.add(m);
+        }
+        return chunks.get(chunk);
+    }
+}
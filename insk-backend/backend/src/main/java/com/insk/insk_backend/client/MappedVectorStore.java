@@ -0,0 +1,100 @@
+package com.insk.insk_backend.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * float32 벡터 저장소 (메모리 매핑 파일, 힙 밖).
+ *
+ * <p>노드 번호 순서대로 dim개 float을 이어 붙인 파일 하나를 CHUNK_VECTORS개 단위 구간으로 매핑한다
+ * (MappedByteBuffer 한 개의 2GB 한계를 피하고, 파일을 구간 단위로 늘린다). 1536차원 5만 건 ≈ 300MB가
+ * 힙이 아닌 페이지 캐시에 올라가므로 GC 부담이 없고, 재기동 시 다시 읽지 않고 매핑만 한다.
+ * 읽기는 절대 위치 get만 쓰므로 여러 스레드가 동시에 읽어도 안전하다(쓰기는 호출부가 배타 보장).
+ */
+final class MappedVectorStore implements Closeable {
+
+    static final int CHUNK_VECTORS = 4096;
+
+    private final FileChannel channel;
+    private final int dim;
+    private final List<FloatBuffer> chunks = new ArrayList<>();
+    private final List<MappedByteBuffer> mapped = new ArrayList<>();
+
+    MappedVectorStore(Path file, int dim) throws IOException {
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.dim = dim;
+    }
+
+    int dim() {
+        return dim;
+    }
+
+    void set(int node, float[] vector) throws IOException {
+        FloatBuffer fb = chunkFor(node);
+        int base = (node % CHUNK_VECTORS) * dim;
+        for (int i = 0; i < dim; i++) fb.put(base + i, vector[i]);
+    }
+
+    /** 저장된 벡터를 out에 복사한다. */
+    void get(int node, float[] out) {
+        FloatBuffer fb = chunks.get(node / CHUNK_VECTORS);
+        fb.get((node % CHUNK_VECTORS) * dim, out, 0, dim);
+    }
+
+    /** 저장된 벡터와 질의 벡터의 내적. */
+    float dot(int node, float[] query) {
+        FloatBuffer fb = chunks.get(node / CHUNK_VECTORS);
+        int base = (node % CHUNK_VECTORS) * dim;
+        float sum = 0;
+        for (int i = 0; i < dim; i++) sum += fb.get(base + i) * query[i];
+        return sum;
+    }
+
+    /** 저장된 두 벡터의 내적. */
+    float dot(int a, int b) {
+        FloatBuffer fa = chunks.get(a / CHUNK_VECTORS);
+        FloatBuffer fb = chunks.get(b / CHUNK_VECTORS);
+        int baseA = (a % CHUNK_VECTORS) * dim;
+        int baseB = (b % CHUNK_VECTORS) * dim;
+        float sum = 0;
+        for (int i = 0; i < dim; i++) sum += fa.get(baseA + i) * fb.get(baseB + i);
+        return sum;
+    }
+
+    /** 기존 파일의 노드 0..count-1 구간을 매핑한다 (재기동 시). */
+    void mapExisting(int count) throws IOException {
+        if (count > 0) chunkFor(count - 1);
+    }
+
+    /** 매핑된 페이지를 디스크에 내린다. */
+    void force() {
+        for (MappedByteBuffer m : mapped) m.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private FloatBuffer chunkFor(int node) throws IOException {
+        int chunk = node / CHUNK_VECTORS;
+        while (chunks.size() <= chunk) {
+            long bytes = (long) CHUNK_VECTORS * dim * Float.BYTES;
+            MappedByteBuffer m = channel.map(FileChannel.MapMode.READ_WRITE, chunks.size() * bytes, bytes);
+            m.order(ByteOrder.LITTLE_ENDIAN);
+            mapped.add(m);
+            chunks.add(m.asFloatBuffer());
+        }
+        return chunks.get(chunk);
+    }
+}
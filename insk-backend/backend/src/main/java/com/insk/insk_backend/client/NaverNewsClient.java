@@ -28,14 +28,22 @@ public class NaverNewsClient {
     private final String API_URL = "https://openapi.naver.com/v1/search/news.json";
     private final RestTemplate restTemplate;   // 멘토 #5: 타임아웃 설정된 외부 API 전용 RestTemplate 주입
 
-    public NaverNewsClient(RestTemplate externalApiRestTemplate) {
-        this.restTemplate = externalApiRestTemplate;
+    public NaverNewsClient(RestTemplate naverRestTemplate) {
+        this.restTemplate = naverRestTemplate;
     }
 
     /**
      * Naver News API를 호출하여 뉴스 목록을 가져옵니다.
      */
     public List<NaverNewsDto> searchNews(String query, int display) {
+        return searchNews(query, display, 1, "sim");
+    }
+
+    /**
+     * 페이지 지정 검색. 증분 수집은 sort=date로 최신순 페이지를 넘기며 커서에 닿을 때까지 읽는다.
+     * (네이버 제약: display ≤ 100, start ≤ 1000)
+     */
+    public List<NaverNewsDto> searchNews(String query, int display, int start, String sort) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("X-Naver-Client-Id", clientId);
         headers.set("X-Naver-Client-Secret", clientSecret);
@@ -43,10 +51,11 @@ public class NaverNewsClient {
 
         // URL 인코딩 처리
         String encodedQuery = java.net.URLEncoder.encode(query, java.nio.charset.StandardCharsets.UTF_8);
-        String url = API_URL + "?query=" + encodedQuery + "&display=" + display + "&sort=sim";
+        String url = API_URL + "?query=" + encodedQuery + "&display=" + display
+                + "&start=" + start + "&sort=" + sort;
 
         try {
-            log.info("🔍 Naver News API 호출: query={}, display={}", query, display);
+            log.info("🔍 Naver News API 호출: query={}, display={}, start={}, sort={}", query, display, start, sort);
             ResponseEntity<NaverNewsDto.SearchResponse> response = restTemplate.exchange(
                     url, HttpMethod.GET, entity, NaverNewsDto.SearchResponse.class
             );
@@ -88,9 +97,9 @@ public class NaverNewsClient {
             // 다양한 언론사의 본문 셀렉터 시도
             String body = doc.select("article, #articleBody, #article_body, #newsct_article, .article-body, .article_content, .article-content, .content-body").text();
             
-            // 본문이 비어있으면 전체 텍스트에서 일부 추출 시도
+            // 셀렉터가 하나도 맞지 않으면 body 전체(메뉴·댓글·광고 포함) 대신 본문 컨테이너를 점수로 골라 추출
             if (body == null || body.trim().isEmpty()) {
-                body = doc.body().text();
+                body = MainTextExtractor.extract(doc);
             }
             
             return body;
@@ -0,0 +1,119 @@
+package com.insk.insk_backend.client;
+
+import com.insk.insk_backend.domain.Keyword;
+import com.insk.insk_backend.dto.NaverNewsDto;
+import com.insk.insk_backend.service.FetchCursorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 네이버 뉴스 검색 API 소스. 키워드별로 검색하고, 본문은 원문 스크래핑으로 얻는다.
+ *
+ * <p>sort=date(최신순)로 페이지를 넘기며 키워드별 커서(watermark)에 닿으면 멈춘다.
+ * 지난 실행에서 본 결과는 목록 단계에서 걸러지므로 새 기사만 파이프라인에 넘어간다.
+ * 커서는 fetch가 아니라 파이프라인이 처리를 마친 뒤 {@link #commit}에서 전진한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverNewsSource implements NewsSource {
+
+    private final NaverNewsClient naverNewsClient;
+    private final FetchCursorService fetchCursorService;
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${naver.fetch.page-size:20}")
+    private int pageSize = 20;
+
+    /** 커서에 닿지 못해도 이 페이지 수에서 멈춘다 (폭주 키워드의 API 호출 상한). */
+    @Value("${naver.fetch.max-pages:5}")
+    private int maxPages = 5;
+
+    @Override
+    public String name() {
+        return "Naver";
+    }
+
+    @Override
+    public List<Item> fetch(List<Keyword> keywords) {
+        List<Item> items = new ArrayList<>();
+        for (Keyword k : keywords) {
+            items.addAll(fetchIncremental(k));
+        }
+        return items;
+    }
+
+    private List<Item> fetchIncremental(Keyword k) {
+        FetchCursorService.Cursor cursor = fetchCursorService.open(name(), k.getKeyword());
+        List<Item> fresh = new ArrayList<>();
+        int pages = 0;
+        boolean reachedCursor = false;
+
+        while (!reachedCursor && pages < maxPages) {
+            List<NaverNewsDto> page = naverNewsClient.searchNews(k.getKeyword(), pageSize, 1 + pages * pageSize, "date");
+            pages++;
+            for (NaverNewsDto dto : page) {
+                if (cursor.isBeforeWatermark(dto.getPubDate())) {
+                    reachedCursor = true;   // 최신순이므로 이후 결과는 전부 지난 실행에서 본 구간
+                    break;
+                }
+                if (cursor.isSeen(dto.getOriginalUrl())) continue;
+                fresh.add(new Item(name(), removeHtmlTags(dto.getTitle()), dto.getOriginalUrl(), null,
+                        dto.getPubDate(), "KR", "ko", k));
+            }
+            // 첫 수집은 과거 전체를 훑지 않고 첫 페이지만 읽는다. 마지막 페이지면 더 넘길 것이 없다.
+            if (cursor.isFirstFetch() || page.size() < pageSize) break;
+        }
+
+        log.info("[Naver] keyword={} 신규 {}건 (페이지 {}회, 커서 도달={})", k.getKeyword(), fresh.size(), pages, reachedCursor);
+        return fresh;
+    }
+
+    /** 키워드별 커서를 처리 결과만큼 전진시킨다. 처리 못 한 기사만 있는 키워드도 실패 횟수를 남기려고 커서를 연다. */
+    @Override
+    public void commit(List<Item> handled, List<Item> unhandled) {
+        Map<String, List<Item>> handledByKeyword = new LinkedHashMap<>();
+        Map<String, List<Item>> unhandledByKeyword = new LinkedHashMap<>();
+        handled.forEach(it -> handledByKeyword.computeIfAbsent(it.keyword().getKeyword(), k -> new ArrayList<>()).add(it));
+        unhandled.forEach(it -> unhandledByKeyword.computeIfAbsent(it.keyword().getKeyword(), k -> new ArrayList<>()).add(it));
+        Set<String> keywords = new LinkedHashSet<>(handledByKeyword.keySet());
+        keywords.addAll(unhandledByKeyword.keySet());
+        for (String keyword : keywords) {
+            fetchCursorService.advance(fetchCursorService.open(name(), keyword),
+                    handledByKeyword.getOrDefault(keyword, List.of()), unhandledByKeyword.getOrDefault(keyword, List.of()));
+        }
+    }
+
+    @Override
+    public String loadBody(Item item) {
+        return naverNewsClient.scrapeArticleBody(item.url());
+    }
+
+    /**
+     * HTML 태그 제거 (예: <b></b>, <strong></strong>, <em></em> 등)
+     */
+    private String removeHtmlTags(String text) {
+        if (text == null || text.isBlank()) {
+            return text;
+        }
+        // HTML 태그 제거 및 HTML 엔티티 디코딩
+        return text
+                .replaceAll("<[^>]+>", "") // HTML 태그 제거
+                .replaceAll("&nbsp;", " ") // &nbsp; → 공백
+                .replaceAll("&amp;", "&")  // &amp; → &
+                .replaceAll("&lt;", "<")   // &lt; → <
+                .replaceAll("&gt;", ">")   // &gt; → >
+                .replaceAll("&quot;", "\"") // &quot; → "
+                .replaceAll("&#39;", "'")   // &#39; → '
+                .trim();
+    }
+}
@@ -0,0 +1,57 @@
+package com.insk.insk_backend.client;
+
+import com.insk.insk_backend.domain.Keyword;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 뉴스 수집 소스 SPI.
+ *
+ * <p>소스마다 다른 응답 DTO(Naver/AITimes/TheGuru)를 공통 수집 레코드({@link Item})로 바꿔,
+ * 파이프라인이 소스 종류와 무관하게 같은 처리 경로(dedup → 본문 → 분석 → 저장)를 타게 한다.
+ * 새 소스는 이 인터페이스를 구현한 빈을 등록하기만 하면 파이프라인 fan-out에 자동 포함된다.
+ */
+public interface NewsSource {
+
+    /** Article.source 컬럼에 저장되는 소스 이름 (예: Naver). */
+    String name();
+
+    /**
+     * 승인된 키워드 기준으로 새 기사 후보를 가져온다.
+     * 키워드를 쓰지 않는 소스(RSS)는 keywords를 무시한다. 실패 시 빈 리스트(예외 전파 금지).
+     */
+    List<Item> fetch(List<Keyword> keywords);
+
+    /**
+     * LLM 분석에 쓸 본문을 가져온다. dedup을 통과한 기사에만 호출된다(스크래핑 비용 절감).
+     * 기본 구현은 피드 요약을 그대로 쓰고, 너무 짧으면 제목을 덧붙인다.
+     */
+    default String loadBody(Item item) {
+        String body = item.summary() == null ? "" : item.summary();
+        if (body.length() < 10) body = item.title() + " " + body;
+        return body;
+    }
+
+    /**
+     * 파이프라인이 fetch 결과를 다 처리한 뒤 호출한다. 증분 커서를 쓰는 소스는 여기서 커서를 전진시킨다.
+     * handled는 저장·FAILED 보존·중복 판정까지 끝난 기사, unhandled는 본문 로드·처리에 실패해 다음 실행에서
+     * 다시 받아야 하는 기사다. fetch가 deadline을 넘긴 실행에서는 호출되지 않는다.
+     */
+    default void commit(List<Item> handled, List<Item> unhandled) {
+    }
+
+    /**
+     * 소스 공통 수집 레코드.
+     * keyword는 키워드 검색으로 찾은 기사일 때만 채워진다(태그에 검색 키워드 기록용).
+     * publishedAt은 피드에 발행시각이 없으면 null이다(커서 watermark에 가짜 시각이 섞이지 않도록).
+     */
+    record Item(String source,
+                String title,
+                String url,
+                String summary,
+                LocalDateTime publishedAt,
+                String country,
+                String language,
+                Keyword keyword) {}
+}
@@ -1,16 +1,28 @@
 package com.insk.insk_backend.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.insk.insk_backend.dto.OpenAIDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @Slf4j
 @Component
 public class OpenAIClient {
@@ -27,14 +39,40 @@ public class OpenAIClient {
     @Value("${openai.model.simple:gpt-4o-mini}")
     private String simpleModel;
 
-    private final String API_URL = "https://api.openai.com/v1/chat/completions";
+    // rate limiter 예약용 예상 응답 토큰 (요약·인사이트·태그 JSON ≈ 300~500 토큰)
+    @Value("${openai.rate-limit.analysis-completion-tokens:600}")
+    private int analysisCompletionTokens = 600;
+
+    // 분석 호출을 SSE 스트리밍으로 받는다. 끄면 예전처럼 완료까지 기다리는 단건 호출.
+    @Value("${openai.stream.enabled:true}")
+    private boolean streamEnabled = true;
+
+    // 스트림 전체 상한. 조각이 조금씩 계속 오는 경우(유휴 타임아웃에 안 걸림)를 끊는다.
+    @Value("${openai.stream.max-duration-ms:120000}")
+    private long streamMaxDurationMs = 120000;
+
+    @Value("${openai.api.base-url:https://api.openai.com/v1}")
+    private String baseUrl = "https://api.openai.com/v1";
+
     private final RestTemplate restTemplate;   // 멘토 #5: 타임아웃 설정된 외부 API 전용 RestTemplate 주입
+    private final RestTemplate streamingRestTemplate;   // 읽기 타임아웃 = 토큰 간 유휴 타임아웃
+    private final OpenAiRateLimiter rateLimiter;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public OpenAIClient(RestTemplate externalApiRestTemplate) {
-        this.restTemplate = externalApiRestTemplate;
+    public OpenAIClient(RestTemplate openAiRestTemplate,
+                        RestTemplate openAiStreamingRestTemplate,
+                        OpenAiRateLimiter rateLimiter) {
+        this.restTemplate = openAiRestTemplate;
+        this.streamingRestTemplate = openAiStreamingRestTemplate;
+        this.rateLimiter = rateLimiter;
     }
 
+    /**
+     * 분석 프롬프트 버전. SYSTEM_PROMPT를 바꾸면 함께 올린다 — 분석 결과 캐시 키에 포함되어
+     * 예전 프롬프트로 만든 결과가 재사용되지 않는다.
+     */
+    public static final String ANALYSIS_PROMPT_VERSION = "v4-2026-05-22";
+
     // 🧠 기사 분석용 시스템 프롬프트 (v4 taxonomy 재설계 — 2026-05-22)
     // AI Ecosystem → AI Business 변경 + LLM 정의 강화 (fallback bucket 오염 방지)
     private final String SYSTEM_PROMPT = """
@@ -112,10 +150,7 @@ public class OpenAIClient {
             HttpEntity<String> entity =
                     new HttpEntity<>(objectMapper.writeValueAsString(req), headers);
 
-            String response =
-                    restTemplate.postForObject(API_URL, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response);
+            JsonNode root = postChat(simpleModel, entity, TokenEstimator.estimateChat(null, userPrompt, 32));
             String content =
                     root.path("choices").path(0).path("message").path("content").asText();
 
@@ -146,33 +181,138 @@ public class OpenAIClient {
      * 상위에서 재시도(@Retryable)·폴백(@Recover)으로 다룰 수 있게 한다.
      */
     public OpenAIDto.AnalysisResponse analyzeArticle(String articleBody, String model) {
+        if (streamEnabled) {
+            return analyzeArticleStreaming(articleBody, model, StreamingAnalysisParser.Listener.NONE);
+        }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
 
-        OpenAIDto.ChatRequest requestBody = new OpenAIDto.ChatRequest(
-                model,
-                SYSTEM_PROMPT,     // 시스템 프롬프트
-                articleBody,       // 기사 본문
-                true               // JSON 모드 활성화 (모델이 JSON으로만 답하게)
-        );
+        OpenAIDto.ChatRequest requestBody = analysisRequest(articleBody, model);
 
         try {
             HttpEntity<String> entity =
                     new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers);
 
-            String response =
-                    restTemplate.postForObject(API_URL, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response);
+            int estimated = estimateAnalysisTokens(articleBody);
+            JsonNode root = postChat(model, entity, estimated);
             String jsonContent =
                     root.path("choices").path(0).path("message").path("content").asText();
 
-            return objectMapper.readValue(jsonContent, OpenAIDto.AnalysisResponse.class);
+            return parseAnalysis(jsonContent);
 
         } catch (Exception e) {
             // null로 삼키지 않고 예외로 노출 → 재시도·폴백 가능
             throw new OpenAiAnalysisException("OpenAI 분석 실패 (model=" + model + "): " + e.getMessage(), e);
         }
     }
+
+    /**
+     * SSE 스트리밍으로 기사를 분석한다. content 조각을 {@link StreamingAnalysisParser}에 바로 밀어 넣어
+     * summary·categoryMajor 등이 완성되는 즉시 listener로 알리고, 끝나면 채워진 결과를 그대로 돌려준다.
+     *
+     * <p>멈춘 스트림은 120초 읽기 타임아웃이 아니라 토큰 간 유휴 타임아웃
+     * (openai.stream.idle-timeout-ms, streaming RestTemplate의 읽기 타임아웃)으로 감지해
+     * {@link OpenAiAnalysisException}을 던진다 → 상위 재시도·폴백이 그대로 동작한다.
+     */
+    public OpenAIDto.AnalysisResponse analyzeArticleStreaming(String articleBody, String model,
+                                                               StreamingAnalysisParser.Listener listener) {
+        int estimated = estimateAnalysisTokens(articleBody);
+        try {
+            ObjectNode request = objectMapper.valueToTree(analysisRequest(articleBody, model));
+            request.put("stream", true);
+            request.putObject("stream_options").put("include_usage", true);   // 마지막 청크에 usage
+            byte[] payload = objectMapper.writeValueAsBytes(request);
+
+            rateLimiter.acquire(model, estimated);
+            long deadline = System.currentTimeMillis() + streamMaxDurationMs;
+            try {
+                return streamingRestTemplate.execute(chatUrl(), HttpMethod.POST,
+                        req -> {
+                            req.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                            req.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                            req.getHeaders().setBearerAuth(apiKey);
+                            req.getBody().write(payload);
+                        },
+                        res -> {
+                            rateLimiter.onResponse(model, res.getHeaders());
+                            return readStream(res.getBody(), model, estimated, deadline, listener);
+                        });
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                rateLimiter.onRateLimited(model, e.getResponseHeaders());
+                throw e;
+            }
+        } catch (Exception e) {
+            throw new OpenAiAnalysisException("OpenAI 스트리밍 분석 실패 (model=" + model + "): " + e.getMessage(), e);
+        }
+    }
+
+    /** SSE 본문: "data: {chunk}" 줄들, 끝은 "data: [DONE]". */
+    private OpenAIDto.AnalysisResponse readStream(InputStream body, String model, int estimated, long deadline,
+                                                  StreamingAnalysisParser.Listener listener) throws IOException {
+        StreamingAnalysisParser parser = new StreamingAnalysisParser(listener);
+        int usedTokens = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IOException("스트림 최대 시간 초과 (" + streamMaxDurationMs + "ms)");
+            }
+            if (!line.startsWith("data:")) continue;   // 빈 줄·주석(:keep-alive)
+            String data = line.substring(5).trim();
+            if (data.equals("[DONE]")) break;
+
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode delta = chunk.path("choices").path(0).path("delta").path("content");
+            if (delta.isTextual()) parser.feed(delta.asText());
+            usedTokens = Math.max(usedTokens, chunk.path("usage").path("total_tokens").asInt(0));
+        }
+        OpenAIDto.AnalysisResponse result = parser.finish();
+        rateLimiter.settle(model, estimated, usedTokens);
+        return result;
+    }
+
+    /** 분석 요청 1건의 rate limiter 예약 토큰 (프롬프트 + 본문 + 예상 응답). */
+    public int estimateAnalysisTokens(String articleBody) {
+        return TokenEstimator.estimateChat(SYSTEM_PROMPT, articleBody, analysisCompletionTokens);
+    }
+
+    /** 기사 분석 요청 본문. 실시간 호출과 Batch API(JSONL)가 같은 프롬프트를 쓰도록 한 곳에서 만든다. */
+    public OpenAIDto.ChatRequest analysisRequest(String articleBody, String model) {
+        return new OpenAIDto.ChatRequest(
+                model,
+                SYSTEM_PROMPT,     // 시스템 프롬프트
+                articleBody,       // 기사 본문
+                true               // JSON 모드 활성화 (모델이 JSON으로만 답하게)
+        );
+    }
+
+    /** 모델 응답 content(JSON 문자열) → 분석 결과. */
+    public OpenAIDto.AnalysisResponse parseAnalysis(String jsonContent) throws JsonProcessingException {
+        return objectMapper.readValue(jsonContent, OpenAIDto.AnalysisResponse.class);
+    }
+
+    /**
+     * 공유 rate limiter로 RPM·TPM을 예약한 뒤 chat completion을 호출한다.
+     * 응답 헤더(x-ratelimit-*)로 버킷을 보정하고, usage로 예상 토큰 오차를 정산한다.
+     */
+    private JsonNode postChat(String model, HttpEntity<String> entity, int estimatedTokens) throws Exception {
+        rateLimiter.acquire(model, estimatedTokens);
+        ResponseEntity<String> response;
+        try {
+            response = restTemplate.exchange(chatUrl(), HttpMethod.POST, entity, String.class);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            rateLimiter.onRateLimited(model, e.getResponseHeaders());
+            throw e;
+        }
+        rateLimiter.onResponse(model, response.getHeaders());
+
+        JsonNode root = objectMapper.readTree(response.getBody());
+        rateLimiter.settle(model, estimatedTokens, root.path("usage").path("total_tokens").asInt(0));
+        return root;
+    }
+
+    private String chatUrl() {
+        return baseUrl + "/chat/completions";
+    }
 }
@@ -0,0 +1,188 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OpenAI Batch API 클라이언트 (지연 허용 작업용: 정기 수집·DLQ 재처리).
+ *
+ * <p>요청들을 JSONL 파일로 써서 /files 로 업로드하고 /batches 로 제출한 뒤, 완료될 때까지 폴링해
+ * 결과 파일을 내려받는다. 동기 호출 대비 단가가 절반이고 rate limit도 별도 한도라, 실시간 경로의
+ * 한도 여유를 잡아먹지 않는다. base URL을 외부화해 테스트에서는 로컬 대역 서버를 가리킨다.
+ */
+@Slf4j
+@Component
+public class OpenAiBatchClient {
+
+    private static final Set<String> TERMINAL = Set.of("completed", "failed", "expired", "cancelled");
+
+    @Value("${openai.api.key}")
+    private String apiKey;
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${openai.api.base-url:https://api.openai.com/v1}")
+    private String baseUrl = "https://api.openai.com/v1";
+
+    private final RestTemplate restTemplate;   // 멘토 #5: 타임아웃 설정된 외부 API 전용 RestTemplate 주입
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public OpenAiBatchClient(RestTemplate openAiRestTemplate) {
+        this.restTemplate = openAiRestTemplate;
+    }
+
+    /** 배치 상태. output/error 파일은 완료(또는 만료·취소 시 부분 결과) 후에만 채워진다. */
+    public record BatchStatus(String id, String status, String outputFileId, String errorFileId) {
+        public boolean isTerminal() {
+            return TERMINAL.contains(status);
+        }
+    }
+
+    /**
+     * 요청 본문들을 JSONL로 업로드하고 배치를 제출한다.
+     *
+     * @param endpoint         배치 대상 엔드포인트 (예: /v1/chat/completions)
+     * @param bodiesByCustomId custom_id → 요청 본문(JSON 직렬화 가능 객체)
+     * @return 배치 ID
+     */
+    public String submit(String endpoint, Map<String, ?> bodiesByCustomId) throws IOException {
+        Path jsonl = Files.createTempFile("openai-batch-", ".jsonl");
+        try {
+            try (BufferedWriter w = Files.newBufferedWriter(jsonl, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, ?> e : bodiesByCustomId.entrySet()) {
+                    ObjectNode line = objectMapper.createObjectNode();
+                    line.put("custom_id", e.getKey());
+                    line.put("method", "POST");
+                    line.put("url", endpoint);
+                    line.set("body", objectMapper.valueToTree(e.getValue()));
+                    w.write(objectMapper.writeValueAsString(line));
+                    w.newLine();
+                }
+            }
+
+            String fileId = uploadBatchFile(jsonl);
+
+            ObjectNode req = objectMapper.createObjectNode();
+            req.put("input_file_id", fileId);
+            req.put("endpoint", endpoint);
+            req.put("completion_window", "24h");
+            JsonNode batch = exchange(HttpMethod.POST, "/batches", jsonEntity(req));
+            String batchId = batch.path("id").asText();
+            log.info("📦 OpenAI Batch 제출: id={}, 요청 {}건", batchId, bodiesByCustomId.size());
+            return batchId;
+        } finally {
+            Files.deleteIfExists(jsonl);
+        }
+    }
+
+    public BatchStatus status(String batchId) {
+        JsonNode b = exchange(HttpMethod.GET, "/batches/" + batchId, new HttpEntity<>(authHeaders()));
+        return new BatchStatus(b.path("id").asText(batchId), b.path("status").asText(),
+                textOrNull(b, "output_file_id"), textOrNull(b, "error_file_id"));
+    }
+
+    public void cancel(String batchId) {
+        try {
+            exchange(HttpMethod.POST, "/batches/" + batchId + "/cancel", new HttpEntity<>(authHeaders()));
+        } catch (Exception e) {
+            log.warn("Batch 취소 실패 id={}: {}", batchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 상태(completed·failed·expired·cancelled)가 될 때까지 폴링한다.
+     * timeout을 넘기면 배치를 취소하고 마지막 상태를 돌려준다(취소 전 끝난 요청은 부분 결과로 남는다).
+     * 호출 스레드를 길게 막으므로 스케줄러 스레드에서 직접 부르지 않는다 (batchPipelineExecutor 전용).
+     */
+    public BatchStatus await(String batchId, Duration pollInterval, Duration timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        BatchStatus st = status(batchId);
+        while (!st.isTerminal()) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("⏱️ Batch {} 대기 시간 초과({}), 취소 요청", batchId, timeout);
+                cancel(batchId);
+                return status(batchId);
+            }
+            Thread.sleep(pollInterval.toMillis());
+            st = status(batchId);
+        }
+        log.info("📦 OpenAI Batch 종료: id={}, status={}", batchId, st.status());
+        return st;
+    }
+
+    /** 결과 파일을 내려받아 성공(HTTP 200)한 요청만 custom_id → 응답 본문으로 돌려준다. */
+    public Map<String, JsonNode> downloadResults(String outputFileId) throws IOException {
+        String content = restTemplate.exchange(baseUrl + "/files/" + outputFileId + "/content",
+                HttpMethod.GET, new HttpEntity<>(authHeaders()), String.class).getBody();
+        Map<String, JsonNode> results = new HashMap<>();
+        if (content == null) return results;
+        for (String line : content.split("\n")) {
+            if (line.isBlank()) continue;
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode response = node.path("response");
+            if (response.path("status_code").asInt() == 200) {
+                results.put(node.path("custom_id").asText(), response.path("body"));
+            } else {
+                log.warn("Batch 요청 실패 custom_id={}: {}", node.path("custom_id").asText(), node.path("error"));
+            }
+        }
+        return results;
+    }
+
+    private String uploadBatchFile(Path jsonl) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        form.add("purpose", "batch");
+        form.add("file", new FileSystemResource(jsonl));
+        HttpHeaders headers = authHeaders();
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+        JsonNode file = exchange(HttpMethod.POST, "/files", new HttpEntity<>(form, headers));
+        return file.path("id").asText();
+    }
+
+    private HttpEntity<String> jsonEntity(JsonNode body) throws IOException {
+        HttpHeaders headers = authHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(objectMapper.writeValueAsString(body), headers);
+    }
+
+    private JsonNode exchange(HttpMethod method, String path, HttpEntity<?> entity) {
+        String body = restTemplate.exchange(baseUrl + path, method, entity, String.class).getBody();
+        try {
+            return objectMapper.readTree(body == null ? "{}" : body);
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI Batch 응답 파싱 실패: " + path, e);
+        }
+    }
+
+    private HttpHeaders authHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(apiKey);
+        return headers;
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        JsonNode v = node.path(field);
+        return v.isMissingNode() || v.isNull() || v.asText().isBlank() ? null : v.asText();
+    }
+}
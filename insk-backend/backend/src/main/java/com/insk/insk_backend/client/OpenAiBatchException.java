@@ -0,0 +1,11 @@
+package com.insk.insk_backend.client;
+
+/**
+ * OpenAI Batch가 통째로 결과 없이 끝났음을 나타내는 예외 (업로드·제출 실패, 실패·만료·취소, 대기 시간 초과).
+ * 항목 단위 실패와 구분해, 호출부가 장애 한 번에 DLQ 기사마다 재처리 횟수를 소모하지 않게 한다.
+ */
+public class OpenAiBatchException extends RuntimeException {
+    public OpenAiBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
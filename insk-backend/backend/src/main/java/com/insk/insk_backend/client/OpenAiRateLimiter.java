@@ -0,0 +1,206 @@
+package com.insk.insk_backend.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파이프라인 전체가 공유하는 OpenAI 클라이언트 측 rate limiter (모델별 RPM·TPM 버킷).
+ *
+ * <p>기존에는 기사 처리 스레드(최대 8)가 각자 호출하고, 429를 맞으면 @Retryable 지수 백오프로
+ * 기사당 최대 30초를 허비했다. 이제 호출 전에 요청 1건과 예상 토큰을 버킷에서 <b>예약</b>하고,
+ * 잔량이 모자라면 그만큼 기다렸다가 보낸다 — 거절·재시도 대신 대기열로 흡수한다.
+ *
+ * <p>버킷은 1분에 한도만큼 연속 충전되는 token bucket이다. 예약은 잔량을 음수(빚)까지 깎을 수 있고
+ * 빚이 갚아질 때까지의 시간이 대기 시간이 되므로, 동시 호출이 들어온 순서대로 간격을 두고 풀린다.
+ * 한도는 설정 기본값으로 시작해 응답의 {@code x-ratelimit-*} 헤더(limit·remaining·reset)로 맞춘다.
+ */
+@Slf4j
+@Component
+public class OpenAiRateLimiter {
+
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${openai.rate-limit.default-rpm:500}")
+    private long defaultRpm = 500;
+
+    @Value("${openai.rate-limit.default-tpm:30000}")
+    private long defaultTpm = 30000;
+
+    /** 이보다 오래 기다려야 하면 대기를 끊고 보낸다(서버 429 → 재시도 경로). 스레드 무기한 점유 방지. */
+    @Value("${openai.rate-limit.max-wait-ms:60000}")
+    private long maxWaitMs = 60000;
+
+    private final Map<String, Buckets> buckets = new ConcurrentHashMap<>();
+
+    /** 요청 1건 + 토큰을 예약하고, 필요한 만큼 기다린다. */
+    public void acquire(String model, int estimatedTokens) {
+        long waitMs = delayFor(model, estimatedTokens).toMillis();
+        if (waitMs <= 0) return;
+        try {
+            Thread.sleep(waitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 예약하고 기다려야 할 시간을 돌려준다(스레드를 재우지 않는다). 리액티브 호출부는 이 값으로
+     * {@code Mono.delay}를 건다. 상한(max-wait-ms)을 넘으면 0 — 대기 없이 보내고 서버 429에 맡긴다.
+     */
+    public Duration delayFor(String model, int estimatedTokens) {
+        long waitMs = reserve(model, estimatedTokens);
+        if (waitMs <= 0) return Duration.ZERO;
+        if (waitMs > maxWaitMs) {
+            log.warn("[RateLimit] model={} 예상 대기 {}ms > 상한 {}ms, 대기 없이 전송", model, waitMs, maxWaitMs);
+            return Duration.ZERO;
+        }
+        log.debug("[RateLimit] model={} tokens={} {}ms 대기", model, estimatedTokens, waitMs);
+        return Duration.ofMillis(waitMs);
+    }
+
+    /** 예약만 하고 대기해야 할 시간(ms)을 돌려준다. 0이면 즉시 보내도 된다. */
+    public long reserve(String model, int estimatedTokens) {
+        Buckets b = bucketsFor(model);
+        long now = System.currentTimeMillis();
+        synchronized (b) {
+            long wait = Math.max(b.requests.take(1, now), b.tokens.take(estimatedTokens, now));
+            return Math.max(wait, b.blockedUntil - now);
+        }
+    }
+
+    /** 응답 usage로 예약 오차를 보정한다(예상보다 적게 썼으면 돌려주고, 많이 썼으면 더 깎는다). */
+    public void settle(String model, int estimatedTokens, int actualTokens) {
+        if (actualTokens <= 0) return;
+        Buckets b = bucketsFor(model);
+        synchronized (b) {
+            b.tokens.give(estimatedTokens - actualTokens, System.currentTimeMillis());
+        }
+    }
+
+    /** 응답 헤더(x-ratelimit-*)로 한도·잔량을 서버 값에 맞춘다. 헤더가 없으면 무시. */
+    public void onResponse(String model, HttpHeaders headers) {
+        if (headers == null) return;
+        Buckets b = bucketsFor(model);
+        long now = System.currentTimeMillis();
+        synchronized (b) {
+            b.requests.sync(
+                    parseLong(headers.getFirst("x-ratelimit-limit-requests")),
+                    parseLong(headers.getFirst("x-ratelimit-remaining-requests")), now);
+            b.tokens.sync(
+                    parseLong(headers.getFirst("x-ratelimit-limit-tokens")),
+                    parseLong(headers.getFirst("x-ratelimit-remaining-tokens")), now);
+        }
+    }
+
+    /** 429 수신: 서버가 알려준 reset 시각까지 해당 모델의 새 예약을 모두 뒤로 민다. */
+    public void onRateLimited(String model, HttpHeaders headers) {
+        Buckets b = bucketsFor(model);
+        long resetMs = 1000;
+        if (headers != null) {
+            resetMs = Math.max(
+                    parseDurationMs(headers.getFirst("x-ratelimit-reset-requests")),
+                    parseDurationMs(headers.getFirst("x-ratelimit-reset-tokens")));
+            if (resetMs <= 0) resetMs = 1000;
+        }
+        synchronized (b) {
+            b.blockedUntil = Math.max(b.blockedUntil, System.currentTimeMillis() + resetMs);
+        }
+        log.warn("[RateLimit] model={} 429 수신, {}ms 동안 예약 보류", model, resetMs);
+    }
+
+    private Buckets bucketsFor(String model) {
+        return buckets.computeIfAbsent(model == null ? "default" : model,
+                m -> new Buckets(defaultRpm, defaultTpm));
+    }
+
+    private static long parseLong(String v) {
+        if (v == null || v.isBlank()) return -1;
+        try {
+            return Long.parseLong(v.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** OpenAI reset 헤더 형식("20ms", "1s", "6m0s", "1h2m3.5s")을 ms로. */
+    static long parseDurationMs(String v) {
+        if (v == null || v.isBlank()) return 0;
+        Matcher m = DURATION_PART.matcher(v.trim());
+        double total = 0;
+        while (m.find()) {
+            double n = Double.parseDouble(m.group(1));
+            switch (m.group(2)) {
+                case "h" -> total += n * 3_600_000;
+                case "m" -> total += n * 60_000;
+                case "s" -> total += n * 1000;
+                default -> total += n;
+            }
+        }
+        return (long) Math.ceil(total);
+    }
+
+    private static final class Buckets {
+        private final Bucket requests;
+        private final Bucket tokens;
+        private long blockedUntil;
+
+        private Buckets(long rpm, long tpm) {
+            this.requests = new Bucket(rpm);
+            this.tokens = new Bucket(tpm);
+        }
+    }
+
+    /** 분당 limit만큼 연속 충전되는 버킷. available은 음수(예약 빚)가 될 수 있다. */
+    static final class Bucket {
+        private long limitPerMinute;
+        private double available;
+        private long lastRefill;
+
+        Bucket(long limitPerMinute) {
+            this.limitPerMinute = limitPerMinute;
+            this.available = limitPerMinute;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        /** amount만큼 예약하고, 빚이 생겼다면 갚아질 때까지의 ms를 돌려준다. */
+        long take(long amount, long now) {
+            refill(now);
+            available -= amount;
+            if (available >= 0) return 0;
+            return (long) Math.ceil(-available / ratePerMs());
+        }
+
+        void give(long amount, long now) {
+            refill(now);
+            available = Math.min(limitPerMinute, available + amount);
+        }
+
+        /** 서버 한도로 교체하고, 서버 잔량이 더 적으면 그 값으로 낮춘다(다른 인스턴스 사용분 반영). */
+        void sync(long serverLimit, long serverRemaining, long now) {
+            refill(now);
+            if (serverLimit > 0) limitPerMinute = serverLimit;
+            if (serverRemaining >= 0 && serverRemaining < available) available = serverRemaining;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                available = Math.min(limitPerMinute, available + elapsed * ratePerMs());
+                lastRefill = now;
+            }
+        }
+
+        private double ratePerMs() {
+            return limitPerMinute / 60_000.0;
+        }
+    }
+}
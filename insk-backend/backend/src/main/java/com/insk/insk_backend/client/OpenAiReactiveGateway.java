@@ -0,0 +1,206 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.insk.insk_backend.dto.OpenAIDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI 논블로킹 게이트웨이 (분석·임베딩·채팅).
+ * 정기 수집·DLQ의 Batch 누락분 재분석과 임베딩 fan-out(NewsPipelineService.analyzeDeferred),
+ * 키워드 추천(KeywordAiClient)이 쓴다.
+ *
+ * <p>블로킹 클라이언트({@link OpenAIClient}·{@link EmbeddingClient})는 호출 1건이 스레드 1개를 응답까지 붙잡아
+ * 동시 호출 수가 pipelineItemExecutor 크기(최대 8)에 묶인다. 여기서는 공유 Reactor Netty 풀
+ * ({@code openAiWebClient})로 보내고 스레드를 재우지 않으므로 이벤트 루프 몇 개로 수백 건을 동시에 띄울 수 있다.
+ * rate limiter 대기도 {@code Mono.delay}로 건다.
+ *
+ * <p>분석의 재시도·폴백은 {@code LlmAnalysisService}와 같다: {@link OpenAiAnalysisException}에 대해
+ * 최대 5회(openai.retry.*) 지수 백오프(1s→2s→4s…, 최대 30s, jitter) 후 폴백 모델로 1회.
+ * 대기 시간도 같은 모양이다: delay × multiplier^n(최대 max-delay)에서 그 multiplier배 사이의 임의 값. 프롬프트·요청 본문·응답 파싱은
+ * {@link OpenAIClient}와 공유해 실시간·Batch·리액티브 경로가 같은 결과를 낸다.
+ */
+@Slf4j
+@Component
+public class OpenAiReactiveGateway {
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${openai.model.analysis:gpt-4o}")
+    private String analysisModel = "gpt-4o";
+
+    @Value("${openai.model.analysis-fallback:gpt-4o-mini}")
+    private String fallbackModel = "gpt-4o-mini";
+
+    @Value("${openai.model.embedding:text-embedding-3-small}")
+    private String embeddingModel = "text-embedding-3-small";
+
+    @Value("${openai.retry.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${openai.retry.delay-ms:1000}")
+    private long retryDelayMs = 1000;
+
+    @Value("${openai.retry.max-delay-ms:30000}")
+    private long retryMaxDelayMs = 30000;
+
+    @Value("${openai.retry.multiplier:2.0}")
+    private double retryMultiplier = 2.0;
+
+    /** 임베딩 입력 상한 (EmbeddingClient와 동일). */
+    private static final int MAX_EMBEDDING_CHARS = 6000;
+
+    private final WebClient webClient;
+    private final OpenAIClient openAIClient;
+    private final OpenAiRateLimiter rateLimiter;
+
+    public OpenAiReactiveGateway(WebClient openAiWebClient, OpenAIClient openAIClient, OpenAiRateLimiter rateLimiter) {
+        this.webClient = openAiWebClient;
+        this.openAIClient = openAIClient;
+        this.rateLimiter = rateLimiter;
+    }
+
+    // ----------------------------------------------------
+    // 분석
+    // ----------------------------------------------------
+
+    /** 주 모델로 분석 → 재시도 모두 실패하면 폴백 모델 1회. 폴백도 실패하면 에러 시그널(→ 호출부 DLQ). */
+    public Mono<OpenAIDto.AnalysisResponse> analyze(String body) {
+        return analyzeWith(body, analysisModel)
+                .retryWhen(retrySpec())
+                .onErrorResume(OpenAiAnalysisException.class, e -> {
+                    log.warn("주 모델({}) 재시도 모두 실패 → 폴백 모델({}) 시도: {}", analysisModel, fallbackModel, e.getMessage());
+                    return analyzeWith(body, fallbackModel);
+                });
+    }
+
+    /**
+     * 여러 기사를 최대 {@code concurrency}건씩 동시에 분석한다.
+     * BatchAnalysisService.analyzeAll과 같은 계약: 실패한 항목은 결과 맵에서 빠진다.
+     */
+    public Mono<Map<String, OpenAIDto.AnalysisResponse>> analyzeAll(Map<String, String> bodiesById, int concurrency) {
+        return Flux.fromIterable(bodiesById.entrySet())
+                .flatMap(e -> analyze(e.getValue())
+                                .map(ar -> Map.entry(e.getKey(), ar))
+                                .onErrorResume(ex -> {
+                                    log.warn("분석 실패 id={}: {}", e.getKey(), ex.getMessage());
+                                    return Mono.empty();
+                                }),
+                        concurrency)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /** 모델 1회 호출 (재시도·폴백 없음). */
+    public Mono<OpenAIDto.AnalysisResponse> analyzeWith(String body, String model) {
+        return chatCompletion(model, openAIClient.analysisRequest(body, model), openAIClient.estimateAnalysisTokens(body))
+                .map(content -> {
+                    try {
+                        OpenAIDto.AnalysisResponse ar = openAIClient.parseAnalysis(content);
+                        ar.setModel(model);   // 폴백 결과가 주 모델 결과로 캐시되지 않도록 (AnalysisCacheService.put)
+                        return ar;
+                    } catch (Exception e) {
+                        throw new OpenAiAnalysisException("OpenAI 분석 응답 파싱 실패 (model=" + model + "): " + e.getMessage(), e);
+                    }
+                })
+                .onErrorMap(e -> !(e instanceof OpenAiAnalysisException),
+                        e -> new OpenAiAnalysisException("OpenAI 분석 실패 (model=" + model + "): " + e.getMessage(), e));
+    }
+
+    // ----------------------------------------------------
+    // 채팅
+    // ----------------------------------------------------
+
+    /** 일반 chat completion → 응답 content. */
+    public Mono<String> chat(String model, String systemPrompt, String userContent, boolean jsonMode) {
+        OpenAIDto.ChatRequest request = new OpenAIDto.ChatRequest(model, systemPrompt, userContent, jsonMode);
+        return chatCompletion(model, request, TokenEstimator.estimateChat(systemPrompt, userContent, 256));
+    }
+
+    // ----------------------------------------------------
+    // 임베딩
+    // ----------------------------------------------------
+
+    public Mono<List<Double>> embed(String text) {
+        String input = text != null && text.length() > MAX_EMBEDDING_CHARS ? text.substring(0, MAX_EMBEDDING_CHARS) : text;
+        int estimated = TokenEstimator.estimate(input);
+        return reserve(embeddingModel, estimated)
+                .then(Mono.defer(() -> webClient.post()
+                        .uri("/embeddings")
+                        .bodyValue(new EmbeddingClient.EmbeddingRequest(embeddingModel, input))
+                        .exchangeToMono(res -> readBody(res, embeddingModel, EmbeddingClient.EmbeddingResponse.class))))
+                .map(res -> {
+                    if (res.getUsage() != null) {
+                        rateLimiter.settle(embeddingModel, estimated, res.getUsage().getTotalTokens());
+                    }
+                    return res.getData().get(0).getEmbedding();
+                });
+    }
+
+    // ----------------------------------------------------
+    // 공통
+    // ----------------------------------------------------
+
+    private Mono<String> chatCompletion(String model, Object request, int estimatedTokens) {
+        return reserve(model, estimatedTokens)
+                .then(Mono.defer(() -> webClient.post()
+                        .uri("/chat/completions")
+                        .bodyValue(request)
+                        .exchangeToMono(res -> readBody(res, model, JsonNode.class))))
+                .map(root -> {
+                    rateLimiter.settle(model, estimatedTokens, root.path("usage").path("total_tokens").asInt(0));
+                    return root.path("choices").path(0).path("message").path("content").asText();
+                });
+    }
+
+    /** 응답 헤더로 rate limiter를 보정하고, 4xx·5xx는 WebClientResponseException으로 돌려준다. */
+    private <T> Mono<T> readBody(ClientResponse res, String model, Class<T> type) {
+        HttpHeaders headers = res.headers().asHttpHeaders();
+        if (res.statusCode().value() == 429) {
+            rateLimiter.onRateLimited(model, headers);
+        } else {
+            rateLimiter.onResponse(model, headers);
+        }
+        if (res.statusCode().isError()) return res.createError();
+        return res.bodyToMono(type);
+    }
+
+    /** 구독(=시도)할 때마다 예약한다. 재시도도 예약을 다시 거친다(블로킹 경로의 acquire와 동일). */
+    private Mono<Void> reserve(String model, int estimatedTokens) {
+        return Mono.defer(() -> {
+            Duration delay = rateLimiter.delayFor(model, estimatedTokens);
+            return delay.isZero() ? Mono.<Void>empty() : Mono.delay(delay).then();
+        });
+    }
+
+    /** OpenAiAnalysisException만 (maxAttempts - 1)회 재시도한다. 소진되면 마지막 예외를 그대로 흘린다. */
+    private Retry retrySpec() {
+        long maxRetries = Math.max(0, maxAttempts - 1);
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            if (!(signal.failure() instanceof OpenAiAnalysisException) || signal.totalRetries() >= maxRetries) {
+                return Mono.error(signal.failure());
+            }
+            return Mono.delay(backoff(signal.totalRetries()));
+        }));
+    }
+
+    /**
+     * n번째(0부터) 재시도 전 대기. @Backoff(random = true)의 ExponentialRandomBackOffPolicy와 같이
+     * delay × multiplier^n을 max-delay로 자른 값에서 그 multiplier배 사이를 고른다(다시 max-delay로 자름).
+     */
+    Duration backoff(long retry) {
+        double base = Math.min(retryMaxDelayMs, retryDelayMs * Math.pow(retryMultiplier, retry));
+        double jittered = base + base * (retryMultiplier - 1) * ThreadLocalRandom.current().nextDouble();
+        return Duration.ofMillis((long) Math.min(retryMaxDelayMs, jittered));
+    }
+}
@@ -2,6 +2,7 @@ package com.insk.insk_backend.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
@@ -9,14 +10,16 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * 멘토 피드백 #1: 임베딩 유사도 검색을 MySQL JSON brute-force가 아니라
@@ -24,87 +27,381 @@ import java.util.Map;
  *
  * <p>Qdrant REST API로 컬렉션 보장 / 벡터 upsert / KNN(Top-K) 검색을 수행한다.
  * 메타데이터(기사 본문 등)는 MySQL에 두고, 벡터만 Qdrant에 둔다.
+ *
+ * <p>양자화(qdrant.quantization.mode): scalar(기본, int8 — 벡터 메모리 1/4)·product(PQ, x16 등 더 큰 압축)·none.
+ * 양자화를 켜면 float 원본은 디스크(on_disk)에 두고 RAM에는 양자화 벡터만 올린다. 검색은 양자화 벡터로
+ * limit×oversampling개를 뽑은 뒤 원본으로 다시 채점(rescore)해 recall 손실을 메운다.
+ *
+ * <p>점 조회·쓰기는 별칭(qdrant.alias)으로 한다. 색인 차원을 바꿀 때는 새 컬렉션을 만들어 채운 뒤 별칭만
+ * 원자적으로 옮긴다(blue/green, VectorReindexService). 입력 벡터는 활성 컬렉션 차원으로 잘라 쓰므로
+ * 호출부는 항상 저장된 전체 임베딩을 넘기면 된다 ({@link EmbeddingClient#shorten}).
+ *
+ * <p>별칭 전환은 다른 인스턴스에서 일어날 수 있으므로, 별칭이 가리키는 컬렉션·차원은 qdrant.alias-refresh-ms마다
+ * 다시 확인하고, Qdrant가 차원 오류(400)를 돌려주면 즉시 다시 확인해 한 번 재시도한다.
  */
 @Slf4j
 @Component
-public class QdrantClient {
+public class QdrantClient implements VectorIndex {
 
     private final String baseUrl;
     private final String collection;
     private final RestTemplate rest;
     private final ObjectMapper om = new ObjectMapper();
 
+    private final RequestHedger searchHedger;   // null이면 헤징 끔
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${qdrant.quantization.mode:scalar}")
+    private String quantizationMode = "scalar";
+
+    /** PQ 압축률 (x4/x8/x16/x32/x64). 1536차원 x16 = 벡터당 384B. */
+    @Value("${qdrant.quantization.product-compression:x16}")
+    private String productCompression = "x16";
+
+    @Value("${qdrant.quantization.oversampling:2.0}")
+    private double oversampling = 2.0;
+
+    @Value("${qdrant.quantization.rescore:true}")
+    private boolean rescore = true;
+
+    /** 서비스가 바라보는 별칭. 실제 컬렉션(qdrant.collection, 재색인 후 articles_d512_...)을 가리킨다. */
+    @Value("${qdrant.alias:articles_live}")
+    private String alias = "articles_live";
+
+    /** 별칭이 가리키는 컬렉션·차원을 다시 확인하는 주기 (다른 인스턴스의 재색인 전환을 따라간다). */
+    @Value("${qdrant.alias-refresh-ms:30000}")
+    private long aliasRefreshMs = 30000;
+
+    // 별칭이 확인·생성되기 전(기동 시 Qdrant 미가동)에는 qdrant.collection을 직접 쓴다.
+    private volatile boolean aliasReady;
+    private volatile long aliasCheckedAtNanos;
+    private volatile String activeCollection;
+    private volatile int dimension;         // 활성 컬렉션 벡터 차원 (0 = 모름, 자르지 않음)
+    private volatile Shadow shadow;         // 재색인 중 새 컬렉션 이중 쓰기
+
+    private record Shadow(String collection, int dimension) {
+    }
+
     public QdrantClient(
+            RestTemplate qdrantRestTemplate,   // 전용 커넥션 풀 (연결 3초·읽기 10초, RestTemplateConfig)
+            Executor qdrantHedgeExecutor,
+            MeterRegistry meterRegistry,
             @Value("${qdrant.host:localhost}") String host,
             @Value("${qdrant.port:6333}") int port,
-            @Value("${qdrant.collection:articles}") String collection) {
+            @Value("${qdrant.collection:articles}") String collection,
+            @Value("${qdrant.hedge.enabled:true}") boolean hedgeEnabled,
+            @Value("${qdrant.hedge.percentile:0.95}") double hedgePercentile,
+            @Value("${qdrant.hedge.initial-delay-ms:150}") long hedgeInitialDelayMs,
+            @Value("${qdrant.hedge.budget-ratio:0.1}") double hedgeBudgetRatio) {
         this.baseUrl = "http://" + host + ":" + port;
         this.collection = collection;
-        SimpleClientHttpRequestFactory f = new SimpleClientHttpRequestFactory();
-        f.setConnectTimeout(Duration.ofSeconds(3));
-        f.setReadTimeout(Duration.ofSeconds(10));
-        this.rest = new RestTemplate(f);
+        this.rest = qdrantRestTemplate;
+        this.searchHedger = hedgeEnabled
+                ? new RequestHedger("qdrant", qdrantHedgeExecutor, meterRegistry, new RequestHedger.Settings(
+                        hedgePercentile, Duration.ofMillis(hedgeInitialDelayMs),
+                        Duration.ofMillis(5), Duration.ofSeconds(5), 50, hedgeBudgetRatio, 10))
+                : null;
     }
 
-    /** 컬렉션이 없으면 생성(벡터 차원 + Cosine 거리). 멱등. */
+    /**
+     * 별칭이 이미 있으면 그 컬렉션을 활성으로 쓴다(차원은 Qdrant에 있는 값이 기준 — 설정과 다르면 경고만).
+     * 없으면 qdrant.collection을 만들고(벡터 차원 + Cosine 거리 + 양자화 설정) 별칭을 건다. 멱등.
+     */
+    @Override
     public void ensureCollection(int vectorSize) {
+        String current = resolveAlias();
+        if (current != null) {
+            activeCollection = current;
+            aliasReady = true;
+            aliasCheckedAtNanos = System.nanoTime();
+            dimension = vectorSizeOf(current, vectorSize);
+            if (dimension != vectorSize) {
+                log.warn("Qdrant 활성 컬렉션 {} 차원 {} ≠ 설정 {}: 재색인(POST /api/v1/admin/vector-index/reindex) 전까지 {}차원으로 검색",
+                        current, dimension, vectorSize, dimension);
+            }
+            syncQuantization(current);
+            return;
+        }
+        try {
+            createCollection(collection, vectorSize);
+        } catch (Exception e) {
+            log.warn("Qdrant 컬렉션 생성 실패(이미 존재 가능): {}", e.getMessage());
+        }
+        dimension = vectorSizeOf(collection, vectorSize);
+        activeCollection = collection;
+        try {
+            switchAlias(collection, dimension);
+        } catch (Exception e) {
+            log.warn("Qdrant 별칭 {} 생성 실패 — 컬렉션 {}을 직접 사용: {}", alias, collection, e.getMessage());
+        }
+    }
+
+    /**
+     * 컬렉션이 없으면 생성, 있으면 양자화 설정·on_disk만 맞춘다(바뀐 경우에만 PATCH — Qdrant가 백그라운드에서 다시 양자화한다).
+     * 생성 실패는 예외로 알린다(재색인 중단).
+     */
+    public void createCollection(String name, int vectorSize) throws Exception {
         try {
             ResponseEntity<String> exists = rest.getForEntity(
-                    baseUrl + "/collections/" + collection + "/exists", String.class);
+                    baseUrl + "/collections/" + name + "/exists", String.class);
             if (om.readTree(exists.getBody()).path("result").path("exists").asBoolean(false)) {
+                syncQuantization(name);
                 return;
             }
         } catch (Exception ignore) {
             // 조회 실패 시 미존재로 간주하고 생성 시도
         }
-        try {
-            Map<String, Object> body = Map.of(
-                    "vectors", Map.of("size", vectorSize, "distance", "Cosine"));
-            rest.exchange(baseUrl + "/collections/" + collection,
-                    HttpMethod.PUT, jsonEntity(body), String.class);
-            log.info("Qdrant 컬렉션 생성: {} (dim={}, Cosine)", collection, vectorSize);
-        } catch (Exception e) {
-            log.warn("Qdrant 컬렉션 생성 실패(이미 존재 가능): {}", e.getMessage());
+        Map<String, Object> vectors = new LinkedHashMap<>();
+        vectors.put("size", vectorSize);
+        vectors.put("distance", "Cosine");
+        Map<String, Object> body = new LinkedHashMap<>();
+        Map<String, Object> quantization = quantizationConfig();
+        if (quantization != null) {
+            vectors.put("on_disk", true);   // 원본은 rescore 때만 읽는다
+            body.put("quantization_config", quantization);
+        }
+        body.put("vectors", vectors);
+        rest.exchange(baseUrl + "/collections/" + name,
+                HttpMethod.PUT, jsonEntity(body), String.class);
+        log.info("Qdrant 컬렉션 생성: {} (dim={}, Cosine, quantization={})", name, vectorSize, quantizationMode);
+    }
+
+    /**
+     * 별칭을 collectionName으로 옮긴다. 삭제·생성을 한 요청의 actions로 보내 Qdrant가 원자적으로 적용하므로
+     * 검색이 빈 별칭을 보는 순간이 없다. 실패는 예외로 알린다(기존 별칭 유지).
+     */
+    public void switchAlias(String collectionName, int vectorSize) throws Exception {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        String current = resolveAlias();
+        if (collectionName.equals(current)) {
+            actions = List.of();
+        } else {
+            if (current != null) actions.add(Map.of("delete_alias", Map.of("alias_name", alias)));
+            actions.add(Map.of("create_alias", Map.of("collection_name", collectionName, "alias_name", alias)));
+        }
+        if (!actions.isEmpty()) {
+            rest.postForEntity(baseUrl + "/collections/aliases", jsonEntity(Map.of("actions", actions)), String.class);
+            log.info("Qdrant 별칭 {}: {} → {} (dim={})", alias, current, collectionName, vectorSize);
+        }
+        activeCollection = collectionName;
+        dimension = vectorSize;
+        aliasReady = true;
+        aliasCheckedAtNanos = System.nanoTime();
+    }
+
+    /** 재색인 동안 새 기사 벡터를 새 컬렉션에도 쓴다 (백필이 끝난 뒤 들어온 기사가 빠지지 않게). null이면 중지. */
+    public void shadowWritesTo(String collectionName, int vectorSize) {
+        this.shadow = collectionName == null ? null : new Shadow(collectionName, vectorSize);
+    }
+
+    /** 여러 점을 한 번에 upsert (재색인 백필). 벡터는 호출부가 대상 차원으로 맞춰 넘긴다. 실패는 예외. */
+    public void upsertBatch(String collectionName, Map<Long, List<Double>> vectors) throws Exception {
+        List<Map<String, Object>> points = new ArrayList<>(vectors.size());
+        vectors.forEach((id, v) -> points.add(Map.of("id", id, "vector", v)));
+        rest.exchange(baseUrl + "/collections/" + collectionName + "/points?wait=true",
+                HttpMethod.PUT, jsonEntity(Map.of("points", points)), String.class);
+    }
+
+    /** 모든 컬렉션 이름. 실패는 예외. */
+    public List<String> listCollections() throws Exception {
+        ResponseEntity<String> resp = rest.getForEntity(baseUrl + "/collections", String.class);
+        List<String> names = new ArrayList<>();
+        for (JsonNode c : om.readTree(resp.getBody()).path("result").path("collections")) {
+            names.add(c.path("name").asText());
         }
+        return names;
+    }
+
+    /** 컬렉션 삭제. 별칭이 가리키는 컬렉션은 지우지 않는다(호출부 책임). 실패는 예외. */
+    public void deleteCollection(String name) {
+        rest.exchange(baseUrl + "/collections/" + name, HttpMethod.DELETE, null, String.class);
+    }
+
+    public String activeCollection() {
+        return activeCollection;
+    }
+
+    public int dimension() {
+        return dimension;
     }
 
-    /** 기사 벡터 upsert (point id = articleId). */
+    /** 기사 벡터 upsert (point id = articleId). 활성 컬렉션 차원으로 잘라 쓴다. */
+    @Override
     public void upsert(long articleId, List<Double> vector) {
+        refreshAliasIfStale();
         try {
-            Map<String, Object> body = Map.of(
-                    "points", List.of(Map.of("id", articleId, "vector", vector)));
-            rest.exchange(baseUrl + "/collections/" + collection + "/points?wait=true",
-                    HttpMethod.PUT, jsonEntity(body), String.class);
+            try {
+                doUpsert(articleId, vector);
+            } catch (HttpClientErrorException e) {
+                if (!isDimensionError(e)) throw e;
+                refreshAlias();   // 다른 인스턴스가 별칭을 다른 차원 컬렉션으로 옮겼다
+                doUpsert(articleId, vector);
+            }
         } catch (Exception e) {
             log.warn("Qdrant upsert 실패 articleId={}: {}", articleId, e.getMessage());
         }
+        Shadow s = shadow;
+        if (s != null) {
+            try {
+                upsertBatch(s.collection(), Map.of(articleId, EmbeddingClient.shorten(vector, s.dimension())));
+            } catch (Exception e) {
+                log.warn("Qdrant 재색인 대상 upsert 실패 articleId={}: {}", articleId, e.getMessage());
+            }
+        }
     }
 
-    /** KNN 검색 → (articleId, score) 상위 limit개. 실패 시 빈 리스트. */
+    /**
+     * KNN 검색 → (articleId, score) 상위 limit개. 실패 시 빈 리스트.
+     *
+     * <p>읽기 전용이라 헤징한다: 최근 p95 안에 응답이 없으면 같은 검색을 한 번 더 보내 먼저 온 결과를 쓴다
+     * ({@link RequestHedger}). Qdrant 한 번의 느린 응답이 부서 Top-5 전체를 붙잡지 않게 한다.
+     */
+    @Override
     public List<ScoredId> search(List<Double> vector, int limit) {
+        refreshAliasIfStale();
         try {
-            Map<String, Object> body = Map.of(
-                    "vector", vector, "limit", limit, "with_payload", false);
-            ResponseEntity<String> resp = rest.postForEntity(
-                    baseUrl + "/collections/" + collection + "/points/search",
-                    jsonEntity(body), String.class);
-            List<ScoredId> out = new ArrayList<>();
-            for (JsonNode n : om.readTree(resp.getBody()).path("result")) {
-                out.add(new ScoredId(n.path("id").asLong(), n.path("score").asDouble()));
+            try {
+                return hedgedSearch(vector, limit);
+            } catch (HttpClientErrorException e) {
+                if (!isDimensionError(e)) throw e;
+                refreshAlias();   // 다른 인스턴스가 별칭을 다른 차원 컬렉션으로 옮겼다
+                return hedgedSearch(vector, limit);
             }
-            return out;
         } catch (Exception e) {
             log.warn("Qdrant 검색 실패: {}", e.getMessage());
             return List.of();
         }
     }
 
+    private void doUpsert(long articleId, List<Double> vector) throws Exception {
+        Map<String, Object> body = Map.of(
+                "points", List.of(Map.of("id", articleId, "vector", EmbeddingClient.shorten(vector, dimension))));
+        rest.exchange(baseUrl + "/collections/" + target() + "/points?wait=true",
+                HttpMethod.PUT, jsonEntity(body), String.class);
+    }
+
+    private List<ScoredId> hedgedSearch(List<Double> vector, int limit) throws Exception {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("vector", EmbeddingClient.shorten(vector, dimension));
+        body.put("limit", limit);
+        body.put("with_payload", false);
+        if (quantizationConfig() != null) {
+            body.put("params", Map.of("quantization", Map.of("rescore", rescore, "oversampling", oversampling)));
+        }
+        HttpEntity<String> entity = jsonEntity(body);   // 직렬화는 1번만
+        return searchHedger != null ? searchHedger.call(() -> doSearch(entity)) : doSearch(entity);
+    }
+
+    private List<ScoredId> doSearch(HttpEntity<String> entity) throws Exception {
+        ResponseEntity<String> resp = rest.postForEntity(
+                baseUrl + "/collections/" + target() + "/points/search", entity, String.class);
+        List<ScoredId> out = new ArrayList<>();
+        for (JsonNode n : om.readTree(resp.getBody()).path("result")) {
+            out.add(new ScoredId(n.path("id").asLong(), n.path("score").asDouble()));
+        }
+        return out;
+    }
+
+    private String target() {
+        return aliasReady ? alias : collection;
+    }
+
+    private void refreshAliasIfStale() {
+        if (aliasReady && System.nanoTime() - aliasCheckedAtNanos > aliasRefreshMs * 1_000_000L) {
+            refreshAlias();
+        }
+    }
+
+    /** 별칭이 가리키는 컬렉션과 그 차원을 다시 읽는다. 조회 실패면 지금 값을 유지한다. */
+    private synchronized void refreshAlias() {
+        aliasCheckedAtNanos = System.nanoTime();
+        String current = resolveAlias();
+        if (current == null) return;
+        int size = vectorSizeOf(current, dimension);
+        if (!current.equals(activeCollection) || size != dimension) {
+            log.info("Qdrant 별칭 {} 변경 감지: {}(dim={}) → {}(dim={})", alias, activeCollection, dimension, current, size);
+        }
+        activeCollection = current;
+        dimension = size;
+    }
+
+    /** Qdrant의 "Vector dimension error: expected dim: 512, got 1536" (400). */
+    private static boolean isDimensionError(HttpClientErrorException e) {
+        return e.getStatusCode().value() == 400
+                && e.getResponseBodyAsString().toLowerCase().contains("dimension");
+    }
+
+    /** 별칭이 가리키는 컬렉션. 별칭이 없거나 조회 실패면 null. */
+    private String resolveAlias() {
+        try {
+            ResponseEntity<String> resp = rest.getForEntity(baseUrl + "/aliases", String.class);
+            for (JsonNode a : om.readTree(resp.getBody()).path("result").path("aliases")) {
+                if (alias.equals(a.path("alias_name").asText())) return a.path("collection_name").asText();
+            }
+        } catch (Exception e) {
+            log.debug("Qdrant 별칭 조회 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /** 컬렉션의 벡터 차원. 조회 실패면 fallback. */
+    private int vectorSizeOf(String name, int fallback) {
+        try {
+            ResponseEntity<String> info = rest.getForEntity(baseUrl + "/collections/" + name, String.class);
+            int size = om.readTree(info.getBody()).path("result").path("config").path("params")
+                    .path("vectors").path("size").asInt(0);
+            return size > 0 ? size : fallback;
+        } catch (Exception e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * 기존 컬렉션의 양자화 설정(방식·압축률·quantile 등 전체)이나 원본 on_disk가 설정과 다르면 바꾼다.
+     * 이름 없는 기본 벡터는 PATCH에서 "" 키로 가리킨다.
+     */
+    private void syncQuantization(String name) {
+        Map<String, Object> desired = quantizationConfig();
+        if (desired == null) return;   // none: 기존 설정은 건드리지 않는다
+        try {
+            ResponseEntity<String> info = rest.getForEntity(baseUrl + "/collections/" + name, String.class);
+            JsonNode config = om.readTree(info.getBody()).path("result").path("config");
+            boolean quantizationMatches = covers(config.path("quantization_config"), om.valueToTree(desired));
+            boolean onDisk = config.path("params").path("vectors").path("on_disk").asBoolean(false);
+            if (quantizationMatches && onDisk) return;
+            rest.exchange(baseUrl + "/collections/" + name, HttpMethod.PATCH,
+                    jsonEntity(Map.of("vectors", Map.of("", Map.of("on_disk", true)),
+                            "quantization_config", desired)), String.class);
+            log.info("Qdrant 컬렉션 양자화 변경: {} → {} (원본 on_disk)", name, desired);
+        } catch (Exception e) {
+            log.warn("Qdrant 양자화 설정 실패: {}", e.getMessage());
+        }
+    }
+
+    /** current가 desired의 모든 필드를 같은 값으로 갖는지. Qdrant가 덧붙이는 필드는 무시하고, 숫자는 값으로 비교한다. */
+    private static boolean covers(JsonNode current, JsonNode desired) {
+        if (desired.isObject()) {
+            for (Map.Entry<String, JsonNode> field : desired.properties()) {
+                if (!covers(current.path(field.getKey()), field.getValue())) return false;
+            }
+            return true;
+        }
+        if (desired.isNumber()) return current.isNumber() && current.doubleValue() == desired.doubleValue();
+        return desired.equals(current);
+    }
+
+    /** qdrant.quantization.mode에 맞는 quantization_config. none이면 null. */
+    private Map<String, Object> quantizationConfig() {
+        return switch (quantizationMode.trim().toLowerCase()) {
+            case "scalar" -> Map.of("scalar", Map.of("type", "int8", "quantile", 0.99, "always_ram", true));
+            case "product" -> Map.of("product", Map.of("compression", productCompression, "always_ram", true));
+            default -> null;
+        };
+    }
+
     private HttpEntity<String> jsonEntity(Object body) throws Exception {
         HttpHeaders h = new HttpHeaders();
         h.setContentType(MediaType.APPLICATION_JSON);
         return new HttpEntity<>(om.writeValueAsString(body), h);
     }
-
-    /** Qdrant 검색 결과 한 건: 기사 id와 유사도 점수. */
-    public record ScoredId(long id, double score) {}
 }
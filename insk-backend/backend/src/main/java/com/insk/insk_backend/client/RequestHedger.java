@@ -0,0 +1,166 @@
+package com.insk.insk_backend.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 요청의 헤징(hedged request).
+ *
+ * <p>첫 요청이 최근 지연의 p95 안에 돌아오지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 쪽을 쓴다.
+ * 느린 5%를 기다리는 대신 두 번째 시도로 꼬리 지연을 자른다. 헤징 지연은 {@link LatencyHistogram}의
+ * 분위수로 계속 맞추고(표본이 모자라면 초기값), 헤징 요청 수는 예산(기본 전체의 10%)으로 묶어
+ * 대상 서버가 느려졌을 때 부하를 두 배로 키우지 않는다.
+ *
+ * <p>지표 (tag target=이름): http.client.hedge.sent / won(헤징 요청이 이김) / skipped(예산 소진),
+ * http.client.hedge.delay(현재 헤징 지연 ms).
+ */
+public class RequestHedger {
+
+    /**
+     * @param percentile   헤징 지연으로 쓸 분위수 (0.95 = p95)
+     * @param initialDelay 표본이 minSamples보다 적을 때의 헤징 지연
+     * @param budgetRatio  요청 1건당 쌓이는 헤징 예산 (0.1 = 요청 10건당 헤징 1건)
+     * @param budgetBurst  예산 상한 (순간적으로 몰린 느린 요청을 몇 건까지 헤징할지)
+     */
+    public record Settings(double percentile, Duration initialDelay, Duration minDelay, Duration maxDelay,
+                           int minSamples, double budgetRatio, int budgetBurst) {
+    }
+
+    private final Executor executor;
+    private final Settings settings;
+    private final LatencyHistogram histogram = new LatencyHistogram(60_000);
+    private final Counter sent;
+    private final Counter won;
+    private final Counter skipped;
+    private double budget = 1;   // synchronized(this)
+
+    public RequestHedger(String target, Executor executor, MeterRegistry meterRegistry, Settings settings) {
+        this.executor = executor;
+        this.settings = settings;
+        this.sent = Counter.builder("http.client.hedge.sent").tag("target", target)
+                .description("헤징(두 번째) 요청 수").register(meterRegistry);
+        this.won = Counter.builder("http.client.hedge.won").tag("target", target)
+                .description("헤징 요청이 먼저 끝난 횟수").register(meterRegistry);
+        this.skipped = Counter.builder("http.client.hedge.skipped").tag("target", target)
+                .description("예산 소진·풀 포화로 헤징하지 못한 횟수").register(meterRegistry);
+        Gauge.builder("http.client.hedge.delay", this, h -> h.hedgeDelayNanos() / 1_000_000.0)
+                .tag("target", target).baseUnit("milliseconds")
+                .description("현재 헤징 지연").register(meterRegistry);
+    }
+
+    /** 요청을 실행하고, 헤징 지연 안에 끝나지 않으면 한 번 더 보내 먼저 성공한 결과를 돌려준다. */
+    public <T> T call(Callable<T> request) throws Exception {
+        earnBudget();
+        CompletableFuture<T> primary;
+        try {
+            primary = submit(request);
+        } catch (RejectedExecutionException e) {
+            return timed(request);   // 풀 포화: 헤징 없이 호출 스레드에서 실행
+        }
+
+        try {
+            return primary.get(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException slow) {
+            // 아래에서 헤징
+        } catch (ExecutionException e) {
+            throw unwrap(e);   // 빨리 실패한 요청은 꼬리 지연이 아니다 — 헤징하지 않는다
+        }
+
+        CompletableFuture<T> hedge = null;
+        if (spendBudget()) {
+            try {
+                hedge = submit(request);
+                sent.increment();
+            } catch (RejectedExecutionException e) {
+                hedge = null;
+            }
+        }
+        if (hedge == null) {
+            skipped.increment();
+            return await(primary);
+        }
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<T> hedgeRef = hedge;
+        primary.whenComplete((v, e) -> settle(winner, v, e, failures, false));
+        hedge.whenComplete((v, e) -> settle(winner, v, e, failures, true));
+        try {
+            return await(winner);
+        } finally {
+            primary.cancel(false);
+            hedgeRef.cancel(false);
+        }
+    }
+
+    /** 현재 헤징 지연: 최근 분위수를 [minDelay, maxDelay]로 자른 값. */
+    long hedgeDelayNanos() {
+        if (histogram.count() < settings.minSamples()) return settings.initialDelay().toNanos();
+        long micros = histogram.percentileMicros(settings.percentile());
+        long p = micros >= Long.MAX_VALUE / 1_000 ? Long.MAX_VALUE : micros * 1_000;
+        return Math.max(settings.minDelay().toNanos(), Math.min(settings.maxDelay().toNanos(), p));
+    }
+
+    private <T> void settle(CompletableFuture<T> winner, T value, Throwable error,
+                            AtomicInteger failures, boolean isHedge) {
+        if (error == null) {
+            if (winner.complete(value) && isHedge) won.increment();
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return timed(request);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private <T> T timed(Callable<T> request) throws Exception {
+        long started = System.nanoTime();
+        T result = request.call();
+        histogram.record(System.nanoTime() - started);   // 성공한 요청만 분포에 넣는다
+        return result;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static Exception unwrap(Throwable t) {
+        while ((t instanceof ExecutionException || t instanceof CompletionException) && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t instanceof Exception e ? e : new RuntimeException(t);
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(settings.budgetBurst(), budget + settings.budgetRatio());
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) return false;
+        budget -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.insk.insk_backend.dto.OpenAIDto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 응답(content 조각)을 받는 즉시 파싱하는 분석 결과 파서.
+ *
+ * <p>Jackson non-blocking 파서에 조각을 그대로 밀어 넣고, 최상위 필드 값이 완성되는 순간
+ * {@link Listener}로 알린다. summary·categoryMajor는 응답 앞쪽에 오므로 전체 완료 전에 쓸 수 있고,
+ * 완료 시점에는 이미 {@link OpenAIDto.AnalysisResponse}가 채워져 있어 문자열을 다시 파싱하지 않는다.
+ * 스레드 안전하지 않다 — 스트림 1개당 인스턴스 1개.
+ */
+public class StreamingAnalysisParser {
+
+    /** 최상위 필드가 완성될 때마다 호출된다 (tags는 배열이 닫힐 때 1번). */
+    public interface Listener {
+        Listener NONE = (field, value) -> { };
+
+        void onField(String field, Object value);
+    }
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Listener listener;
+    private final OpenAIDto.AnalysisResponse result = new OpenAIDto.AnalysisResponse();
+
+    private int depth;
+    private String field;
+    private List<String> tags;   // tags 배열 안에 있는 동안만 non-null
+
+    public StreamingAnalysisParser(Listener listener) throws IOException {
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.listener = listener != null ? listener : Listener.NONE;
+    }
+
+    /** content 조각 1개를 밀어 넣고, 완성된 토큰까지 처리한다. */
+    public void feed(String fragment) throws IOException {
+        if (fragment == null || fragment.isEmpty()) return;
+        byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    /** 스트림 종료. 닫히지 않은 JSON(중간에 끊긴 응답)이면 예외. */
+    public OpenAIDto.AnalysisResponse finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (depth != 0 || result.getSummary() == null) {
+            throw new IOException("분석 응답이 완결되지 않았습니다 (depth=" + depth + ")");
+        }
+        return result;
+    }
+
+    /** 지금까지 파싱된 결과 (미완성일 수 있다). */
+    public OpenAIDto.AnalysisResponse partial() {
+        return result;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT -> depth++;
+                case END_OBJECT -> depth--;
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && "tags".equals(field)) tags = new ArrayList<>();
+                }
+                case END_ARRAY -> {
+                    if (depth == 2 && tags != null) {
+                        result.setTags(tags);
+                        listener.onField("tags", tags);
+                        tags = null;
+                    }
+                    depth--;
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) field = parser.currentName();
+                }
+                case VALUE_STRING -> {
+                    if (tags != null && depth == 2) {
+                        tags.add(parser.getText());
+                    } else if (depth == 1) {
+                        onValue(parser.getText());
+                    }
+                }
+                default -> {
+                    // 숫자·불리언·중첩 객체 등 모르는 필드는 무시 (@JsonIgnoreProperties와 동일)
+                }
+            }
+        }
+    }
+
+    private void onValue(String value) {
+        switch (field) {
+            case "summary" -> result.setSummary(value);
+            case "insight" -> result.setInsight(value);
+            case "categoryMajor" -> result.setCategoryMajor(value);
+            default -> {
+                return;
+            }
+        }
+        listener.onField(field, value);
+    }
+}
@@ -0,0 +1,49 @@
+package com.insk.insk_backend.client;
+
+import com.insk.insk_backend.domain.Keyword;
+import com.insk.insk_backend.dto.TheGuruDto;
+import com.insk.insk_backend.service.FetchCursorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** TheGuru RSS 소스. 피드 제목에 HTML 태그가 섞여 와서 제거한 뒤 넘긴다. */
+@Component
+@RequiredArgsConstructor
+public class TheGuruNewsSource implements NewsSource {
+
+    private static final int LIMIT = 10;
+    private static final String FEED_CURSOR = "";
+
+    private final TheGuruClient theGuruClient;
+    private final FetchCursorService fetchCursorService;
+
+    @Override
+    public String name() {
+        return "TheGuru";
+    }
+
+    @Override
+    public List<Item> fetch(List<Keyword> keywords) {
+        // RSS는 키워드 검색이 없으므로 피드 단위 커서(keyword="")로 이미 본 항목을 건너뛴다.
+        FetchCursorService.Cursor cursor = fetchCursorService.open(name(), FEED_CURSOR);
+        List<Item> fresh = new ArrayList<>();
+        for (TheGuruDto dto : theGuruClient.fetchNews(LIMIT)) {
+            LocalDateTime parsedPubDate = dto.getPublishedAt();
+            if (cursor.isBeforeWatermark(parsedPubDate) || cursor.isSeen(dto.getOriginalUrl())) continue;
+            fresh.add(new Item(name(), dto.getTitle().replaceAll("<[^>]+>", ""), dto.getOriginalUrl(),
+                    dto.getSummary(),
+                    parsedPubDate,
+                    "KR", "ko", null));
+        }
+        return fresh;
+    }
+
+    @Override
+    public void commit(List<Item> handled, List<Item> unhandled) {
+        fetchCursorService.advance(fetchCursorService.open(name(), FEED_CURSOR), handled, unhandled);
+    }
+}
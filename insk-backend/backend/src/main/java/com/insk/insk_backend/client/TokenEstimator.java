@@ -0,0 +1,63 @@
+package com.insk.insk_backend.client;
+
+/**
+ * 전송 전 토큰 수 어림 (rate limiter 예약용).
+ *
+ * <p>정확한 tokenizer 대신 보수적인 근사치를 쓴다: 영문·숫자·기호(ASCII)는 4자당 1토큰,
+ * 한글 등 비ASCII 문자는 1자당 1토큰. 한국어 기사는 실제보다 약간 크게 잡히는데,
+ * 한도를 넘겨 429를 맞는 것보다 조금 일찍 기다리는 편이 싸다. 실제 사용량은 응답의
+ * usage로 받아 {@link OpenAiRateLimiter#settle}에서 보정한다.
+ */
+public final class TokenEstimator {
+
+    /** 메시지 1개당 role·구분자 오버헤드 (OpenAI 가이드 기준). */
+    private static final int PER_MESSAGE_OVERHEAD = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) return 0;
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLowSurrogate(c)) continue;   // 서로게이트 쌍은 1자로 센다
+            if (c < 0x80) ascii++;
+            else other++;
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    /** chat 요청 1건: 메시지들 + 예상 응답 토큰 (OpenAI TPM은 응답 토큰까지 센다). */
+    public static int estimateChat(String systemPrompt, String userContent, int expectedCompletionTokens) {
+        int tokens = PER_MESSAGE_OVERHEAD * 2 + 3;
+        tokens += estimate(systemPrompt);
+        tokens += estimate(userContent);
+        return tokens + expectedCompletionTokens;
+    }
+
+    /**
+     * 토큰 예산 안에 들어가는 앞부분만 남긴다. 가능하면 문장 끝(. ? ! 。)에서 자른다
+     * (예산의 마지막 20% 구간 안에 문장 끝이 없으면 예산 경계에서 자른다).
+     */
+    public static String truncateToBudget(String text, int maxTokens) {
+        if (text == null || estimate(text) <= maxTokens) return text;
+
+        double used = 0;
+        int cut = 0;
+        for (; cut < text.length(); cut++) {
+            char c = text.charAt(cut);
+            if (Character.isLowSurrogate(c)) continue;
+            used += c < 0x80 ? 0.25 : 1;
+            if (used > maxTokens) break;
+        }
+        int floor = (int) (cut * 0.8);
+        for (int i = cut - 1; i >= floor; i--) {
+            char c = text.charAt(i);
+            if (c == '.' || c == '?' || c == '!' || c == '。') return text.substring(0, i + 1);
+        }
+        if (cut > 0 && Character.isHighSurrogate(text.charAt(cut - 1))) cut--;
+        return text.substring(0, cut);
+    }
+}
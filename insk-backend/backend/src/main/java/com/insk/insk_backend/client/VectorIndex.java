@@ -0,0 +1,24 @@
+package com.insk.insk_backend.client;
+
+import java.util.List;
+
+/**
+ * 기사 벡터 색인 (KNN 검색). 구현: {@link QdrantClient}(원격 VectorDB), {@link LocalHnswVectorIndex}(프로세스 내장).
+ *
+ * <p>점수는 cosine 유사도(클수록 가깝다). 구현체는 색인·검색 실패를 예외로 던지지 않고 로그 후
+ * 무시/빈 결과로 처리한다 — 추천·파이프라인이 벡터 인덱스 장애로 멈추지 않게 한다.
+ */
+public interface VectorIndex {
+
+    /** 색인이 없으면 만든다(벡터 차원 고정). 멱등. */
+    void ensureCollection(int vectorSize);
+
+    /** 기사 벡터 upsert (같은 id는 덮어쓴다). */
+    void upsert(long articleId, List<Double> vector);
+
+    /** KNN 검색 → (articleId, score) 상위 limit개. 실패 시 빈 리스트. */
+    List<ScoredId> search(List<Double> vector, int limit);
+
+    /** 검색 결과 한 건: 기사 id와 유사도 점수. */
+    record ScoredId(long id, double score) {}
+}
@@ -0,0 +1,52 @@
+package com.insk.insk_backend.config;
+
+import com.insk.insk_backend.repository.ArticleRepository;
+import com.insk.insk_backend.service.ArticleUrlIndex;
+import com.insk.insk_backend.util.UrlCanonicalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 시 저장된 기사 URL로 {@link ArticleUrlIndex}의 Bloom filter를 채운다.
+ * canonical_url 컬럼이 비어 있는 기존 행은 이때 한 번 채운다(멱등, 재기동에도 안전).
+ *
+ * <p>DB 오류가 나도 앱 기동을 막지 않는다. 필터가 없으면 URL 판정은 항상 DB로 간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleUrlIndexInitializer implements ApplicationRunner {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleUrlIndex articleUrlIndex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            List<Object[]> rows = articleRepository.findAllUrls();
+            List<String> urls = new ArrayList<>(rows.size());
+            int backfilled = 0;
+            for (Object[] row : rows) {
+                Long articleId = (Long) row[0];
+                String originalUrl = (String) row[1];
+                String canonicalUrl = (String) row[2];
+                if (originalUrl == null) continue;
+                urls.add(originalUrl);
+                if (canonicalUrl == null) {
+                    articleRepository.updateCanonicalUrl(articleId, UrlCanonicalizer.canonicalize(originalUrl));
+                    backfilled++;
+                }
+            }
+            articleUrlIndex.initialize(urls);
+            if (backfilled > 0) log.info("canonical_url 백필: {}건", backfilled);
+        } catch (Exception e) {
+            log.warn("URL Bloom filter 초기화 실패(DB 확인으로 동작): {}", e.getMessage());
+        }
+    }
+}
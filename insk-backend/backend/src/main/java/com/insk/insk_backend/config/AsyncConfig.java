@@ -1,9 +1,11 @@
 package com.insk.insk_backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -37,5 +39,97 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
 
+    /**
+     * 뉴스 소스 fan-out 전용 풀. 소스별 목록 조회(검색 API·RSS)를 동시에 실행한다.
+     * 기사 처리 풀과 분리해, 느린 소스가 기사 처리 스레드를 점유하거나 그 반대로 막히지 않게 한다.
+     */
+    @Bean(name = "newsSourceExecutor")
+    public Executor newsSourceExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("news-source-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Qdrant 검색 헤징 전용 풀. 첫 요청과 헤징 요청을 여기서 돌리고 호출 스레드는 먼저 끝난 쪽을 기다린다.
+     * 대기열 없이 최대 16: 포화되면 헤징 없이 호출 스레드에서 바로 검색한다(RequestHedger).
+     */
+    @Bean(name = "qdrantHedgeExecutor")
+    public Executor qdrantHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("qdrant-hedge-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * PDF 일괄 내보내기 렌더링 전용 풀. 기사별 PDF를 병렬로 만들되 상한을 둬 CPU·메모리를 다른 요청과 나눈다.
+     * 스레드 수를 PdfFontCache 풀 크기(pdf.font.pool-size 기본 4)에 맞춰 스레드마다 파싱된 폰트를 하나씩 빌려 쓴다.
+     */
+    @Bean(name = "pdfExportExecutor")
+    public Executor pdfExportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("pdf-export-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * @Scheduled 작업용 스케줄러. 기본값(스레드 1개)이면 한 작업이 오래 걸릴 때 DLQ 재처리·리포트 갱신·
+     * PDF 정리 같은 다른 주기 작업이 모두 밀린다. 긴 작업은 아래 batchPipelineExecutor로 넘기고,
+     * 스케줄러 스레드는 짧은 작업끼리 나눠 쓴다.
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 정기 수집·DLQ 재처리(Batch API 완료 대기로 최대 pipeline.batch.max-wait-minutes 블로킹) 전용 풀.
+     * 스레드 1개로 두 작업이 겹치지 않게 순서대로 돌리고, 밀린 실행은 대기열 2건까지만 받는다.
+     */
+    @Bean(name = "batchPipelineExecutor")
+    public Executor batchPipelineExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(2);
+        executor.setThreadNamePrefix("batch-pipeline-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 전용 풀. 로그인 폭주 때도 해시에 쓰는 CPU를 스레드 수(기본 코어 절반)로 묶어
+     * 나머지 API가 굶지 않게 한다. 대기열이 차면 거절(OffloadedPasswordEncoder가 503으로 변환)한다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password.hash-threads:0}") int threads,
+            @Value("${security.password.hash-queue-capacity:64}") int queueCapacity
+    ) {
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
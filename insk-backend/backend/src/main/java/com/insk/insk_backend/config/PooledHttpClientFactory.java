@@ -0,0 +1,125 @@
+package com.insk.insk_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API별 커넥션 풀 (Apache HttpClient 5).
+ *
+ * <p>SimpleClientHttpRequestFactory는 keep-alive 재사용을 HttpURLConnection 내부 캐시(호스트당 5개)에 맡겨
+ * 풀 크기·유휴 정리를 설정할 수 없다. 여기서는 대상(OpenAI·Naver·Qdrant)마다 풀을 따로 두어
+ * 한 쪽이 느려져 커넥션을 붙잡아도 다른 쪽 호출이 커넥션을 못 얻는 일이 없게 한다.
+ *
+ * <p>지표 (tag pool=이름):
+ * <ul>
+ *   <li>http.client.pool.acquire — 풀에서 커넥션을 얻기까지 기다린 시간 (길면 풀이 작다)</li>
+ *   <li>http.client.pool.lease — 커넥션을 빌려 반납하기까지의 시간 (= 요청 1건의 점유 시간)</li>
+ *   <li>httpcomponents.httpclient.pool.* — 풀 크기·사용 중·대기 수 (Micrometer 바인더)</li>
+ * </ul>
+ */
+final class PooledHttpClientFactory {
+
+    private PooledHttpClientFactory() {
+    }
+
+    /** 풀 1개의 설정. 대상 호스트가 하나면 maxPerRoute = maxTotal로 둔다. */
+    record PoolSettings(int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout,
+                        Duration acquireTimeout, Duration idleEvict, Duration timeToLive) {
+    }
+
+    static HttpComponentsClientHttpRequestFactory create(String pool, PoolSettings s, MeterRegistry meterRegistry) {
+        MeteredConnectionManager cm = new MeteredConnectionManager(pool, meterRegistry);
+        cm.setMaxTotal(s.maxTotal());
+        cm.setDefaultMaxPerRoute(s.maxPerRoute());
+        cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(s.connectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(s.readTimeout().toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(s.timeToLive().toMillis()))   // DNS 변경·LB 재분배 반영
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))   // 서버가 먼저 끊은 커넥션 재사용 방지
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(cm, pool).bindTo(meterRegistry);
+
+        CloseableHttpClient client = HttpClients.custom()
+                .setConnectionManager(cm)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(s.acquireTimeout().toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(s.readTimeout().toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(s.idleEvict().toMillis()))
+                .disableAutomaticRetries()   // 재시도는 상위(@Retryable·DLQ)가 정한다
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(client);
+    }
+
+    /** 커넥션 획득 대기·점유 시간을 기록하는 풀. */
+    static final class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer acquireTimer;
+        private final Timer leaseTimer;
+        private final Map<ConnectionEndpoint, Long> leasedAt = new ConcurrentHashMap<>();
+
+        MeteredConnectionManager(String pool, MeterRegistry meterRegistry) {
+            this.acquireTimer = Timer.builder("http.client.pool.acquire")
+                    .description("풀에서 커넥션을 얻기까지 기다린 시간")
+                    .tag("pool", pool)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.leaseTimer = Timer.builder("http.client.pool.lease")
+                    .description("커넥션을 빌려 반납하기까지의 시간")
+                    .tag("pool", pool)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            long started = System.nanoTime();
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    try {
+                        ConnectionEndpoint endpoint = delegate.get(timeout);
+                        leasedAt.put(endpoint, System.nanoTime());
+                        return endpoint;
+                    } finally {
+                        acquireTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void release(ConnectionEndpoint endpoint, Object state, TimeValue keepAlive) {
+            Long at = leasedAt.remove(endpoint);
+            if (at != null) leaseTimer.record(System.nanoTime() - at, TimeUnit.NANOSECONDS);
+            super.release(endpoint, state, keepAlive);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.insk.insk_backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -29,4 +30,12 @@ public class RedisConfig {
                 .entryTtl(Duration.ofMinutes(ttlMinutes))
                 .disableCachingNullValues();
     }
+
+    /** 기사 상세는 분석 완료·점수 갱신이 곧 보여야 해서 기본 TTL보다 짧게 둔다. */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer articleDetailCacheTtl(
+            @Value("${cache.article-detail-ttl-seconds:60}") long ttlSeconds) {
+        return builder -> builder.withCacheConfiguration("articleDetail",
+                cacheConfiguration().entryTtl(Duration.ofSeconds(ttlSeconds)));
+    }
 }
@@ -1,9 +1,9 @@
 package com.insk.insk_backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
@@ -13,18 +13,81 @@ import java.time.Duration;
  *
  * <p>OpenAI 호출에 타임아웃이 없으면 응답이 안 오는 호출이 스레드를 영원히 점유해
  * 재시도(@Retryable)조차 트리거되지 않고 병렬 풀(pipelineItemExecutor)까지 막힌다.
- * 연결/읽기 타임아웃을 외부화한다(읽기 기본 120초는 멘토 권고값). 외부 HTTP 클라이언트가 공유한다.
+ * 연결/읽기 타임아웃을 외부화한다(OpenAI 읽기 기본 120초는 멘토 권고값).
+ *
+ * <p>대상별로 커넥션 풀을 따로 둔다({@link PooledHttpClientFactory}). 기본값:
+ * <ul>
+ *   <li>openai — api.openai.com 한 호스트, 파이프라인 동시 호출 수보다 넉넉하게 32</li>
+ *   <li>naver — 검색 API + 언론사 페이지 스크래핑(호스트 다수), 호스트당 8로 한 언론사가 풀을 독점하지 않게</li>
+ *   <li>qdrant — 로컬 벡터DB, 짧은 타임아웃(연결 3초·읽기 10초)</li>
+ * </ul>
+ * 설정: http.pool.{openai|naver|qdrant}.max-total / max-per-route / read-timeout-ms, 공통 http.pool.*.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${external.http.connect-timeout-ms:5000}")
+    private long connectTimeoutMs = 5000;
+
+    /** 풀이 꽉 찼을 때 커넥션을 기다리는 상한. 넘으면 호출 실패(→ 재시도·DLQ)로 처리한다. */
+    @Value("${http.pool.acquire-timeout-ms:10000}")
+    private long acquireTimeoutMs = 10000;
+
+    @Value("${http.pool.idle-evict-ms:30000}")
+    private long idleEvictMs = 30000;
+
+    @Value("${http.pool.ttl-ms:300000}")
+    private long timeToLiveMs = 300000;
+
+    /** OpenAI chat·embedding·batch. */
     @Bean
-    public RestTemplate externalApiRestTemplate(
-            @Value("${external.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+    public RestTemplate openAiRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${http.pool.openai.max-total:32}") int maxTotal,
             @Value("${external.http.read-timeout-ms:120000}") long readTimeoutMs) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
-        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
-        return new RestTemplate(factory);
+        return new RestTemplate(PooledHttpClientFactory.create("openai",
+                settings(maxTotal, maxTotal, connectTimeoutMs, readTimeoutMs), meterRegistry));
+    }
+
+    /**
+     * OpenAI SSE 스트리밍 전용. 스트림에서는 읽기 타임아웃이 "다음 조각까지 기다리는 시간"이 되므로
+     * 짧게 잡아(기본 20초) 멈춘 스트림을 120초까지 기다리지 않고 끊는다. 전체 상한은
+     * openai.stream.max-duration-ms가 따로 건다.
+     */
+    @Bean
+    public RestTemplate openAiStreamingRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${http.pool.openai.max-total:32}") int maxTotal,
+            @Value("${openai.stream.idle-timeout-ms:20000}") long idleTimeoutMs) {
+        return new RestTemplate(PooledHttpClientFactory.create("openai-stream",
+                settings(maxTotal, maxTotal, connectTimeoutMs, idleTimeoutMs), meterRegistry));
+    }
+
+    /** Naver 검색 API + 기사 본문 스크래핑. */
+    @Bean
+    public RestTemplate naverRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${http.pool.naver.max-total:40}") int maxTotal,
+            @Value("${http.pool.naver.max-per-route:8}") int maxPerRoute,
+            @Value("${http.pool.naver.read-timeout-ms:${external.http.read-timeout-ms:120000}}") long readTimeoutMs) {
+        return new RestTemplate(PooledHttpClientFactory.create("naver",
+                settings(maxTotal, maxPerRoute, connectTimeoutMs, readTimeoutMs), meterRegistry));
+    }
+
+    @Bean
+    public RestTemplate qdrantRestTemplate(
+            MeterRegistry meterRegistry,
+            @Value("${http.pool.qdrant.max-total:32}") int maxTotal,
+            @Value("${http.pool.qdrant.connect-timeout-ms:3000}") long qdrantConnectTimeoutMs,
+            @Value("${http.pool.qdrant.read-timeout-ms:10000}") long readTimeoutMs) {
+        return new RestTemplate(PooledHttpClientFactory.create("qdrant",
+                settings(maxTotal, maxTotal, qdrantConnectTimeoutMs, readTimeoutMs), meterRegistry));
+    }
+
+    private PooledHttpClientFactory.PoolSettings settings(int maxTotal, int maxPerRoute,
+                                                          long connectMs, long readMs) {
+        return new PooledHttpClientFactory.PoolSettings(maxTotal, maxPerRoute,
+                Duration.ofMillis(connectMs), Duration.ofMillis(readMs), Duration.ofMillis(acquireTimeoutMs),
+                Duration.ofMillis(idleEvictMs), Duration.ofMillis(timeToLiveMs));
     }
 }
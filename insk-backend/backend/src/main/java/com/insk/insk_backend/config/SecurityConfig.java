@@ -2,18 +2,25 @@ package com.insk.insk_backend.config;
 
 import com.insk.insk_backend.jwt.JwtAuthenticationFilter;
 import com.insk.insk_backend.security.CustomUserDetailsService;
+import com.insk.insk_backend.security.OffloadedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,6 +30,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -36,18 +44,39 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
 
-    /** ▣ PasswordEncoder */
+    // BCrypt 작업 계수 (2^strength 라운드). 올리면 다음 로그인 때 기존 해시가 새 계수로 재해시된다.
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // 해시 풀 대기 상한. 넘기면 503으로 돌려보낸다.
+    @Value("${security.password.hash-timeout-ms:3000}")
+    private long hashTimeoutMs;
+
+    // /api/v1/admin/** (벡터 재색인 등 운영 작업)을 쓸 수 있는 운영자 이메일 (쉼표 구분). 비어 있으면 아무도 못 쓴다.
+    @Value("${admin.operator-emails:}")
+    private String operatorEmails;
+
+    /**
+     * ▣ PasswordEncoder — {bcrypt} 접두사를 붙이는 DelegatingPasswordEncoder.
+     * 접두사 없는 기존 해시도 BCrypt로 검증하고, 로그인 성공 시 접두사·작업 계수를 맞춰 재해시한다.
+     * 해시 자체는 passwordHashExecutor(상한 있는 전용 풀)에서 돈다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ThreadPoolTaskExecutor passwordHashExecutor, MeterRegistry meterRegistry) {
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new OffloadedPasswordEncoder(delegating, passwordHashExecutor.getThreadPoolExecutor(),
+                hashTimeoutMs, meterRegistry);
     }
 
-    /** ▣ DaoAuthenticationProvider 설정 */
+    /** ▣ DaoAuthenticationProvider 설정 — 로그인 성공 시 해시가 낡았으면 UserDetailsPasswordService로 재해시 저장 */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -65,6 +94,17 @@ public class SecurityConfig {
                 .toList();
     }
 
+    /** 로그인한 사용자가 admin.operator-emails에 있는지. 역할(Role) 모델이 없어 이메일 허용 목록으로 판정한다. */
+    private boolean isOperator(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return false;
+        }
+        return Arrays.stream(operatorEmails.split(","))
+                .map(String::trim)
+                .anyMatch(email -> !email.isBlank() && email.equalsIgnoreCase(authentication.getName()));
+    }
+
     /** ▣ CORS 설정 */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -82,7 +122,8 @@ public class SecurityConfig {
 
     /** ▣ Security 필터 체인 */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider)
+            throws Exception {
 
         http
                 // CSRF off
@@ -92,7 +133,7 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
 
                 // AuthenticationProvider 설정
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
 
                 // 세션 미사용 (JWT 기반)
                 .sessionManagement(sm ->
@@ -120,6 +161,10 @@ public class SecurityConfig {
                         // 키워드 관련은 인증 필요
                         .requestMatchers("/api/v1/keywords/**").authenticated()
 
+                        // 운영 작업(전체 벡터 재색인 등)은 운영자만
+                        .requestMatchers("/api/v1/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(isOperator(authentication.get())))
+
                         // 그 외 전체 보호
                         .anyRequest().authenticated()
                 )
@@ -2,10 +2,11 @@ package com.insk.insk_backend.config;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.insk.insk_backend.client.QdrantClient;
+import com.insk.insk_backend.client.VectorIndex;
 import com.insk.insk_backend.repository.ArticleEmbeddingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
@@ -16,22 +17,28 @@ import java.util.List;
  * 멘토 피드백 #1: 기동 시 Qdrant 컬렉션을 보장하고, MySQL에 이미 저장된 임베딩(JSON)을
  * Qdrant에 백필한다. 멱등(같은 articleId upsert)이라 재기동에도 안전하다.
  *
- * <p>Qdrant가 꺼져 있어도 {@link QdrantClient}가 예외를 삼키므로 앱 기동을 막지 않는다.
+ * <p>Qdrant가 꺼져 있어도 QdrantClient가 예외를 삼키므로 앱 기동을 막지 않는다. 로컬 HNSW 인덱스는
+ * 디스크에서 다시 읽히므로 백필은 이미 있는 id의 벡터만 덮어쓴다 ({@link VectorIndex}, vector.index.mode).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class VectorIndexInitializer implements ApplicationRunner {
 
-    private static final int EMBEDDING_DIM = 1536; // text-embedding-3-small
-
-    private final QdrantClient qdrantClient;
+    private final VectorIndex vectorIndex;
     private final ArticleEmbeddingRepository embeddingRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * 색인 차원 (256/512/1536). 저장된 임베딩(openai.embedding.dimensions)보다 짧으면 앞부분만 잘라 색인한다.
+     * 운영 중 바꿀 때는 재색인 API로 blue/green 전환한다. 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값.
+     */
+    @Value("${vector.index.dimensions:1536}")
+    private int dimensions = 1536;
+
     @Override
     public void run(ApplicationArguments args) {
-        qdrantClient.ensureCollection(EMBEDDING_DIM);
+        vectorIndex.ensureCollection(dimensions);
 
         List<Object[]> rows = embeddingRepository.findAllForIndexing();
         int indexed = 0;
@@ -41,14 +48,14 @@ public class VectorIndexInitializer implements ApplicationRunner {
                 String json = (String) row[1];
                 if (articleId == null || json == null) continue;
                 List<Double> vector = objectMapper.readValue(json, new TypeReference<List<Double>>() {});
-                if (vector.size() == EMBEDDING_DIM) {
-                    qdrantClient.upsert(articleId, vector);
+                if (vector.size() >= dimensions) {   // 인덱스가 자기 차원으로 잘라 쓴다
+                    vectorIndex.upsert(articleId, vector);
                     indexed++;
                 }
             } catch (Exception e) {
                 log.warn("벡터 백필 실패: {}", e.getMessage());
             }
         }
-        log.info("🧭 Qdrant 벡터 백필 완료: {}/{}건", indexed, rows.size());
+        log.info("🧭 벡터 인덱스 백필 완료: {}/{}건", indexed, rows.size());
     }
 }
@@ -0,0 +1,62 @@
+package com.insk.insk_backend.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 비동기 호출용 WebClient (Reactor Netty 공유 커넥션 풀).
+ *
+ * <p>RestTemplate(SimpleClientHttpRequestFactory)은 풀이 없어 호출마다 TLS 핸드셰이크를 하고,
+ * 동시 호출 수가 스레드 수에 묶인다. 여기서는 이벤트 루프 몇 개가 풀(기본 200 커넥션)을 공유하고,
+ * https면 HTTP/2를 먼저 협상해 커넥션 하나에 여러 요청을 싣는다. 풀이 차면 대기열(pending-acquire)에서 기다린다.
+ * 풀 지표(reactor.netty.connection.provider.*)는 actuator로 노출된다.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(
+            @Value("${openai.http.max-connections:200}") int maxConnections,
+            @Value("${openai.http.pending-acquire-max:1000}") int pendingAcquireMax,
+            @Value("${openai.http.pending-acquire-timeout-ms:60000}") long pendingAcquireTimeoutMs,
+            @Value("${openai.http.max-idle-ms:30000}") long maxIdleMs) {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleMs))   // 서버가 먼저 끊은 유휴 커넥션 재사용 방지
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient openAiWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider openAiConnectionProvider,
+            @Value("${openai.api.key}") String apiKey,
+            @Value("${openai.api.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${external.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${external.http.read-timeout-ms:120000}") long readTimeoutMs) {
+        HttpClient http = HttpClient.create(openAiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+        if (baseUrl.startsWith("https")) {
+            http = http.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);   // ALPN으로 h2 우선, 안 되면 1.1
+        }
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeaders(h -> h.setBearerAuth(apiKey))
+                .clientConnector(new ReactorClientHttpConnector(http))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.insk.insk_backend.controller;
+
+import com.insk.insk_backend.service.VectorReindexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/** 벡터 색인 운영 API. /api/v1/admin/**는 admin.operator-emails에 있는 운영자만 호출할 수 있다 (SecurityConfig). */
+@RestController
+@RequestMapping("/api/v1/admin/vector-index")
+@RequiredArgsConstructor
+public class AdminVectorIndexController {
+
+    private final VectorReindexService reindexService;
+
+    /** 색인 차원을 바꿔 blue/green 재색인을 시작한다. 진행 상황은 GET으로 조회. 이미 진행 중이면 409. */
+    @PostMapping("/reindex")
+    public ResponseEntity<VectorReindexService.Status> reindex(@RequestParam int dimensions) {
+        if (!reindexService.start(dimensions)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(reindexService.status());
+        }
+        return ResponseEntity.accepted().body(reindexService.status());
+    }
+
+    @GetMapping("/reindex")
+    public ResponseEntity<VectorReindexService.Status> status() {
+        return ResponseEntity.ok(reindexService.status());
+    }
+}
@@ -80,5 +80,21 @@ public class ArticleController {
         }
         return ResponseEntity.ok(articleService.getFavoriteArticles(userEmail, pageable));
     }
+
+    /**
+     * 관심기사 keyset 페이지 (무한 스크롤용). 응답의 nextCursor를 cursor로 넘기면 다음 페이지 (size 기본 10, 최대 50).
+     */
+    @GetMapping("/favorites/cursor")
+    public ResponseEntity<ArticleDto.CursorResponse> getFavoriteArticlesByCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        String userEmail = (userDetails != null ? userDetails.getUsername() : null);
+        if (userEmail == null || userEmail.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(articleService.getFavoriteArticles(userEmail, cursor, size));
+    }
 }
 
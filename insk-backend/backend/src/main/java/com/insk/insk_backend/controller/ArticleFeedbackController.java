@@ -8,8 +8,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/articles/{articleId}/feedbacks")
 @RequiredArgsConstructor
@@ -29,11 +27,14 @@ public class ArticleFeedbackController {
         return ResponseEntity.ok(resp);
     }
 
+    /** 최신순 페이지. 응답의 nextCursor를 cursor로 넘기면 다음 페이지 (size 기본 20, 최대 50). */
     @GetMapping
-    public ResponseEntity<List<ArticleFeedbackDto.Response>> getFeedbacks(
-            @PathVariable Long articleId
+    public ResponseEntity<ArticleFeedbackDto.PageResponse> getFeedbacks(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(feedbackService.getFeedbacks(articleId));
+        return ResponseEntity.ok(feedbackService.getFeedbacks(articleId, cursor, size));
     }
 
     @GetMapping("/summary")
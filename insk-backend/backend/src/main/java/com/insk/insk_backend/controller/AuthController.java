@@ -1,6 +1,9 @@
 package com.insk.insk_backend.controller;
 
+import com.insk.insk_backend.domain.User;
+import com.insk.insk_backend.exception.PasswordHashingBusyException;
 import com.insk.insk_backend.jwt.JwtTokenProvider;
+import com.insk.insk_backend.security.CustomUserDetails;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -24,7 +27,8 @@ public class AuthController {
                     new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword())
             );
 
-            String token = jwtTokenProvider.createToken(req.getEmail());
+            User user = ((CustomUserDetails) auth.getPrincipal()).getUser();
+            String token = jwtTokenProvider.createToken(user);
 
             TokenResponse resp = new TokenResponse();
             resp.setAccessToken(token);
@@ -33,6 +37,9 @@ public class AuthController {
         } catch (BadCredentialsException e) {
             throw new BadCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         } catch (Exception e) {
+            // 해시 풀 포화는 500이 아니라 503으로 (인증 과정에서 InternalAuthenticationServiceException으로 감싸질 수 있음)
+            if (e instanceof PasswordHashingBusyException busy) throw busy;
+            if (e.getCause() instanceof PasswordHashingBusyException busy) throw busy;
             throw new RuntimeException("로그인 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
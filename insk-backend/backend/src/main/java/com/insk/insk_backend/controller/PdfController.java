@@ -1,11 +1,8 @@
 package com.insk.insk_backend.controller;
 
-import com.insk.insk_backend.domain.Article;
-import com.insk.insk_backend.domain.ArticleAnalysis;
-import com.insk.insk_backend.repository.ArticleAnalysisRepository;
+import com.insk.insk_backend.dto.ArticleDetailRow;
 import com.insk.insk_backend.repository.ArticleRepository;
-import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
+import com.insk.insk_backend.service.PdfFontCache;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -14,7 +11,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 @RestController
@@ -23,7 +19,7 @@ import java.io.IOException;
 public class PdfController {
 
     private final ArticleRepository articleRepository;
-    private final ArticleAnalysisRepository analysisRepository;
+    private final PdfFontCache fontCache;
 
     @GetMapping("/{articleId}/pdf")
     public void downloadPdf(
@@ -31,44 +27,28 @@ public class PdfController {
             HttpServletResponse response
     ) throws IOException {
 
-        Article article = articleRepository.findById(articleId)
+        // 기사·분석을 조인 한 번으로
+        ArticleDetailRow article = articleRepository.findDetail(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("기사 없음"));
 
-        ArticleAnalysis analysis = analysisRepository.findByArticle(article).orElse(null);
-
         response.setContentType("application/pdf");
         response.setHeader("Content-Disposition",
                 "attachment; filename=\"article_" + articleId + ".pdf\"");
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
+        // 응답 스트림에 바로 쓴다: iText Document는 immediateFlush라 페이지가 완성되는 대로 내보내고
+        // 끝난 페이지 객체는 힙에서 놓는다 (예전: ByteArrayOutputStream에 전부 만든 뒤 복사).
+        PdfWriter writer = new PdfWriter(response.getOutputStream());
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf);
 
-        // ⭐ iText 7.2.x 시그니처: 리소스 경로로 접근
-        // 폰트 파일 위치: src/main/resources/fonts/NotoSansKR-Regular.ttf
-        PdfFont font;
-        try {
-            // 리소스 경로로 접근
-            java.io.InputStream fontStream = getClass().getResourceAsStream("/fonts/NotoSansKR-Regular.ttf");
-            if (fontStream == null) {
-                // 폰트 파일이 없으면 기본 폰트 사용
-                font = PdfFontFactory.createFont();
-            } else {
-                byte[] fontBytes = fontStream.readAllBytes();
-                font = PdfFontFactory.createFont(fontBytes, "Identity-H");
-                fontStream.close();
-            }
-        } catch (Exception e) {
-            // 폰트 로드 실패 시 기본 폰트 사용
-            font = PdfFontFactory.createFont();
-        }
-        document.setFont(font);
+        // 폰트 프로그램은 PdfFontCache가 기동 시 한 번 파싱해 두고, 문서마다 서브셋용 PdfFont만 만든다.
+        // 폰트 파일(src/main/resources/fonts/NotoSansKR-Regular.ttf)이 없으면 기본 폰트.
+        document.setFont(fontCache.itextFont());
 
-        String title = clean(article.getTitle());
-        String url = clean(article.getOriginalUrl());
-        String publishedAt = article.getPublishedAt() != null
-                ? article.getPublishedAt().toString()
+        String title = clean(article.title());
+        String url = clean(article.originalUrl());
+        String publishedAt = article.publishedAt() != null
+                ? article.publishedAt().toString()
                 : "(발행일자 없음)";
 
         document.add(new Paragraph("제목").setBold());
@@ -78,20 +58,16 @@ public class PdfController {
         document.add(new Paragraph("\n발행일").setBold());
         document.add(new Paragraph(publishedAt));
 
-        if (analysis != null) {
+        if (article.analyzed()) {
             document.add(new Paragraph("\n요약").setBold());
-            document.add(new Paragraph(clean(analysis.getSummary())));
+            document.add(new Paragraph(clean(article.summary())));
             document.add(new Paragraph("\n인사이트").setBold());
-            document.add(new Paragraph(clean(analysis.getInsight())));
+            document.add(new Paragraph(clean(article.insight())));
         } else {
             document.add(new Paragraph("\n(분석 데이터 없음)").setBold());
         }
 
-        document.close();
-
-        response.getOutputStream().write(baos.toByteArray());
-        response.getOutputStream().flush();
-        response.getOutputStream().close();
+        document.close();   // PDF 꼬리(xref·trailer)를 쓰고 응답 스트림을 닫는다
     }
 
     private String clean(String v) {
@@ -0,0 +1,67 @@
+package com.insk.insk_backend.controller;
+
+import com.insk.insk_backend.dto.PdfExportDto;
+import com.insk.insk_backend.service.PdfExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * 여러 기사 PDF 일괄 내보내기. POST로 작업을 만들고(202), GET으로 진행 상황을 폴링하다 READY면 내려받는다.
+ */
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class PdfExportController {
+
+    private final PdfExportService exportService;
+
+    @PostMapping
+    public ResponseEntity<PdfExportService.Status> start(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody PdfExportDto.Request request
+    ) throws IOException {
+        return ResponseEntity.accepted().body(exportService.start(email(userDetails), request));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PdfExportService.Status> status(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String jobId
+    ) {
+        return ResponseEntity.ok(exportService.status(email(userDetails), jobId));
+    }
+
+    /** 아직 렌더링 중이거나 전부 실패했으면 409와 현재 상태. */
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<?> download(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String jobId
+    ) {
+        String email = email(userDetails);
+        PdfExportService.Status status = exportService.status(email, jobId);
+        if (status.state() != PdfExportService.State.READY) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(status);
+        }
+
+        boolean merged = status.format() == PdfExportDto.Format.MERGED;
+        StreamingResponseBody body = out -> exportService.writeTo(email, jobId, out);
+        return ResponseEntity.ok()
+                .contentType(merged ? MediaType.APPLICATION_PDF : MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"articles_" + jobId + (merged ? ".pdf" : ".zip") + "\"")
+                .body(body);
+    }
+
+    private static String email(UserDetails userDetails) {
+        return userDetails != null ? userDetails.getUsername() : null;
+    }
+}
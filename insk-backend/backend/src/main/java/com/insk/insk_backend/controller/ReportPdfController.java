@@ -0,0 +1,105 @@
+package com.insk.insk_backend.controller;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.service.ArticlePdfService;
+import com.insk.insk_backend.service.PdfReportLoader;
+import com.insk.insk_backend.service.ReportArtifactService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PDF 리포트 다운로드. 데이터는 요청 스레드에서 트랜잭션으로 읽고(없는 기사 → 400이 응답 전에 난다),
+ * 렌더링은 StreamingResponseBody로 응답 스트림에 바로 쓴다 (byte[] 버퍼 없음).
+ *
+ * <p>주간 다이제스트·부서별 리포트는 기본 파라미터면 {@link ReportArtifactService}가 미리 만든 파일을 내보낸다.
+ * 파일 Resource + ETag라 Range(206)·If-None-Match(304)는 Spring이 처리하고, 인증이 필요한 경로라 private 캐시만 허용한다.
+ */
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+public class ReportPdfController {
+
+    private final PdfReportLoader reportLoader;
+    private final ArticlePdfService pdfService;
+    private final ReportArtifactService artifactService;
+
+    @GetMapping("/articles/{articleId}/pdf")
+    public ResponseEntity<StreamingResponseBody> articleReport(@PathVariable Long articleId) {
+        PdfReportLoader.ArticleReport report = reportLoader.loadArticle(articleId);
+        return pdf("article_report_" + articleId + ".pdf", out -> render(() -> pdfService.writeArticlePdf(report, out)));
+    }
+
+    @GetMapping("/weekly-digest/pdf")
+    public ResponseEntity<?> weeklyDigest(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+        int d = days <= 0 ? 7 : days;
+        int l = limit <= 0 ? 10 : limit;
+        Optional<ReportArtifactService.Artifact> artifact = artifactService.weeklyDigest(d, l);
+        if (artifact.isPresent()) return artifact(artifact.get(), "weekly_digest.pdf");
+
+        List<PdfReportLoader.DigestEntry> entries = reportLoader.loadWeeklyDigest(d, l);
+        return pdf("weekly_digest.pdf", out -> render(() -> pdfService.writeWeeklyDigestPdf(d, entries, out)));
+    }
+
+    @GetMapping("/departments/{department}/pdf")
+    public ResponseEntity<?> departmentTop(
+            @PathVariable DepartmentType department,
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(defaultValue = "5") int limit) {
+        int d = days <= 0 ? 7 : days;
+        int l = limit <= 0 ? 5 : limit;
+        String filename = "department_" + department.name() + ".pdf";
+        Optional<ReportArtifactService.Artifact> artifact = artifactService.department(department, d, l);
+        if (artifact.isPresent()) return artifact(artifact.get(), filename);
+
+        List<PdfReportLoader.DepartmentEntry> entries = reportLoader.loadDepartmentTop(department, d, l);
+        return pdf(filename,
+                out -> render(() -> pdfService.writeDepartmentTop5Pdf(department, d, entries, out)));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> pdf(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    private static ResponseEntity<Resource> artifact(ReportArtifactService.Artifact artifact, String filename) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .eTag(artifact.etag())
+                .lastModified(artifact.renderedAt())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePrivate().mustRevalidate())
+                .body(new FileSystemResource(artifact.file()));
+    }
+
+    /** StreamingResponseBody는 IOException만 던질 수 있어 렌더링 예외를 감싼다. */
+    private static void render(PdfWrite write) throws IOException {
+        try {
+            write.run();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("PDF 렌더링 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PdfWrite {
+        void run() throws Exception;
+    }
+}
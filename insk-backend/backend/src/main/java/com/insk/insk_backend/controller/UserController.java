@@ -1,12 +1,13 @@
 package com.insk.insk_backend.controller;
 
-import com.insk.insk_backend.domain.User;
 import com.insk.insk_backend.dto.UserDto;
+import com.insk.insk_backend.exception.PasswordHashingBusyException;
 import com.insk.insk_backend.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,6 +26,8 @@ public class UserController {
         } catch (IllegalArgumentException e) {
             // 이미 사용 중인 이메일인 경우
             throw new IllegalArgumentException(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            throw e;   // 해시 풀 포화 → 503
         } catch (Exception e) {
             throw new RuntimeException("회원가입 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
@@ -32,10 +35,10 @@ public class UserController {
 
     @PutMapping("/me/department")
     public ResponseEntity<Void> updateDepartment(
-            @AuthenticationPrincipal User user,
+            @AuthenticationPrincipal UserDetails userDetails,
             @Valid @RequestBody UserDto.DepartmentUpdateRequest request
     ) {
-        userService.updateDepartment(user.getId(), request);
+        userService.updateDepartment(userDetails.getUsername(), request);
         return ResponseEntity.noContent().build();
     }
 
@@ -60,6 +63,8 @@ public class UserController {
             return ResponseEntity.ok(userService.resetPassword(request));
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            throw e;   // 해시 풀 포화 → 503
         } catch (Exception e) {
             throw new RuntimeException("비밀번호 재설정 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
@@ -0,0 +1,55 @@
+package com.insk.insk_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 분석 결과 캐시 (본문 내용 주소 기반).
+ *
+ * <p>키는 SHA-256(정규화 본문 + 모델 + 프롬프트 버전). 같은 기사가 다른 URL로 재배포되거나
+ * DLQ가 이미 본 본문을 다시 분석할 때 LLM 호출 없이 결과를 재사용한다.
+ * 모델·프롬프트가 바뀌면 키가 달라져 자연스럽게 무효화된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_analysis_cache_key", columnNames = "cache_key"))
+public class AnalysisCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** SHA-256 hex (64자). */
+    @Column(name = "cache_key", nullable = false, length = 64)
+    private String cacheKey;
+
+    @Column(name = "model", nullable = false, length = 50)
+    private String model;
+
+    @Column(name = "prompt_version", nullable = false, length = 30)
+    private String promptVersion;
+
+    /** AnalysisResponse JSON. */
+    @Lob
+    @Column(name = "result_json", columnDefinition = "TEXT", nullable = false)
+    private String resultJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public AnalysisCacheEntry(String cacheKey, String model, String promptVersion, String resultJson) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.promptVersion = promptVersion;
+        this.resultJson = resultJson;
+        this.createdAt = LocalDateTime.now();
+    }
+}
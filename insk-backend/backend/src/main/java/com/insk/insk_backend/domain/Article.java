@@ -1,5 +1,6 @@
 package com.insk.insk_backend.domain;
 
+import com.insk.insk_backend.util.UrlCanonicalizer;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,7 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "articles") // ERD 테이블명
+@Table(name = "articles", // ERD 테이블명
+        indexes = @Index(name = "idx_articles_canonical_url", columnList = "canonical_url"))
 public class Article {
 
     @Id
@@ -25,6 +27,13 @@ public class Article {
     @Column(name = "original_url", nullable = false, unique = true, length = 512)
     private String originalUrl;
 
+    /**
+     * 중복 판정용 정규화 URL (추적 파라미터·scheme·host 정규화, {@link UrlCanonicalizer}).
+     * 기존 행은 null로 두고 기동 시 URL 인덱스 초기화가 채운다.
+     */
+    @Column(name = "canonical_url", length = UrlCanonicalizer.MAX_LENGTH)
+    private String canonicalUrl;
+
     @Column(name = "published_at", nullable = false)
     private LocalDateTime publishedAt;
 
@@ -71,6 +80,7 @@ public class Article {
                    String language) {
         this.title = title;
         this.originalUrl = originalUrl;
+        this.canonicalUrl = UrlCanonicalizer.canonicalize(originalUrl);
         this.publishedAt = publishedAt;
         this.createdAt = createdAt;
         this.source = source;
@@ -5,7 +5,13 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "article_feedbacks")
+@Table(name = "article_feedbacks",
+        indexes = {
+                // 기사별 최근 댓글(ORDER BY created_at DESC LIMIT n)·집계를 인덱스 범위 스캔으로
+                @Index(name = "idx_feedbacks_article_created", columnList = "article_id, created_at"),
+                // 관심기사: 사용자의 좋아요 기사 ID를 테이블 접근 없이 (커버링)
+                @Index(name = "idx_feedbacks_user_liked_article", columnList = "user_id, liked, article_id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
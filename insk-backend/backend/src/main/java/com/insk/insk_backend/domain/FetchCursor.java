@@ -0,0 +1,80 @@
+package com.insk.insk_backend.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * (소스, 키워드)별 증분 수집 커서.
+ *
+ * <p>지난 실행에서 본 가장 최신 발행시각(watermark)과 최근 URL의 Bloom filter를 보관해,
+ * 다음 실행에서 최신순으로 페이지를 넘기다 이미 본 구간에 닿으면 멈춘다.
+ * 키워드 검색을 쓰지 않는 RSS 소스는 keyword를 빈 문자열로 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "fetch_cursors",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_fetch_cursor_source_keyword", columnNames = {"source", "keyword"}))
+public class FetchCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source", nullable = false, length = 50)
+    private String source;
+
+    @Column(name = "keyword", nullable = false, length = 100)
+    private String keyword;
+
+    /** 지금까지 본 가장 최신 발행시각. 처음 수집하는 커서는 null. */
+    @Column(name = "last_published_at")
+    private LocalDateTime lastPublishedAt;
+
+    /** 최근 본 URL의 Bloom filter (Base64). watermark와 같은 시각의 기사 중복 판정용. */
+    @Lob
+    @Column(name = "recent_url_bloom", columnDefinition = "TEXT")
+    private String recentUrlBloom;
+
+    /** Bloom filter에 넣은 URL 수. 용량을 넘으면 필터를 새로 시작한다(오탐률 유지). */
+    @Column(name = "bloom_count", nullable = false)
+    private int bloomCount;
+
+    /** 처리에 실패한 URL별 누적 실패 횟수 (JSON 객체). 한도를 넘긴 URL은 "본 것"으로 넘기고 여기서 뺀다. */
+    @Lob
+    @Column(name = "failed_url_attempts", columnDefinition = "TEXT")
+    private String failedUrlAttempts;
+
+    /**
+     * 낙관적 락. 수동 실행(/run-pipeline)과 정기 실행이 같은 커서를 동시에 전진시키면 나중 저장이 실패한다.
+     * 기존 행은 default 0으로 채워진다.
+     */
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public FetchCursor(String source, String keyword) {
+        this.source = source;
+        this.keyword = keyword;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(LocalDateTime lastPublishedAt, String recentUrlBloom, int bloomCount,
+                        String failedUrlAttempts) {
+        this.lastPublishedAt = lastPublishedAt;
+        this.recentUrlBloom = recentUrlBloom;
+        this.bloomCount = bloomCount;
+        this.failedUrlAttempts = failedUrlAttempts;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -42,6 +42,10 @@ public class User implements UserDetails {
     @Column(name = "reset_token_expiry")
     private LocalDateTime resetTokenExpiry;
 
+    // 비밀번호 변경 시각 — 이보다 먼저 발급된 JWT는 무효 (UserStateCache)
+    @Column(name = "credentials_changed_at")
+    private LocalDateTime credentialsChangedAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -59,6 +63,12 @@ public class User implements UserDetails {
 
     public void changePassword(String encodedPassword) {
         this.password = encodedPassword;
+        this.credentialsChangedAt = LocalDateTime.now();
+    }
+
+    // 같은 비밀번호를 새 형식·작업 계수로 다시 해시한 것 — 발급된 토큰은 그대로 유효
+    public void rehashPassword(String encodedPassword) {
+        this.password = encodedPassword;
     }
 
     public void setResetToken(String token, LocalDateTime expiry) {
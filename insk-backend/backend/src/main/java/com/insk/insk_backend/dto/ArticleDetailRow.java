@@ -0,0 +1,22 @@
+package com.insk.insk_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 상세 한 줄 프로젝션 — 기사·분석·점수를 LEFT JOIN 한 번으로 읽는다 (ArticleRepository.findDetail).
+ * 분석·점수가 없으면 해당 컬럼은 null (analysisId == null이면 미분석).
+ */
+public record ArticleDetailRow(
+        Long articleId, String title, String originalUrl, String source, String country, String language,
+        LocalDateTime publishedAt,
+        Long analysisId, String summary, String insight, String category, String tags,
+        Double score, Integer likeCount, Integer dislikeCount, Double textScore, Integer viewCount) {
+
+    public boolean analyzed() {
+        return analysisId != null;
+    }
+
+    public boolean scored() {
+        return score != null;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.*;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ArticleDto {
 
@@ -48,6 +49,18 @@ public class ArticleDto {
         }
     }
 
+    // ===========================
+    // 📌 관심기사 keyset 페이지 Response
+    // ===========================
+    /** nextCursor를 다음 요청의 cursor로 넘기면 이어서 받는다 (hasNext=false면 null). */
+    @Getter
+    @Builder
+    public static class CursorResponse {
+        private List<Response> articles;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
     // ===========================
     // 📌 뉴스 상세 Response
     // ===========================
@@ -87,6 +100,22 @@ public class ArticleDto {
                     .publishedAt(article.getPublishedAt())
                     .build();
         }
+
+        public static DetailResponse from(ArticleDetailRow row) {
+            return DetailResponse.builder()
+                    .articleId(row.articleId())
+                    .title(row.title())
+                    .originalUrl(row.originalUrl())
+                    .summary(row.analyzed() ? row.summary() : "")
+                    .insight(row.analyzed() ? row.insight() : "")
+                    .category(row.analyzed() ? row.category() : "")
+                    .tags(row.analyzed() ? row.tags() : "[]")
+                    .source(row.source())
+                    .country(row.country())
+                    .language(row.language())
+                    .publishedAt(row.publishedAt())
+                    .build();
+        }
     }
 
         @Getter
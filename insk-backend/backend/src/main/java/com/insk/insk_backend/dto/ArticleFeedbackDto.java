@@ -28,6 +28,15 @@ public class ArticleFeedbackDto {
         private LocalDateTime createdAt;
     }
 
+    /** 피드백 목록 한 페이지. nextCursor를 다음 요청의 cursor로 넘기면 이어서 받는다 (hasNext=false면 null). */
+    @Getter
+    @Builder
+    public static class PageResponse {
+        private List<Response> feedbacks;
+        private String nextCursor;
+        private boolean hasNext;
+    }
+
     @Getter
     @Builder
     public static class SummaryResponse {
@@ -0,0 +1,14 @@
+package com.insk.insk_backend.dto;
+
+import com.insk.insk_backend.domain.DepartmentType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드백 목록 한 줄 프로젝션 — 작성자 이메일·부서를 LEFT JOIN으로 같이 읽는다 (ArticleFeedbackRepository.findPage*).
+ * 엔티티를 올리지 않아 행마다 LAZY user를 건드리던 N+1이 없다. 익명 피드백이면 userEmail·department는 null.
+ */
+public record FeedbackRow(
+        Long feedbackId, Long articleId, Boolean liked, String feedbackText,
+        String userEmail, DepartmentType department, LocalDateTime createdAt) {
+}
@@ -1,5 +1,6 @@
 package com.insk.insk_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -75,6 +76,10 @@ public class OpenAIDto {
         private String categoryMajor; // 대분류 (e.g., "Telco")
         private List<String> tags; // 키워드 태그 리스트
 
+        // 이 결과를 실제로 낸 모델 (LlmAnalysisService·BatchAnalysisService가 채움). LLM 응답·캐시 JSON에는 없다.
+        @JsonIgnore
+        private String model;
+
         public String getTagsJson() {
             if (this.tags == null || this.tags.isEmpty()) {
                 return "[]";
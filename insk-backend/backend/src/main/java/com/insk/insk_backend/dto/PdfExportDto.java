@@ -0,0 +1,33 @@
+package com.insk.insk_backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+public class PdfExportDto {
+
+    /** 내보낼 기사 묶음 */
+    public enum Source { FAVORITES, SEARCH, CATEGORY }
+
+    /** ZIP: 기사별 PDF 묶음, MERGED: 한 PDF로 병합 */
+    public enum Format { ZIP, MERGED }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+        private Source source;
+        private Format format;
+
+        // SEARCH
+        private String query;
+        private Integer limit;
+
+        // CATEGORY (발행일 기준, to 포함)
+        private String category;
+        private LocalDate from;
+        private LocalDate to;
+    }
+}
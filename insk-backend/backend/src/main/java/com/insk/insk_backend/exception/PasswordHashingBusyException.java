@@ -0,0 +1,12 @@
+package com.insk.insk_backend.exception;
+
+/**
+ * 비밀번호 해시 풀이 포화돼 로그인·가입을 바로 처리할 수 없을 때 (503 + Retry-After).
+ * 로그인 폭주가 다른 API의 CPU까지 잡아먹지 않도록 기다리지 않고 거절한다 (OffloadedPasswordEncoder).
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,12 @@
+package com.insk.insk_backend.exception;
+
+/**
+ * 한 사용자가 동시에 돌릴 수 있는 PDF 내보내기 작업 수(또는 서버 전체 보관 작업 수)를 넘었을 때 (429 + Retry-After).
+ * 기존 작업이 끝나면 다시 요청할 수 있다 (PdfExportService).
+ */
+public class TooManyExportJobsException extends RuntimeException {
+
+    public TooManyExportJobsException(String message) {
+        super(message);
+    }
+}
@@ -31,10 +31,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 1) Authorization → JWT 파싱
             String token = jwtTokenProvider.resolveToken(request);
 
-            // 2) 검증 후 SecurityContext에 인증 저장
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 2) 검증(한 번 파싱) 후 SecurityContext에 인증 저장 — 무효·폐기 토큰이면 null
+            Authentication authentication = token != null ? jwtTokenProvider.getAuthentication(token) : null;
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
                 log.debug("JWT 인증 성공: {}", authentication.getName());
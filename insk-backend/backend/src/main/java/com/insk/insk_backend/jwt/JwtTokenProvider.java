@@ -1,7 +1,11 @@
 package com.insk.insk_backend.jwt;
 
+import com.insk.insk_backend.domain.User;
 import com.insk.insk_backend.security.CustomUserDetailsService;
+import com.insk.insk_backend.security.JwtPrincipal;
+import com.insk.insk_backend.security.UserStateCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.io.Decoders;
@@ -15,13 +19,24 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_DEPARTMENT = "dept";
+
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserStateCache userStateCache;
+
+    // 클레임 기반 인증 (요청마다 users 조회 없음). false면 매 요청 UserDetailsService 조회
+    @Value("${jwt.stateless:true}")
+    private boolean stateless = true;
 
     @Value("${jwt.secret}")
     private String secretKey;              // Base64 인코딩된 문자열 (길게)
@@ -41,13 +56,15 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    // 토큰 생성
-    public String createToken(String email) {
+    // 토큰 생성 — 무상태 인증용으로 userId·부서를 클레임에 같이 싣는다
+    public String createToken(User user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + validityInMs);
 
         return Jwts.builder()
-                .subject(email)
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_DEPARTMENT, user.getDepartment() != null ? user.getDepartment().name() : null)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key)           // SecretKey 사용
@@ -63,30 +80,47 @@ public class JwtTokenProvider {
         return null;
     }
 
-    // 토큰 유효성 검사
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 → Authentication. 서명·만료 검증과 클레임 추출을 한 번의 파싱으로 끝낸다 (validateToken + getSubject 이중 파싱 대체).
+     * 유효하지 않거나 폐기된 토큰이면 null.
+     *
+     * <p>무상태 모드(jwt.stateless, 기본 on)에서는 클레임으로 JwtPrincipal을 만들고, 폐기 여부만
+     * UserStateCache(짧은 TTL)로 확인한다 — 계정이 없어졌거나, userId가 다르거나, 비밀번호 변경 전에 발급된 토큰은 거부.
+     * uid 클레임이 없는 예전 토큰이거나 무상태 모드를 끄면 기존처럼 UserDetailsService로 조회한다.
+     */
+    public Authentication getAuthentication(String token) {
+        Claims claims;
         try {
-            jwtParser.parseSignedClaims(token); // 예외 안 나면 유효
-            return true;
-        } catch (Exception e) {
-            return false;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
-    }
 
-    // 이메일(subject) 추출
-    public String getSubject(String token) {
-        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
-        return claims.getSubject();
+        String email = claims.getSubject();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        if (!stateless || userId == null) {
+            var userDetails = customUserDetailsService.loadUserByUsername(email);
+            return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        }
+
+        UserStateCache.UserState state = userStateCache.get(email).orElse(null);
+        if (state == null || state.userId() == null || state.userId() != userId.longValue()
+                || issuedBeforeCredentialsChange(claims, state)) {
+            return null;
+        }
+
+        // 부서는 토큰 발급 후 바뀔 수 있어 캐시된 최신 값을 쓴다
+        JwtPrincipal principal = new JwtPrincipal(email, state.userId(), state.department());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
     }
 
-    // Authentication 생성
-    public Authentication getAuthentication(String token) {
-        String email = getSubject(token);
-        var userDetails = customUserDetailsService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-        );
+    private static boolean issuedBeforeCredentialsChange(Claims claims, UserStateCache.UserState state) {
+        if (state.credentialsChangedAt() == null) return false;
+        Date issuedAt = claims.getIssuedAt();
+        if (issuedAt == null) return true;
+        // iat는 초 단위라 변경 시각도 초로 내려 비교 (같은 초에 재로그인한 토큰은 유효)
+        Instant changedAt = state.credentialsChangedAt().atZone(ZoneId.systemDefault()).toInstant()
+                .truncatedTo(ChronoUnit.SECONDS);
+        return issuedAt.toInstant().isBefore(changedAt);
     }
 }
@@ -0,0 +1,11 @@
+package com.insk.insk_backend.repository;
+
+import com.insk.insk_backend.domain.AnalysisCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface AnalysisCacheRepository extends JpaRepository<AnalysisCacheEntry, Long> {
+
+    Optional<AnalysisCacheEntry> findByCacheKey(String cacheKey);
+}
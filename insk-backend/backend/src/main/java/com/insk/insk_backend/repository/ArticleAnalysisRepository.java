@@ -28,6 +28,26 @@ public interface ArticleAnalysisRepository extends JpaRepository<ArticleAnalysis
     // ✅ 키워드 추천용: 최근 N일 기사 분석 가져오기
     List<ArticleAnalysis> findByCreatedAtAfterOrderByCreatedAtDesc(LocalDateTime from);
 
+    // 주간 다이제스트용: 최근 N일 상위 limit건만, 기사까지 한 번에 (LAZY article N+1 방지)
+    @org.springframework.data.jpa.repository.Query(
+            "SELECT aa FROM ArticleAnalysis aa " +
+            "JOIN FETCH aa.article " +
+            "WHERE aa.createdAt > :from " +
+            "ORDER BY aa.createdAt DESC"
+    )
+    List<ArticleAnalysis> findRecentWithArticle(LocalDateTime from, org.springframework.data.domain.Pageable pageable);
+
+    // PDF 일괄 내보내기: 카테고리 + 발행일 구간의 기사 ID만 (최신순)
+    @org.springframework.data.jpa.repository.Query(
+            "SELECT a.articleId FROM ArticleAnalysis aa " +
+            "JOIN aa.article a " +
+            "WHERE aa.category = :category " +
+            "AND a.publishedAt >= :from AND a.publishedAt < :to " +
+            "ORDER BY a.publishedAt DESC"
+    )
+    List<Long> findArticleIdsByCategoryAndPublishedBetween(
+            String category, LocalDateTime from, LocalDateTime to, org.springframework.data.domain.Pageable pageable);
+
     List<ArticleAnalysis> findBySummaryContainingIgnoreCaseOrInsightContainingIgnoreCase(
             String summary, String insight
     );
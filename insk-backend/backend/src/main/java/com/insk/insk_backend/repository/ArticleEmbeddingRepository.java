@@ -1,8 +1,10 @@
 package com.insk.insk_backend.repository;
 
 import com.insk.insk_backend.domain.ArticleEmbedding;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -17,4 +19,11 @@ public interface ArticleEmbeddingRepository extends JpaRepository<ArticleEmbeddi
      */
     @Query("SELECT e.article.articleId, e.embeddingJson FROM ArticleEmbedding e")
     List<Object[]> findAllForIndexing();
+
+    /**
+     * 재색인 백필용 keyset 페이지 — id 순으로 afterId 다음부터 pageable 크기만큼.
+     * 전체를 한 번에 올리지 않아 기사 수와 무관하게 메모리가 일정하다. row[0]=id, row[1]=articleId, row[2]=json.
+     */
+    @Query("SELECT e.id, e.article.articleId, e.embeddingJson FROM ArticleEmbedding e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findForIndexingAfter(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -1,9 +1,15 @@
 package com.insk.insk_backend.repository;
 
 import com.insk.insk_backend.domain.ArticleFeedback;
+import com.insk.insk_backend.dto.FeedbackRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleFeedbackRepository extends JpaRepository<ArticleFeedback, Long> {
 
@@ -20,4 +26,54 @@ public interface ArticleFeedbackRepository extends JpaRepository<ArticleFeedback
     // 사용자별 좋아요한 기사 조회
     List<ArticleFeedback> findByUser_EmailAndLikedTrue(String email);
 
+    // 최근 텍스트 피드백 N건만 (전체 로드 후 Java 정렬·limit 대체). N은 Pageable로.
+    @Query("""
+        SELECT f.feedbackText FROM ArticleFeedback f
+        WHERE f.article.articleId = :articleId
+        AND f.feedbackText IS NOT NULL AND TRIM(f.feedbackText) <> ''
+        ORDER BY f.createdAt DESC, f.id DESC
+        """)
+    List<String> findRecentFeedbackTexts(Long articleId, Pageable pageable);
+
+    // 좋아요/싫어요 집계를 한 번에: [liked(Boolean), count(Long)] (COUNT 두 번 대체)
+    @Query("""
+        SELECT f.liked, COUNT(f) FROM ArticleFeedback f
+        WHERE f.article.articleId = :articleId AND f.liked IS NOT NULL
+        GROUP BY f.liked
+        """)
+    List<Object[]> countVotesByArticle(Long articleId);
+
+    // 내 좋아요/싫어요 한 건 (전체 피드백을 훑으며 LAZY user를 건드리던 방식 대체)
+    Optional<ArticleFeedback> findFirstByArticle_ArticleIdAndUser_EmailAndLikedIsNotNull(Long articleId, String email);
+
+    /**
+     * 피드백 목록 첫 페이지 — 최신순 (createdAt, id) DESC, 크기는 Pageable로.
+     * 작성자는 LEFT JOIN 프로젝션으로 같이 읽어 행마다 user를 로드하지 않는다.
+     */
+    @Query("""
+        SELECT new com.insk.insk_backend.dto.FeedbackRow(
+            f.id, f.article.articleId, f.liked, f.feedbackText, u.email, u.department, f.createdAt)
+        FROM ArticleFeedback f LEFT JOIN f.user u
+        WHERE f.article.articleId = :articleId
+        ORDER BY f.createdAt DESC, f.id DESC
+        """)
+    List<FeedbackRow> findPage(@Param("articleId") Long articleId, Pageable pageable);
+
+    /**
+     * 피드백 목록 다음 페이지 — 직전 페이지 마지막 행 (createdAt, id)보다 오래된 것부터 (keyset).
+     * OFFSET과 달리 앞 페이지를 건너뛰며 읽지 않아, (article_id, created_at) 인덱스에서 몇 번째 페이지든 비용이 같다.
+     */
+    @Query("""
+        SELECT new com.insk.insk_backend.dto.FeedbackRow(
+            f.id, f.article.articleId, f.liked, f.feedbackText, u.email, u.department, f.createdAt)
+        FROM ArticleFeedback f LEFT JOIN f.user u
+        WHERE f.article.articleId = :articleId
+        AND (f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id))
+        ORDER BY f.createdAt DESC, f.id DESC
+        """)
+    List<FeedbackRow> findPageBefore(@Param("articleId") Long articleId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
 }
@@ -2,16 +2,36 @@ package com.insk.insk_backend.repository;
 
 import com.insk.insk_backend.domain.AnalysisStatus;
 import com.insk.insk_backend.domain.Article;
+import com.insk.insk_backend.dto.ArticleDetailRow;
+import com.insk.insk_backend.dto.ArticleDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
     boolean existsByOriginalUrl(String originalUrl);
+
+    /** URL Bloom filter 양성(positive) 확인용. 정규화 URL 또는 원문 URL이 같으면 이미 수집된 기사. */
+    boolean existsByCanonicalUrlOrOriginalUrl(String canonicalUrl, String originalUrl);
+
+    /** 기동 시 URL Bloom filter 구성용: [articleId, originalUrl, canonicalUrl]. */
+    @Query("SELECT a.articleId, a.originalUrl, a.canonicalUrl FROM Article a")
+    List<Object[]> findAllUrls();
+
+    /** canonical_url 컬럼 추가 전 행의 백필. */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Article a SET a.canonicalUrl = :canonicalUrl WHERE a.articleId = :articleId")
+    int updateCanonicalUrl(@Param("articleId") Long articleId, @Param("canonicalUrl") String canonicalUrl);
     List<Article> findByTitleContainingIgnoreCaseOrderByPublishedAtDesc(String title);
 
     /** DLQ 재처리용: 분석이 최종 실패한 기사 목록 (멘토 피드백 #5). */
@@ -23,4 +43,71 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
      */
     @Query("SELECT a.title FROM Article a WHERE a.publishedAt >= :since AND a.title IS NOT NULL")
     List<String> findTitlesPublishedAfter(@Param("since") LocalDateTime since);
+
+    /**
+     * 기사 상세: 기사·분석·점수를 한 번의 LEFT JOIN으로 (findById → findByArticle → 점수 조회 3왕복 대체).
+     * 분석·점수는 기사당 최대 1건(OneToOne)이라 행이 늘지 않는다.
+     */
+    @Query("""
+        SELECT new com.insk.insk_backend.dto.ArticleDetailRow(
+            a.articleId, a.title, a.originalUrl, a.source, a.country, a.language, a.publishedAt,
+            aa.analysisId, aa.summary, aa.insight, aa.category, aa.tags,
+            s.score, s.likeCount, s.dislikeCount, s.textScore, s.viewCount)
+        FROM Article a
+        LEFT JOIN ArticleAnalysis aa ON aa.article = a
+        LEFT JOIN ArticleScore s ON s.article = a
+        WHERE a.articleId = :articleId
+        """)
+    Optional<ArticleDetailRow> findDetail(@Param("articleId") Long articleId);
+
+    /**
+     * 관심기사(좋아요한 기사) 페이지 — 기사·분석을 LEFT JOIN하고 좋아요는 EXISTS 세미조인으로 걸러
+     * ArticleDto.Response로 바로 만든다. 정렬 publishedAt DESC, articleId DESC, LIMIT/OFFSET은 DB에서.
+     * (좋아요 전체 로드 → subList → 기사마다 findById → 현재 페이지만 Java 정렬 대체)
+     * 같은 기사에 좋아요 행이 중복돼도 EXISTS라 한 번만 나온다.
+     */
+    @Query(value = """
+        SELECT new com.insk.insk_backend.dto.ArticleDto$Response(
+            a.articleId, a.title, a.originalUrl, COALESCE(aa.summary, ''), COALESCE(aa.category, ''),
+            a.source, a.country, a.language, a.publishedAt)
+        FROM Article a
+        LEFT JOIN ArticleAnalysis aa ON aa.article = a
+        WHERE EXISTS (SELECT 1 FROM ArticleFeedback f
+                      WHERE f.article = a AND f.user.email = :email AND f.liked = true)
+        ORDER BY a.publishedAt DESC, a.articleId DESC
+        """,
+            countQuery = """
+        SELECT COUNT(a) FROM Article a
+        WHERE EXISTS (SELECT 1 FROM ArticleFeedback f
+                      WHERE f.article = a AND f.user.email = :email AND f.liked = true)
+        """)
+    Page<ArticleDto.Response> findFavorites(@Param("email") String email, Pageable pageable);
+
+    /** 관심기사 keyset 다음 페이지 — 직전 페이지 마지막 (publishedAt, articleId)보다 오래된 것부터. COUNT 없음. */
+    @Query("""
+        SELECT new com.insk.insk_backend.dto.ArticleDto$Response(
+            a.articleId, a.title, a.originalUrl, COALESCE(aa.summary, ''), COALESCE(aa.category, ''),
+            a.source, a.country, a.language, a.publishedAt)
+        FROM Article a
+        LEFT JOIN ArticleAnalysis aa ON aa.article = a
+        WHERE EXISTS (SELECT 1 FROM ArticleFeedback f
+                      WHERE f.article = a AND f.user.email = :email AND f.liked = true)
+        AND (:publishedAt IS NULL
+             OR a.publishedAt < :publishedAt
+             OR (a.publishedAt = :publishedAt AND a.articleId < :articleId))
+        ORDER BY a.publishedAt DESC, a.articleId DESC
+        """)
+    List<ArticleDto.Response> findFavoritesBefore(@Param("email") String email,
+                                                  @Param("publishedAt") LocalDateTime publishedAt,
+                                                  @Param("articleId") Long articleId,
+                                                  Pageable pageable);
+
+    /** 관심기사 ID만 같은 순서로 (PDF 일괄 내보내기용). 개수는 Pageable로 자른다. */
+    @Query("""
+        SELECT a.articleId FROM Article a
+        WHERE EXISTS (SELECT 1 FROM ArticleFeedback f
+                      WHERE f.article = a AND f.user.email = :email AND f.liked = true)
+        ORDER BY a.publishedAt DESC, a.articleId DESC
+        """)
+    List<Long> findFavoriteArticleIds(@Param("email") String email, Pageable pageable);
 }
@@ -3,9 +3,14 @@ package com.insk.insk_backend.repository;
 import com.insk.insk_backend.domain.ArticleScore;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ArticleScoreRepository extends JpaRepository<ArticleScore, Long> {
 
     Optional<ArticleScore> findByArticle_ArticleId(Long articleId);
+
+    // 리포트 목록용 일괄 조회 (기사별 findByArticle_ArticleId N+1 대체)
+    List<ArticleScore> findByArticle_ArticleIdIn(Collection<Long> articleIds);
 }
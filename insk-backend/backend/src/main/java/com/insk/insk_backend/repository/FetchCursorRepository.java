@@ -0,0 +1,11 @@
+package com.insk.insk_backend.repository;
+
+import com.insk.insk_backend.domain.FetchCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface FetchCursorRepository extends JpaRepository<FetchCursor, Long> {
+
+    Optional<FetchCursor> findBySourceAndKeyword(String source, String keyword);
+}
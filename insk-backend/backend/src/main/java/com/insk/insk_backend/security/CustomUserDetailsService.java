@@ -5,10 +5,11 @@ import com.insk.insk_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -18,4 +19,14 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자 없음: " + email));
         return new CustomUserDetails(user);
     }
+
+    /** 로그인 성공 후 해시가 낡았으면(접두사 없음·작업 계수 변경) DaoAuthenticationProvider가 새 해시로 호출한다. */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자 없음: " + userDetails.getUsername()));
+        user.rehashPassword(newPassword);
+        return new CustomUserDetails(userRepository.save(user));
+    }
 }
@@ -0,0 +1,31 @@
+package com.insk.insk_backend.security;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JWT 클레임으로 만든 인증 주체 — 요청마다 users 테이블을 읽지 않는다 (JwtTokenProvider 무상태 모드).
+ * 컨트롤러는 지금처럼 @AuthenticationPrincipal UserDetails로 받아 getUsername()(이메일)을 쓰면 된다.
+ */
+public record JwtPrincipal(String email, Long userId, DepartmentType department) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    /** 토큰 인증이라 비밀번호를 들고 다니지 않는다. */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
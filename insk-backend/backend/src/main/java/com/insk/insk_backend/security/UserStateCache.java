@@ -0,0 +1,64 @@
+package com.insk.insk_backend.security;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 무상태 인증용 사용자 상태 캐시 — 이메일별 (userId, 부서, 비밀번호 변경 시각)을 짧은 TTL 동안 메모리에 둔다.
+ *
+ * <p>토큰 서명만 믿으면 탈퇴·비밀번호 재설정 뒤에도 만료 전까지 옛 토큰이 통한다. 그렇다고 요청마다 findByEmail을 하면
+ * 인증된 API 호출마다 DB 왕복이 하나씩 붙는다. 그 사이로, 사용자 상태를 jwt.user-state-ttl-seconds(기본 30초)만
+ * 캐시해 폐기 반영을 그 시간 안으로 묶는다. 없는 사용자도 같은 TTL로 기억한다(삭제된 계정 토큰 반복 시 DB 보호).
+ * 같은 인스턴스에서 바뀐 상태는 evict로 바로 반영한다 (UserService).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStateCache {
+
+    public record UserState(Long userId, DepartmentType department, LocalDateTime credentialsChangedAt) {
+    }
+
+    /** state == null이면 "없는 사용자". */
+    private record Entry(UserState state, long expiresAtNanos) {
+    }
+
+    private final UserRepository userRepository;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    // 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${jwt.user-state-ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    @Value("${jwt.user-state-max-entries:10000}")
+    private int maxEntries = 10_000;
+
+    public Optional<UserState> get(String email) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry == null || now - entry.expiresAtNanos() >= 0) {
+            UserState state = userRepository.findByEmail(email)
+                    .map(u -> new UserState(u.getId(), u.getDepartment(), u.getCredentialsChangedAt()))
+                    .orElse(null);
+            if (entries.size() >= maxEntries) {
+                entries.values().removeIf(e -> now - e.expiresAtNanos() >= 0);
+                if (entries.size() >= maxEntries) entries.clear();
+            }
+            entry = new Entry(state, now + ttlSeconds * 1_000_000_000L);
+            entries.put(email, entry);
+        }
+        return Optional.ofNullable(entry.state());
+    }
+
+    public void evict(String email) {
+        entries.remove(email);
+    }
+}
@@ -0,0 +1,139 @@
+package com.insk.insk_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insk.insk_backend.client.OpenAIClient;
+import com.insk.insk_backend.domain.AnalysisCacheEntry;
+import com.insk.insk_backend.dto.OpenAIDto;
+import com.insk.insk_backend.repository.AnalysisCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 본문 해시 기반 LLM 분석 결과 캐시 (MySQL analysis_cache).
+ *
+ * <p>재배포 기사는 URL·제목이 달라 URL 매칭·제목 Jaccard를 통과해도 본문은 같거나 거의 같다.
+ * 본문을 정규화(NFKC·소문자·공백 압축·zero-width 제거)한 뒤 모델·프롬프트 버전과 함께 SHA-256으로
+ * 키를 만들어, {@link LlmAnalysisService#analyze} 호출 전에 확인한다. 적중하면 LLM 비용·지연이 0이다.
+ *
+ * <p>주 모델(openai.model.analysis)이 낸 결과만 저장한다. 재시도가 모두 실패해 폴백 모델이 답한 결과를
+ * 주 모델 키로 남기면 품질이 낮은 분석이 영구히 재사용되므로, 그런 결과는 저장하지 않고 다음에 주 모델로 다시 분석한다.
+ *
+ * <p>캐시 조회·저장 실패는 분석을 막지 않는다(그냥 미스로 취급).
+ *
+ * <p>지표: pipeline.llm.cache.hits·pipeline.llm.cache.misses (적중률 = hits / (hits + misses)).
+ */
+@Slf4j
+@Service
+public class AnalysisCacheService {
+
+    private static final Pattern ZERO_WIDTH = Pattern.compile("[\\u200B-\\u200D\\uFEFF]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final AnalysisCacheRepository analysisCacheRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${openai.model.analysis:gpt-4o}")
+    private String analysisModel = "gpt-4o";
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public AnalysisCacheService(AnalysisCacheRepository analysisCacheRepository, MeterRegistry meterRegistry) {
+        this.analysisCacheRepository = analysisCacheRepository;
+        this.hits = Counter.builder("pipeline.llm.cache.hits")
+                .description("분석 캐시에 적중해 LLM 호출을 생략한 횟수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("pipeline.llm.cache.misses")
+                .description("분석 캐시에 없어 LLM으로 분석한 횟수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시된 분석 결과. 없으면 null. */
+    public OpenAIDto.AnalysisResponse get(String body) {
+        if (body == null || body.isBlank()) return null;
+        try {
+            return analysisCacheRepository.findByCacheKey(key(body))
+                    .map(e -> {
+                        hits.increment();
+                        return readResult(e.getResultJson());
+                    })
+                    .orElseGet(() -> {
+                        misses.increment();
+                        return null;
+                    });
+        } catch (Exception e) {
+            log.warn("분석 캐시 조회 실패(미스로 처리): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 분석 결과를 저장한다. 모델이 적혀 있고 주 모델이 아니면(폴백 결과) 저장하지 않는다. */
+    public void put(String body, OpenAIDto.AnalysisResponse result) {
+        if (body == null || body.isBlank() || result == null) return;
+        String model = result.getModel() != null ? result.getModel() : analysisModel;
+        if (!model.equals(analysisModel)) {
+            log.debug("폴백 모델({}) 결과는 캐시하지 않음", model);
+            return;
+        }
+        try {
+            analysisCacheRepository.save(AnalysisCacheEntry.builder()
+                    .cacheKey(key(body))
+                    .model(model)
+                    .promptVersion(OpenAIClient.ANALYSIS_PROMPT_VERSION)
+                    .resultJson(objectMapper.writeValueAsString(result))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 본문을 다른 스레드가 먼저 저장 — 결과는 같으므로 무시
+        } catch (Exception e) {
+            log.warn("분석 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public String key(String body) {
+        String material = normalize(body) + "\n" + analysisModel + "\n" + OpenAIClient.ANALYSIS_PROMPT_VERSION;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 공백·전각/반각·대소문자·zero-width 차이만 있는 본문을 같은 문자열로. */
+    static String normalize(String body) {
+        String s = Normalizer.normalize(body, Normalizer.Form.NFKC);
+        s = ZERO_WIDTH.matcher(s).replaceAll("");
+        s = WHITESPACE.matcher(s).replaceAll(" ");
+        return s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public long hits() {
+        return (long) hits.count();
+    }
+
+    public long misses() {
+        return (long) misses.count();
+    }
+
+    private OpenAIDto.AnalysisResponse readResult(String json) {
+        try {
+            return objectMapper.readValue(json, OpenAIDto.AnalysisResponse.class);
+        } catch (Exception e) {
+            log.warn("분석 캐시 역직렬화 실패(미스로 처리): {}", e.getMessage());
+            return null;
+        }
+    }
+}
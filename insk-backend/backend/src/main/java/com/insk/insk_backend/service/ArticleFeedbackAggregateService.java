@@ -0,0 +1,53 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.repository.ArticleFeedbackRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 기사별 피드백 집계(좋아요·싫어요 수 + 최근 댓글 5건) — 사용자와 무관한 부분만 떼어 캐시한다.
+ *
+ * <p>예전 getFeedbackSummary는 COUNT 두 번 + 기사의 피드백 전체 로드 + Java 정렬이라 댓글이 늘수록 느려졌다.
+ * 이제 GROUP BY 집계 한 번과 (article_id, created_at) 인덱스를 타는 ORDER BY … LIMIT 5 한 번이고,
+ * 그 결과를 feedbackAggregate 캐시에 둔다. 피드백이 생기거나 바뀌면 커밋 후 evict한다 (ArticleFeedbackService).
+ * 별도 빈인 이유: 같은 클래스 안 호출은 캐시 프록시를 타지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArticleFeedbackAggregateService {
+
+    static final int RECENT_COMMENTS = 5;
+
+    private final ArticleFeedbackRepository feedbackRepository;
+
+    /** 캐시 값 (Redis JDK 직렬화). */
+    public record Aggregate(long likes, long dislikes, List<String> recentComments) implements Serializable {
+    }
+
+    @Cacheable(cacheNames = "feedbackAggregate", key = "#articleId")
+    @Transactional(readOnly = true)
+    public Aggregate load(Long articleId) {
+        long likes = 0;
+        long dislikes = 0;
+        for (Object[] row : feedbackRepository.countVotesByArticle(articleId)) {
+            if (Boolean.TRUE.equals(row[0])) likes = (Long) row[1];
+            else dislikes = (Long) row[1];
+        }
+
+        List<String> recentComments = List.copyOf(
+                feedbackRepository.findRecentFeedbackTexts(articleId, PageRequest.of(0, RECENT_COMMENTS)));
+
+        return new Aggregate(likes, dislikes, recentComments);
+    }
+
+    @CacheEvict(cacheNames = "feedbackAggregate", key = "#articleId")
+    public void evict(Long articleId) {
+    }
+}
@@ -4,12 +4,18 @@ import com.insk.insk_backend.domain.Article;
 import com.insk.insk_backend.domain.ArticleFeedback;
 import com.insk.insk_backend.domain.User;
 import com.insk.insk_backend.dto.ArticleFeedbackDto;
+import com.insk.insk_backend.dto.FeedbackRow;
 import com.insk.insk_backend.repository.ArticleFeedbackRepository;
 import com.insk.insk_backend.repository.ArticleRepository;
 import com.insk.insk_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Objects;
@@ -22,6 +28,15 @@ public class ArticleFeedbackService {
     private final UserRepository userRepository;
     private final ArticleFeedbackRepository feedbackRepository;
     private final ArticleScoreService articleScoreService;
+    // 기사별 집계(좋아요·싫어요 수, 최근 댓글) 캐시
+    private final ArticleFeedbackAggregateService aggregateService;
+
+    // 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${feedback.page.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${feedback.page.max-size:50}")
+    private int maxPageSize = 50;
 
     @Transactional
     public ArticleFeedbackDto.Response createFeedback(
@@ -53,6 +68,7 @@ public class ArticleFeedbackService {
                 if (existingLikeDislike.getLiked().equals(req.getLiked())) {
                     feedbackRepository.delete(existingLikeDislike);
                     articleScoreService.updateScore(articleId);
+                    evictAggregateAfterCommit(articleId);
                     
                     // 삭제 후 빈 응답 반환 (취소됨을 의미)
                     return ArticleFeedbackDto.Response.builder()
@@ -69,6 +85,7 @@ public class ArticleFeedbackService {
                     existingLikeDislike.updateLikeDislike(req.getLiked());
                     ArticleFeedback saved = feedbackRepository.save(existingLikeDislike);
                     articleScoreService.updateScore(articleId);
+                    evictAggregateAfterCommit(articleId);
                     
                     return ArticleFeedbackDto.Response.builder()
                             .feedbackId(saved.getId())
@@ -94,6 +111,7 @@ public class ArticleFeedbackService {
         ArticleFeedback saved = feedbackRepository.save(feedback);
 
         articleScoreService.updateScore(articleId);
+        evictAggregateAfterCommit(articleId);
 
         return ArticleFeedbackDto.Response.builder()
                 .feedbackId(saved.getId())
@@ -108,75 +126,82 @@ public class ArticleFeedbackService {
                 .build();
     }
 
+    /**
+     * 피드백 목록 — 최신순 keyset 페이지. cursor가 없으면 첫 페이지.
+     * size+1건을 읽어 다음 페이지 유무를 판단하고, 마지막 행의 (createdAt, id)를 불투명 커서로 돌려준다.
+     */
     @Transactional(readOnly = true)
-    public List<ArticleFeedbackDto.Response> getFeedbacks(Long articleId) {
-
-        return feedbackRepository.findByArticle_ArticleId(articleId).stream()
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null && b.getCreatedAt() == null) return 0;
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .map(f -> ArticleFeedbackDto.Response.builder()
-                        .feedbackId(f.getId())
-                        .articleId(f.getArticle().getArticleId())
-                        .liked(f.getLiked())
-                        .feedbackText(f.getFeedbackText())
-                        .userEmail(f.getUser() != null ? f.getUser().getEmail() : null)
-                        .department(f.getUser() != null && f.getUser().getDepartment() != null
-                                ? f.getUser().getDepartment().name()
-                                : null)
-                        .createdAt(f.getCreatedAt())
-                        .build())
-                .toList();
+    public ArticleFeedbackDto.PageResponse getFeedbacks(Long articleId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<FeedbackRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = feedbackRepository.findPage(articleId, pageable);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = feedbackRepository.findPageBefore(articleId, after.at(), after.id(), pageable);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<FeedbackRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        FeedbackRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ArticleFeedbackDto.PageResponse.builder()
+                .feedbacks(page.stream()
+                        .map(r -> ArticleFeedbackDto.Response.builder()
+                                .feedbackId(r.feedbackId())
+                                .articleId(r.articleId())
+                                .liked(r.liked())
+                                .feedbackText(r.feedbackText())
+                                .userEmail(r.userEmail())
+                                .department(r.department() != null ? r.department().name() : null)
+                                .createdAt(r.createdAt())
+                                .build())
+                        .toList())
+                .nextCursor(hasNext ? new KeysetCursor(last.createdAt(), last.feedbackId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public ArticleFeedbackDto.SummaryResponse getFeedbackSummary(Long articleId, String userEmail) {
 
-        long likes = feedbackRepository.countByArticleArticleIdAndLiked(articleId, true);
-        long dislikes = feedbackRepository.countByArticleArticleIdAndLiked(articleId, false);
-
-        List<ArticleFeedback> all = feedbackRepository.findByArticle_ArticleId(articleId);
+        // 집계·최근 댓글은 기사 단위 캐시, 내 투표만 요청마다 인덱스 단건 조회
+        ArticleFeedbackAggregateService.Aggregate aggregate = aggregateService.load(articleId);
 
-        List<String> recentComments = all.stream()
-                .filter(f -> f.getFeedbackText() != null && !f.getFeedbackText().isBlank())
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null && b.getCreatedAt() == null) return 0;
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(5)
-                .map(ArticleFeedback::getFeedbackText)
-                .toList();
-
-        ArticleFeedback mine = null;
+        ArticleFeedbackDto.SummaryResponse.MyFeedback myFeedback = null;
         if (userEmail != null) {
             // 좋아요/싫어요 피드백만 찾기 (텍스트 피드백 제외)
-            mine = all.stream()
-                    .filter(f -> f.getUser() != null
-                            && userEmail.equals(f.getUser().getEmail())
-                            && f.getLiked() != null) // 좋아요/싫어요만
-                    .findFirst()
+            myFeedback = feedbackRepository
+                    .findFirstByArticle_ArticleIdAndUser_EmailAndLikedIsNotNull(articleId, userEmail)
+                    .map(mine -> ArticleFeedbackDto.SummaryResponse.MyFeedback.builder()
+                            .liked(mine.getLiked())
+                            .text(mine.getFeedbackText())
+                            .build())
                     .orElse(null);
         }
 
-        ArticleFeedbackDto.SummaryResponse.MyFeedback myFeedback = null;
-        if (mine != null) {
-            myFeedback = ArticleFeedbackDto.SummaryResponse.MyFeedback.builder()
-                    .liked(mine.getLiked())
-                    .text(mine.getFeedbackText())
-                    .build();
-        }
-
         return ArticleFeedbackDto.SummaryResponse.builder()
                 .articleId(articleId)
-                .likes(likes)
-                .dislikes(dislikes)
-                .recentComments(recentComments)
+                .likes(aggregate.likes())
+                .dislikes(aggregate.dislikes())
+                .recentComments(aggregate.recentComments())
                 .myFeedback(myFeedback)
                 .build();
     }
+
+    /** 커밋 전에 지우면 동시 조회가 옛 데이터로 캐시를 다시 채울 수 있어, 커밋 뒤에 지운다. */
+    private void evictAggregateAfterCommit(Long articleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            aggregateService.evict(articleId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aggregateService.evict(articleId);
+            }
+        });
+    }
 }
@@ -1,73 +1,56 @@
 package com.insk.insk_backend.service;
 
-import com.insk.insk_backend.domain.*;
-import com.insk.insk_backend.repository.*;
-import lombok.RequiredArgsConstructor;
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.service.PdfReportLoader.ArticleReport;
+import com.insk.insk_backend.service.PdfReportLoader.DepartmentEntry;
+import com.insk.insk_backend.service.PdfReportLoader.DigestEntry;
+import com.insk.insk_backend.service.PdfReportLoader.ScoreSnapshot;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import lombok.RequiredArgsConstructor;
 import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
-import java.io.InputStream;
-import java.time.LocalDateTime;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * PDF 렌더링 — 데이터는 {@link PdfReportLoader}가 트랜잭션 안에서 모은 스냅샷을 받고, 결과는 호출부가 준
+ * OutputStream(응답 스트림, StreamingResponseBody)에 바로 쓴다.
+ *
+ * <p>예전에는 문서 전체를 ByteArrayOutputStream에 만든 뒤 byte[]로 돌려주고 컨트롤러가 다시 복사해,
+ * 큰 다이제스트일수록 같은 PDF가 힙에 여러 벌 올라갔다. 이제 페이지 콘텐츠 스트림은 PDFBox scratch 버퍼에
+ * 쌓이다가 pdf.render.max-main-memory-bytes를 넘으면 임시 파일로 내려가고(MemoryUsageSetting.setupMixed),
+ * save는 응답 스트림으로 바로 직렬화한다. 그래서 다이제스트 크기와 관계없이 힙 사용량이 일정하다.
+ *
+ * <p>폰트는 {@link PdfFontCache}가 기동 시 파싱해 둔 것을 문서마다 빌려 서브셋만 임베딩한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ArticlePdfService {
 
-    private final ArticleRepository articleRepository;
-    private final ArticleAnalysisRepository analysisRepository;
-    private final ArticleScoreRepository scoreRepository;
-    private final ArticleFeedbackRepository feedbackRepository;
-    private final UserArticleLogRepository userArticleLogRepository;
-
     private static final float MARGIN = 50f;
     private static final float BOTTOM_MARGIN = 60f;
     private static final float START_Y = 750f;
     private static final float LINE_HEIGHT = 16f;
 
-    @Transactional(readOnly = true)
-    public byte[] generateArticlePdf(Long articleId) throws Exception {
-
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("기사 없음"));
-
-        ArticleAnalysis analysis = analysisRepository.findByArticle_ArticleId(articleId)
-                .orElse(null);
-
-        ArticleScore score = scoreRepository.findByArticle_ArticleId(articleId)
-                .orElse(null);
-
-        List<ArticleFeedback> feedbackList =
-                feedbackRepository.findByArticle_ArticleId(articleId);
+    /** 문서 하나가 힙에 둘 수 있는 scratch 버퍼 상한. 넘는 페이지 콘텐츠는 임시 파일로. Spring 미주입 환경용 안전값. */
+    @Value("${pdf.render.max-main-memory-bytes:8388608}")
+    private long maxMainMemoryBytes = 8L * 1024 * 1024;
 
-        List<String> recentFeedbacks = feedbackList.stream()
-                .filter(f -> f.getFeedbackText() != null && !f.getFeedbackText().isBlank())
-                .sorted((a, b) -> {
-                    if (a.getCreatedAt() == null && b.getCreatedAt() == null) return 0;
-                    if (a.getCreatedAt() == null) return 1;
-                    if (b.getCreatedAt() == null) return -1;
-                    return b.getCreatedAt().compareTo(a.getCreatedAt());
-                })
-                .limit(5)
-                .map(ArticleFeedback::getFeedbackText)
-                .toList();
+    private final PdfFontCache fontCache;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    public void writeArticlePdf(ArticleReport report, OutputStream out) throws Exception {
 
-        try (PDDocument document = new PDDocument()) {
+        try (PDDocument document = newDocument();
+             PdfFontCache.Lease lease = fontCache.lease(document)) {
 
-            InputStream fontStream = getClass().getResourceAsStream("/fonts/NotoSansCJK-Regular.otf");
-            if (fontStream == null) {
-                throw new IllegalStateException("폰트 파일을 찾을 수 없습니다: /fonts/NotoSansCJK-Regular.otf");
-            }
-            PDType0Font font = PDType0Font.load(document, fontStream);
+            PDType0Font font = lease.font();
 
             PdfContext ctx = new PdfContext(document, font);
             ctx.newPage();
@@ -77,74 +60,60 @@ public class ArticlePdfService {
             writeWrapped(ctx, 18, "INSK 뉴스 분석 리포트");
             ctx.y -= 10;
 
-            writeWrapped(ctx, 14, "제목: " + article.getTitle());
-            writeWrapped(ctx, 12, "출처: " + Objects.toString(article.getSource(), "-"));
-            writeWrapped(ctx, 12, "발행일: " + article.getPublishedAt().format(fmt));
+            writeWrapped(ctx, 14, "제목: " + report.title());
+            writeWrapped(ctx, 12, "출처: " + Objects.toString(report.source(), "-"));
+            writeWrapped(ctx, 12, "발행일: " + report.publishedAt().format(fmt));
             ctx.y -= 10;
 
-            if (analysis != null) {
+            if (report.analyzed()) {
                 writeWrapped(ctx, 12, "[AI 요약]");
-                writeWrapped(ctx, 11, analysis.getSummary());
+                writeWrapped(ctx, 11, report.summary());
                 ctx.y -= 5;
 
                 writeWrapped(ctx, 12, "[AI 인사이트]");
-                writeWrapped(ctx, 11, analysis.getInsight());
+                writeWrapped(ctx, 11, report.insight());
                 ctx.y -= 5;
 
-                if (analysis.getCategory() != null) {
-                    writeWrapped(ctx, 11, "카테고리: " + analysis.getCategory());
+                if (report.category() != null) {
+                    writeWrapped(ctx, 11, "카테고리: " + report.category());
                 }
-                if (analysis.getTags() != null) {
-                    writeWrapped(ctx, 11, "태그: " + analysis.getTags());
+                if (report.tags() != null) {
+                    writeWrapped(ctx, 11, "태그: " + report.tags());
                 }
                 ctx.y -= 10;
             }
 
+            ScoreSnapshot score = report.score();
             if (score != null) {
-                writeWrapped(ctx, 12, "[종합 점수] : " + score.getScore());
-                writeWrapped(ctx, 11, "좋아요: " + score.getLikeCount()
-                        + ", 싫어요: " + score.getDislikeCount()
-                        + ", 텍스트 점수: " + score.getTextRelevanceScore()
-                        + ", 조회수: " + score.getViewCount());
+                writeWrapped(ctx, 12, "[종합 점수] : " + score.score());
+                writeWrapped(ctx, 11, "좋아요: " + score.likeCount()
+                        + ", 싫어요: " + score.dislikeCount()
+                        + ", 텍스트 점수: " + score.textScore()
+                        + ", 조회수: " + score.viewCount());
                 ctx.y -= 10;
             }
 
             writeWrapped(ctx, 12, "[최근 피드백]");
-            if (recentFeedbacks.isEmpty()) {
+            if (report.recentFeedbacks().isEmpty()) {
                 writeWrapped(ctx, 11, "- 등록된 피드백이 없습니다.");
             } else {
-                for (String fb : recentFeedbacks) {
+                for (String fb : report.recentFeedbacks()) {
                     writeWrapped(ctx, 11, "- " + fb);
                 }
             }
 
             ctx.closeContent();
-            document.save(baos);
+            document.save(out);
         }
-
-        return baos.toByteArray();
     }
 
-    @Transactional(readOnly = true)
-    public byte[] generateDepartmentTop5Pdf(DepartmentType department, int days, int limit) throws Exception {
-
-        if (days <= 0) days = 7;
-        if (limit <= 0) limit = 5;
-
-        LocalDateTime from = LocalDateTime.now().minusDays(days);
+    public void writeDepartmentTop5Pdf(DepartmentType department, int days, List<DepartmentEntry> entries,
+                                       OutputStream out) throws Exception {
 
-        List<Object[]> rows = userArticleLogRepository.findTopArticlesByDepartment(department, from);
-        List<Object[]> limited = rows.stream().limit(limit).toList();
+        try (PDDocument document = newDocument();
+             PdfFontCache.Lease lease = fontCache.lease(document)) {
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        try (PDDocument document = new PDDocument()) {
-
-            InputStream fontStream = getClass().getResourceAsStream("/fonts/NotoSansCJK-Regular.otf");
-            if (fontStream == null) {
-                throw new IllegalStateException("폰트 파일을 찾을 수 없습니다: /fonts/NotoSansCJK-Regular.otf");
-            }
-            PDType0Font font = PDType0Font.load(document, fontStream);
+            PDType0Font font = lease.font();
 
             PdfContext ctx = new PdfContext(document, font);
             ctx.newPage();
@@ -156,28 +125,20 @@ public class ArticlePdfService {
             writeWrapped(ctx, 12, "기간: 최근 " + days + "일");
             ctx.y -= 10;
 
-            if (limited.isEmpty()) {
+            if (entries.isEmpty()) {
                 writeWrapped(ctx, 12, "조회 데이터가 없습니다.");
             } else {
                 int rank = 1;
-                for (Object[] row : limited) {
-                    Long articleId = (Long) row[0];
-                    Long viewCount = (Long) row[1];
-
-                    Article article = articleRepository.findById(articleId).orElse(null);
-                    if (article == null) continue;
-
-                    ArticleScore score = scoreRepository.findByArticle_ArticleId(articleId)
-                            .orElse(null);
-
-                    writeWrapped(ctx, 14, "[#" + rank + "] " + article.getTitle());
-                    writeWrapped(ctx, 11, "출처: " + Objects.toString(article.getSource(), "-"));
-                    writeWrapped(ctx, 11, "발행일: " + article.getPublishedAt().format(fmt));
-                    writeWrapped(ctx, 11, "조회수: " + viewCount);
+                for (DepartmentEntry entry : entries) {
+                    writeWrapped(ctx, 14, "[#" + rank + "] " + entry.title());
+                    writeWrapped(ctx, 11, "출처: " + Objects.toString(entry.source(), "-"));
+                    writeWrapped(ctx, 11, "발행일: " + entry.publishedAt().format(fmt));
+                    writeWrapped(ctx, 11, "조회수: " + entry.viewCount());
+                    ScoreSnapshot score = entry.score();
                     if (score != null) {
-                        writeWrapped(ctx, 11, "점수: " + score.getScore()
-                                + " (좋아요 " + score.getLikeCount()
-                                + ", 싫어요 " + score.getDislikeCount() + ")");
+                        writeWrapped(ctx, 11, "점수: " + score.score()
+                                + " (좋아요 " + score.likeCount()
+                                + ", 싫어요 " + score.dislikeCount() + ")");
                     }
                     ctx.y -= 10;
                     rank++;
@@ -185,34 +146,16 @@ public class ArticlePdfService {
             }
 
             ctx.closeContent();
-            document.save(baos);
+            document.save(out);
         }
-
-        return baos.toByteArray();
     }
 
-    @Transactional(readOnly = true)
-    public byte[] generateWeeklyDigestPdf(int days, int limit) throws Exception {
-
-        if (days <= 0) days = 7;
-        if (limit <= 0) limit = 10;
-
-        LocalDateTime from = LocalDateTime.now().minusDays(days);
-
-        List<ArticleAnalysis> analyses =
-                analysisRepository.findByCreatedAtAfterOrderByCreatedAtDesc(from);
+    public void writeWeeklyDigestPdf(int days, List<DigestEntry> entries, OutputStream out) throws Exception {
 
-        List<ArticleAnalysis> limited = analyses.stream().limit(limit).toList();
+        try (PDDocument document = newDocument();
+             PdfFontCache.Lease lease = fontCache.lease(document)) {
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        try (PDDocument document = new PDDocument()) {
-
-            InputStream fontStream = getClass().getResourceAsStream("/fonts/NotoSansCJK-Regular.otf");
-            if (fontStream == null) {
-                throw new IllegalStateException("폰트 파일을 찾을 수 없습니다: /fonts/NotoSansCJK-Regular.otf");
-            }
-            PDType0Font font = PDType0Font.load(document, fontStream);
+            PDType0Font font = lease.font();
 
             PdfContext ctx = new PdfContext(document, font);
             ctx.newPage();
@@ -223,28 +166,24 @@ public class ArticlePdfService {
             writeWrapped(ctx, 12, "기간: 최근 " + days + "일");
             ctx.y -= 10;
 
-            if (limited.isEmpty()) {
+            if (entries.isEmpty()) {
                 writeWrapped(ctx, 12, "요약할 뉴스가 없습니다.");
             } else {
                 int idx = 1;
-                for (ArticleAnalysis analysis : limited) {
-                    Article article = analysis.getArticle();
+                for (DigestEntry entry : entries) {
+                    writeWrapped(ctx, 14, "[" + idx + "] " + entry.title());
+                    writeWrapped(ctx, 11, "출처: " + Objects.toString(entry.source(), "-"));
+                    writeWrapped(ctx, 11, "발행일: " + entry.publishedAt().format(fmt));
 
-                    writeWrapped(ctx, 14, "[" + idx + "] " + article.getTitle());
-                    writeWrapped(ctx, 11, "출처: " + Objects.toString(article.getSource(), "-"));
-                    writeWrapped(ctx, 11, "발행일: " + article.getPublishedAt().format(fmt));
-
-                    ArticleScore score = scoreRepository.findByArticle_ArticleId(article.getArticleId())
-                            .orElse(null);
-                    if (score != null) {
-                        writeWrapped(ctx, 11, "점수: " + score.getScore());
+                    if (entry.score() != null) {
+                        writeWrapped(ctx, 11, "점수: " + entry.score().score());
                     }
 
                     writeWrapped(ctx, 12, "[요약]");
-                    writeWrapped(ctx, 11, analysis.getSummary());
+                    writeWrapped(ctx, 11, entry.summary());
 
                     writeWrapped(ctx, 12, "[인사이트]");
-                    writeWrapped(ctx, 11, analysis.getInsight());
+                    writeWrapped(ctx, 11, entry.insight());
 
                     ctx.y -= 10;
                     idx++;
@@ -252,10 +191,12 @@ public class ArticlePdfService {
             }
 
             ctx.closeContent();
-            document.save(baos);
+            document.save(out);
         }
+    }
 
-        return baos.toByteArray();
+    private PDDocument newDocument() {
+        return new PDDocument(MemoryUsageSetting.setupMixed(maxMainMemoryBytes));
     }
 
     private void writeWrapped(PdfContext ctx, int fontSize, String text) throws Exception {
@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -53,6 +54,23 @@ public class ArticlePersistenceService {
         saveAnalysis(article, ar, keyword, user);
     }
 
+    /**
+     * Batch 분석 결과 일괄 저장. 기사 N건을 한 트랜잭션으로 묶어 커넥션 점유·커밋을 1회로 줄인다.
+     * 외부 호출(분석·임베딩)은 이미 끝난 상태라 트랜잭션이 짧다. 한 건이라도 실패하면 묶음 전체가
+     * 롤백되므로 호출부가 건별 저장으로 재시도한다.
+     */
+    @Transactional
+    public void persistAnalyzedAll(List<AnalyzedArticle> items) {
+        for (AnalyzedArticle it : items) {
+            persistAnalyzed(it.article(), it.embeddingJson(), it.analysis(), it.keyword(), it.user());
+        }
+    }
+
+    /** 일괄 저장 단위: 기사 1건과 그 분석·임베딩 결과. */
+    public record AnalyzedArticle(Article article, String embeddingJson, OpenAIDto.AnalysisResponse analysis,
+                                  Keyword keyword, User user) {
+    }
+
     /** 분석 최종 실패 기사: 유실 대신 ANALYSIS_FAILED로 보존 (DLQ). */
     @Transactional
     public void persistFailed(Article article) {
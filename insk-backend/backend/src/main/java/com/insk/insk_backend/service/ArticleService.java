@@ -2,14 +2,14 @@ package com.insk.insk_backend.service;
 
 import com.insk.insk_backend.domain.Article;
 import com.insk.insk_backend.domain.ArticleAnalysis;
-import com.insk.insk_backend.domain.ArticleFeedback;
+import com.insk.insk_backend.dto.ArticleDetailRow;
 import com.insk.insk_backend.dto.ArticleDto;
 import com.insk.insk_backend.repository.ArticleAnalysisRepository;
-import com.insk.insk_backend.repository.ArticleFeedbackRepository;
 import com.insk.insk_backend.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -23,7 +23,8 @@ public class ArticleService {
 
     private final ArticleRepository articleRepository;
     private final ArticleAnalysisRepository analysisRepository;
-    private final ArticleFeedbackRepository feedbackRepository;
+
+    private static final int MAX_FAVORITES_PAGE_SIZE = 50;
 
     /**
      * 카테고리와 출처로 기사 필터링 (사용자별)
@@ -128,90 +129,48 @@ public class ArticleService {
         );
     }
 
+    /**
+     * 기사 상세. 기사·분석을 한 번의 조인 쿼리로 읽고(findDetail), 결과는 articleDetail 캐시에
+     * 짧게(cache.article-detail-ttl-seconds) 둔다 — 목록에서 같은 기사로 몰리는 상세 조회를 DB 앞에서 흡수.
+     */
+    @Cacheable(cacheNames = "articleDetail", key = "#articleId")
     public ArticleDto.DetailResponse getArticleById(Long articleId) {
 
-        Article article = articleRepository.findById(articleId)
+        ArticleDetailRow row = articleRepository.findDetail(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("기사 없음"));
 
-        ArticleAnalysis analysis = analysisRepository.findByArticle(article).orElse(null);
-
-        return ArticleDto.DetailResponse.builder()
-                .articleId(article.getArticleId())
-                .title(article.getTitle())
-                .originalUrl(article.getOriginalUrl())
-                .summary(analysis != null ? analysis.getSummary() : "")
-                .insight(analysis != null ? analysis.getInsight() : "")
-                .category(analysis != null ? analysis.getCategory() : "")
-                .tags(analysis != null ? analysis.getTags() : "[]")
-                .publishedAt(article.getPublishedAt())
-                .source(article.getSource())
-                .country(article.getCountry())
-                .language(article.getLanguage())
-                .build();
+        return ArticleDto.DetailResponse.from(row);
     }
 
     /**
-     * 사용자가 좋아요한 관심기사 조회
+     * 사용자가 좋아요한 관심기사 조회 — 페이지 번호 방식 (총 개수 포함).
+     * 기사·분석·좋아요를 한 쿼리로 묶어 DB에서 정렬(publishedAt DESC)·LIMIT한다. 요청의 sort는 쓰지 않는다.
      */
     public Page<ArticleDto.Response> getFavoriteArticles(String userEmail, Pageable pageable) {
-        // 사용자가 좋아요한 피드백 조회
-        List<ArticleFeedback> favoriteFeedbacks = feedbackRepository.findByUser_EmailAndLikedTrue(userEmail);
-        
-        if (favoriteFeedbacks.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // Article ID 추출
-        List<Long> articleIds = favoriteFeedbacks.stream()
-                .map(f -> f.getArticle().getArticleId())
-                .distinct()
-                .toList();
-
-        // 페이지네이션 적용
-        int pageNumber = pageable.getPageNumber();
-        int pageSize = pageable.getPageSize();
-        int start = pageNumber * pageSize;
-        int end = Math.min(start + pageSize, articleIds.size());
-        List<Long> pagedIds = articleIds.subList(start, end);
-
-        // Article 조회
-        List<Article> articles = pagedIds.stream()
-                .map(id -> articleRepository.findById(id).orElse(null))
-                .filter(java.util.Objects::nonNull)
-                .sorted((a, b) -> {
-                    if (a.getPublishedAt() == null && b.getPublishedAt() == null) return 0;
-                    if (a.getPublishedAt() == null) return 1;
-                    if (b.getPublishedAt() == null) return -1;
-                    return b.getPublishedAt().compareTo(a.getPublishedAt());
-                })
-                .toList();
-
-        // ArticleAnalysis 일괄 조회
-        List<ArticleAnalysis> analyses = analysisRepository.findByArticle_ArticleIdIn(pagedIds);
-        Map<Long, ArticleAnalysis> analysisMap = analyses.stream()
-                .collect(Collectors.toMap(
-                        aa -> aa.getArticle().getArticleId(),
-                        aa -> aa
-                ));
-
-        // DTO 변환
-        List<ArticleDto.Response> content = articles.stream()
-                .map(article -> {
-                    ArticleAnalysis analysis = analysisMap.get(article.getArticleId());
-                    return ArticleDto.Response.builder()
-                            .articleId(article.getArticleId())
-                            .title(article.getTitle())
-                            .originalUrl(article.getOriginalUrl())
-                            .summary(analysis != null ? analysis.getSummary() : "")
-                            .category(analysis != null ? analysis.getCategory() : "")
-                            .source(article.getSource())
-                            .country(article.getCountry())
-                            .language(article.getLanguage())
-                            .publishedAt(article.getPublishedAt())
-                            .build();
-                })
-                .toList();
+        return articleRepository.findFavorites(userEmail,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
 
-        return new PageImpl<>(content, pageable, articleIds.size());
+    /**
+     * 관심기사 keyset 페이지 — 뒤쪽 페이지도 OFFSET 없이, COUNT 없이 읽는다 (무한 스크롤용).
+     * size+1건을 읽어 다음 페이지 유무를 판단한다.
+     */
+    public ArticleDto.CursorResponse getFavoriteArticles(String userEmail, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? 10 : Math.min(size, MAX_FAVORITES_PAGE_SIZE);
+        KeysetCursor after = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        List<ArticleDto.Response> rows = articleRepository.findFavoritesBefore(userEmail,
+                after != null ? after.at() : null, after != null ? after.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ArticleDto.Response> page = hasNext ? rows.subList(0, pageSize) : rows;
+        ArticleDto.Response last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return ArticleDto.CursorResponse.builder()
+                .articles(page)
+                .nextCursor(hasNext ? new KeysetCursor(last.getPublishedAt(), last.getArticleId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 }
@@ -0,0 +1,99 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.repository.ArticleRepository;
+import com.insk.insk_backend.util.UrlCanonicalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기사 URL 중복 판정의 Bloom filter 앞단.
+ *
+ * <p>파이프라인 기사마다 existsByOriginalUrl(512자 unique 컬럼) 왕복을 하던 것을,
+ * 메모리 Bloom filter가 "없음"이라고 하면 DB 조회 없이 새 기사로 판정한다.
+ * "있을 수 있음"일 때만 MySQL로 확인하므로 오탐은 DB 1회로 끝나고 누락(false negative)은 없다.
+ * 키는 {@link UrlCanonicalizer} 정규화 URL이라 추적 파라미터·www·http 차이로 인한 중복도 함께 걸러진다.
+ *
+ * <p>필터는 기동 시 전체 URL로 채우고({@code ArticleUrlIndexInitializer}), 저장 직후 추가한다.
+ * 초기화 전에는 항상 DB로 확인한다(기존 동작과 동일). 인스턴스별 메모리 필터라 다중 인스턴스에서도
+ * 다른 인스턴스가 저장한 URL은 DB 확인 경로로 걸러진다 — 놓치는 경우는 없고 절감 폭만 줄어든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleUrlIndex {
+
+    private final ArticleRepository articleRepository;
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${pipeline.url-bloom.initial-capacity:50000}")
+    private int initialCapacity = 50000;
+
+    @Value("${pipeline.url-bloom.fpp:0.001}")
+    private double fpp = 0.001;
+
+    private volatile ScalableBloomFilter filter;
+    // 초기화(전체 URL 조회) 도중 저장된 URL. 필터 교체 시 함께 넣어 누락(false negative)을 막는다.
+    private final List<String> pendingDuringInit = new ArrayList<>();
+
+    private final AtomicLong skippedDbChecks = new AtomicLong();
+    private final AtomicLong confirmedDbChecks = new AtomicLong();
+
+    /** 이미 수집된 기사 URL인지. Bloom 음성이면 DB 조회 없이 false. */
+    public boolean isKnown(String url) {
+        if (url == null) return false;
+        String canonical = UrlCanonicalizer.canonicalize(url);
+        ScalableBloomFilter f = filter;
+        if (f != null && !f.mightContain(canonical)) {
+            skippedDbChecks.incrementAndGet();
+            return false;
+        }
+        confirmedDbChecks.incrementAndGet();
+        return articleRepository.existsByCanonicalUrlOrOriginalUrl(canonical, url);
+    }
+
+    /** 기사 저장 후 호출. 트랜잭션 롤백으로 실제 행이 없어도 DB 확인 1회가 늘 뿐이라 안전하다. */
+    public void record(String url) {
+        if (url == null) return;
+        String canonical = UrlCanonicalizer.canonicalize(url);
+        ScalableBloomFilter f = filter;
+        if (f != null) {
+            f.put(canonical);
+            return;
+        }
+        synchronized (pendingDuringInit) {
+            if (filter != null) filter.put(canonical);
+            else pendingDuringInit.add(canonical);
+        }
+    }
+
+    /** 기동 시 전체 URL로 구성한 필터로 교체한다. 구성 도중 저장된 URL도 함께 넣는다. */
+    public void initialize(Iterable<String> urls) {
+        ScalableBloomFilter f = new ScalableBloomFilter(initialCapacity, fpp);
+        int n = 0;
+        for (String url : urls) {
+            if (url == null) continue;
+            f.put(UrlCanonicalizer.canonicalize(url));
+            n++;
+        }
+        synchronized (pendingDuringInit) {
+            pendingDuringInit.forEach(f::put);
+            pendingDuringInit.clear();
+            this.filter = f;
+        }
+        log.info("🧭 URL Bloom filter 구성 완료: {}건 (단계 {})", n, f.stageCount());
+    }
+
+    public long skippedDbChecks() {
+        return skippedDbChecks.get();
+    }
+
+    public long confirmedDbChecks() {
+        return confirmedDbChecks.get();
+    }
+}
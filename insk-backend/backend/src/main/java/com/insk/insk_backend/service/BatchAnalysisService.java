@@ -0,0 +1,89 @@
+package com.insk.insk_backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.insk.insk_backend.client.OpenAIClient;
+import com.insk.insk_backend.client.OpenAiBatchClient;
+import com.insk.insk_backend.client.OpenAiBatchException;
+import com.insk.insk_backend.dto.OpenAIDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기사 분석의 Batch API 경로 (정기 수집·DLQ 재처리 전용).
+ *
+ * <p>실시간 경로({@link LlmAnalysisService})와 같은 프롬프트·모델로 요청을 만들어 한 번에 제출하고,
+ * 완료를 기다려 결과를 돌려준다. 항목 단위로 실패한 것은 맵에서 빠지고, 배치가 통째로 결과 없이 끝나면
+ * {@link OpenAiBatchException}을 던져 호출부가 둘을 구분하게 한다 (NewsPipelineService.analyzeDeferred).
+ * 완료까지 길게 블로킹하므로 스케줄러 스레드가 아닌 batchPipelineExecutor에서만 호출된다.
+ * 사용자 요청(run-pipeline)은 지연에 민감하므로 계속 실시간 경로를 쓴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchAnalysisService {
+
+    private static final String CHAT_ENDPOINT = "/v1/chat/completions";
+
+    private final OpenAIClient openAIClient;
+    private final OpenAiBatchClient batchClient;
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${openai.model.analysis:gpt-4o}")
+    private String analysisModel = "gpt-4o";
+
+    @Value("${pipeline.batch.poll-interval-ms:30000}")
+    private long pollIntervalMs = 30000;
+
+    /** 이 시간 안에 끝나지 않으면 배치를 취소하고 남은 기사는 DLQ로 넘긴다. */
+    @Value("${pipeline.batch.max-wait-minutes:120}")
+    private long maxWaitMinutes = 120;
+
+    /**
+     * @param bodiesByCustomId custom_id → 기사 본문
+     * @return 분석에 성공한 항목만 custom_id → 분석 결과
+     * @throws OpenAiBatchException 배치 전체가 결과 없이 끝난 경우
+     */
+    public Map<String, OpenAIDto.AnalysisResponse> analyzeAll(Map<String, String> bodiesByCustomId) {
+        if (bodiesByCustomId.isEmpty()) return Map.of();
+
+        Map<String, OpenAIDto.ChatRequest> requests = new LinkedHashMap<>();
+        bodiesByCustomId.forEach((id, body) -> requests.put(id, openAIClient.analysisRequest(body, analysisModel)));
+
+        try {
+            String batchId = batchClient.submit(CHAT_ENDPOINT, requests);
+            OpenAiBatchClient.BatchStatus st = batchClient.await(
+                    batchId, Duration.ofMillis(pollIntervalMs), Duration.ofMinutes(maxWaitMinutes));
+            if (st.outputFileId() == null) {
+                throw new OpenAiBatchException("Batch " + batchId + " 결과 없음 (status=" + st.status() + ")", null);
+            }
+
+            Map<String, OpenAIDto.AnalysisResponse> results = new HashMap<>();
+            for (Map.Entry<String, JsonNode> e : batchClient.downloadResults(st.outputFileId()).entrySet()) {
+                String content = e.getValue().path("choices").path(0).path("message").path("content").asText();
+                try {
+                    OpenAIDto.AnalysisResponse ar = openAIClient.parseAnalysis(content);
+                    ar.setModel(analysisModel);
+                    results.put(e.getKey(), ar);
+                } catch (Exception parseError) {
+                    log.warn("Batch 결과 파싱 실패 custom_id={}: {}", e.getKey(), parseError.getMessage());
+                }
+            }
+            log.info("📦 Batch 분석 결과: 성공 {}/{}건", results.size(), requests.size());
+            return results;
+        } catch (OpenAiBatchException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiBatchException("Batch 분석 대기 중단", e);
+        } catch (Exception e) {
+            throw new OpenAiBatchException("Batch 분석 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.insk.insk_backend.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Bloom filter ("이미 본 URL인가?"를 DB 조회 없이 판정하는 확률적 집합).
+ *
+ * <p>false positive는 있을 수 있지만 false negative는 없다. 따라서 "없음"이면 확실히 처음 보는 키이고,
+ * "있을 수 있음"이면 필요할 때만 원본(DB)으로 확인한다. 비트 배열은 AtomicLongArray라
+ * 파이프라인 병렬 스레드가 동시에 put/mightContain 해도 안전하다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int numBits;
+    private final int numHashes;
+
+    private BloomFilter(int numBits, int numHashes, long[] initialWords) {
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+        this.words = initialWords != null
+                ? new AtomicLongArray(initialWords)
+                : new AtomicLongArray((numBits + 63) / 64);
+    }
+
+    /** 예상 원소 수와 목표 오탐률(fpp)로 최적 비트 수·해시 수를 정해 생성한다. */
+    public static BloomFilter create(int expectedInsertions, double fpp) {
+        int n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int numBits = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        return new BloomFilter(numBits, numHashes, null);
+    }
+
+    public void put(String key) {
+        long[] h = hash(key);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = index(h, i);
+            int w = bit >>> 6;
+            long mask = 1L << (bit & 63);
+            long prev;
+            do {
+                prev = words.get(w);
+                if ((prev & mask) != 0) break;
+            } while (!words.compareAndSet(w, prev, prev | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long[] h = hash(key);
+        for (int i = 0; i < numHashes; i++) {
+            int bit = index(h, i);
+            if ((words.get(bit >>> 6) & (1L << (bit & 63))) == 0) return false;
+        }
+        return true;
+    }
+
+    /** 직렬화: [numBits][numHashes][words...]. DB 컬럼 저장용. */
+    public byte[] toBytes() {
+        int len = words.length();
+        ByteBuffer buf = ByteBuffer.allocate(8 + len * 8);
+        buf.putInt(numBits).putInt(numHashes);
+        for (int i = 0; i < len; i++) buf.putLong(words.get(i));
+        return buf.array();
+    }
+
+    public static BloomFilter fromBytes(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        int numBits = buf.getInt();
+        int numHashes = buf.getInt();
+        long[] w = new long[(numBits + 63) / 64];
+        for (int i = 0; i < w.length; i++) w[i] = buf.getLong();
+        return new BloomFilter(numBits, numHashes, w);
+    }
+
+    // Kirsch–Mitzenmacher double hashing: g_i = h1 + i*h2 로 k개의 독립 해시를 흉내낸다.
+    private int index(long[] h, int i) {
+        long combined = h[0] + i * h[1];
+        return (int) ((combined & Long.MAX_VALUE) % numBits);
+    }
+
+    private static long[] hash(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h1 = 0xcbf29ce484222325L;   // FNV-1a 64
+        long h2 = 0x9E3779B97F4A7C15L;
+        for (byte b : bytes) {
+            h1 ^= (b & 0xff);
+            h1 *= 0x100000001b3L;
+            h2 = (h2 ^ (b & 0xff)) * 0xff51afd7ed558ccdL;
+            h2 = Long.rotateLeft(h2, 31);
+        }
+        return new long[]{fmix64(h1), fmix64(h2) | 1L};
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -1,7 +1,7 @@
 package com.insk.insk_backend.service;
 
 import com.insk.insk_backend.client.EmbeddingClient;
-import com.insk.insk_backend.client.QdrantClient;
+import com.insk.insk_backend.client.VectorIndex;
 import com.insk.insk_backend.domain.Article;
 import com.insk.insk_backend.domain.ArticleScore;
 import com.insk.insk_backend.domain.DepartmentType;
@@ -23,7 +23,8 @@ import java.util.Objects;
  * Qdrant VectorDB의 ANN(HNSW) KNN 검색으로 교체했다.
  *
  * <p>흐름: 부서 키워드 임베딩의 평균을 질의 벡터로 만들어 Qdrant에 KNN을 던져 후보(관련도=cosine)를
- * 받고, 전역 인기점수를 소폭 가산해 재랭킹한 뒤 상위 5개를 반환한다. 메타데이터는 MySQL, 벡터는 Qdrant.
+ * 받고, 전역 인기점수를 소폭 가산해 재랭킹한 뒤 상위 5개를 반환한다. 메타데이터는 MySQL, 벡터는 Qdrant
+ * (Qdrant가 비면 프로세스 내장 HNSW 폴백 — {@link VectorIndex}).
  */
 @Slf4j
 @Service
@@ -34,7 +35,7 @@ public class DepartmentArticleService {
     private final ArticleScoreRepository scoreRepository;
     private final DepartmentInterestService interestService;
     private final EmbeddingClient embeddingClient;
-    private final QdrantClient qdrantClient;
+    private final VectorIndex vectorIndex;   // Qdrant, 로컬 HNSW 또는 둘의 폴백 조합 (VectorIndexConfig)
 
     // 인기점수 재랭킹 여지를 위해 5보다 넉넉히 후보를 받는다.
     private static final int CANDIDATE_K = 30;
@@ -60,9 +61,9 @@ public class DepartmentArticleService {
         List<Double> query = averageVector(keywordEmbeddings);
 
         // Qdrant ANN KNN — 관련도(cosine)는 Qdrant 인덱스가 계산해 반환한다.
-        List<QdrantClient.ScoredId> hits = qdrantClient.search(query, CANDIDATE_K);
+        List<VectorIndex.ScoredId> hits = vectorIndex.search(query, CANDIDATE_K);
         if (hits.isEmpty()) {
-            log.warn("부서 {} Qdrant 검색 결과 없음(미색인/미가동 가능).", dept);
+            log.warn("부서 {} 벡터 검색 결과 없음(미색인/미가동 가능).", dept);
             return List.of();
         }
 
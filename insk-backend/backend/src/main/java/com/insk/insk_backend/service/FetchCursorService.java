@@ -0,0 +1,204 @@
+package com.insk.insk_backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insk.insk_backend.client.NewsSource;
+import com.insk.insk_backend.domain.FetchCursor;
+import com.insk.insk_backend.repository.FetchCursorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (소스, 키워드)별 증분 수집 커서 관리.
+ *
+ * <p>매 실행마다 같은 검색 결과를 다시 받아 existsByOriginalUrl로 걸러내던 방식 대신,
+ * 최신순으로 읽다가 지난 실행의 watermark(가장 최신 발행시각)보다 오래된 기사에 닿으면 멈춘다.
+ * watermark와 같은 시각대의 기사는 최근 URL Bloom filter로 "이미 봤음"을 판정한다.
+ * 새 기사만 파이프라인으로 넘어가므로 수집 주기를 줄여도 API·DB 비용이 늘지 않는다.
+ *
+ * <p>커서는 목록 조회 때가 아니라 파이프라인이 기사를 처리(저장·FAILED 보존·중복 판정)한 뒤에야 전진한다
+ * ({@link NewsSource#commit}). 소스가 deadline을 넘겼거나 본문 로드·처리 중 실패한 기사는 Bloom filter에 넣지 않고,
+ * watermark도 그 기사의 발행시각을 넘지 않게 묶어 다음 실행에서 다시 받는다.
+ * 발행시각이 없는 기사(피드에 pubDate 누락)는 watermark 계산에서 빼고 Bloom filter로만 거른다.
+ *
+ * <p>삭제·유료화된 페이지처럼 계속 실패하는 기사가 watermark를 영영 붙잡지 않도록, URL별 실패 횟수를 커서에 남기고
+ * pipeline.cursor.max-item-attempts번 실패하면 그 기사는 포기하고 "본 것"으로 처리한다(Bloom filter에 넣고 묶지 않는다).
+ *
+ * <p>커서 저장은 낙관적 락(@Version)으로 보호한다. 수동 실행과 정기 실행이 같은 커서를 동시에 전진시키면
+ * 나중 저장은 버리고(로그만) 다음 실행에서 다시 전진한다 — 남의 watermark를 조용히 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FetchCursorService {
+
+    private final FetchCursorRepository fetchCursorRepository;
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${pipeline.cursor.bloom-capacity:2000}")
+    private int bloomCapacity = 2000;
+
+    @Value("${pipeline.cursor.bloom-fpp:0.01}")
+    private double bloomFpp = 0.01;
+
+    // 같은 URL이 이만큼 처리에 실패하면 포기하고 커서를 그 뒤로 전진시킨다
+    @Value("${pipeline.cursor.max-item-attempts:3}")
+    private int maxItemAttempts = 3;
+
+    // 커서 하나가 기억하는 실패 URL 수 상한 (넘으면 오래된 것부터 잊는다)
+    private static final int MAX_TRACKED_FAILURES = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** 커서를 읽어 온다. 없으면 아직 저장되지 않은 새 커서(첫 수집)를 돌려준다. */
+    @Transactional(readOnly = true)
+    public Cursor open(String source, String keyword) {
+        FetchCursor entity = fetchCursorRepository.findBySourceAndKeyword(source, keyword)
+                .orElseGet(() -> FetchCursor.builder().source(source).keyword(keyword).build());
+        BloomFilter bloom = entity.getRecentUrlBloom() != null
+                ? BloomFilter.fromBytes(Base64.getDecoder().decode(entity.getRecentUrlBloom()))
+                : BloomFilter.create(bloomCapacity, bloomFpp);
+        return new Cursor(entity, bloom);
+    }
+
+    /**
+     * 처리를 마친 기사(handled)로 watermark·Bloom filter를 전진시켜 저장한다.
+     * 처리하지 못한 기사(unhandled)는 실패 횟수를 올리고, 한도 전이면 다음 실행에서 다시 받도록 watermark를 그 발행시각 이하로 묶는다.
+     * 한도에 닿은 기사는 처리한 기사처럼 넘긴다.
+     *
+     * <p>트랜잭션을 걸지 않는다 — 저장은 저장소 호출 하나로 끝나고, 버전 충돌·동시 생성 충돌이 이 안에서 바로 드러나야
+     * 로그만 남기고 넘어갈 수 있다.
+     */
+    public void advance(Cursor cursor, List<NewsSource.Item> handled, List<NewsSource.Item> unhandled) {
+        if (handled.isEmpty() && unhandled.isEmpty()) return;
+
+        FetchCursor entity = cursor.entity;
+        Map<String, Integer> attempts = readAttempts(entity);
+        List<NewsSource.Item> seen = new ArrayList<>(handled);
+        List<NewsSource.Item> retry = new ArrayList<>();
+        for (NewsSource.Item item : unhandled) {
+            if (item.url() == null) {
+                retry.add(item);
+                continue;
+            }
+            int failures = attempts.merge(item.url(), 1, Integer::sum);
+            if (failures >= maxItemAttempts) {
+                attempts.remove(item.url());
+                seen.add(item);
+                log.warn("[FetchCursor] {}회 처리 실패로 포기하고 커서를 넘김: {}", failures, item.url());
+            } else {
+                retry.add(item);
+            }
+        }
+        for (NewsSource.Item item : handled) {
+            if (item.url() != null) attempts.remove(item.url());
+        }
+        Iterator<String> oldest = attempts.keySet().iterator();
+        while (attempts.size() > MAX_TRACKED_FAILURES) {
+            oldest.next();
+            oldest.remove();
+        }
+
+        BloomFilter bloom = cursor.bloom;
+        int count = entity.getBloomCount();
+        // 용량 초과 시 오탐률이 급증하므로 이번 배치만 담은 새 필터로 교체한다.
+        // 그보다 오래된 URL은 watermark가 이미 걸러 준다.
+        if (count + seen.size() > bloomCapacity) {
+            bloom = BloomFilter.create(bloomCapacity, bloomFpp);
+            count = 0;
+        }
+
+        LocalDateTime newest = null;
+        for (NewsSource.Item item : seen) {
+            if (item.url() != null) bloom.put(item.url());
+            if (item.publishedAt() != null && (newest == null || item.publishedAt().isAfter(newest))) {
+                newest = item.publishedAt();
+            }
+        }
+        // 다시 받을 기사보다 watermark가 앞서면 다음 실행에서 그 기사를 건너뛴다 (같은 시각은 Bloom filter에 없어 통과).
+        for (NewsSource.Item item : retry) {
+            if (newest != null && item.publishedAt() != null && item.publishedAt().isBefore(newest)) {
+                newest = item.publishedAt();
+            }
+        }
+        // watermark는 뒤로 가지 않는다.
+        LocalDateTime watermark = entity.getLastPublishedAt();
+        if (newest == null || (watermark != null && newest.isBefore(watermark))) {
+            newest = watermark;
+        }
+        entity.advance(newest, Base64.getEncoder().encodeToString(bloom.toBytes()), count + seen.size(),
+                writeAttempts(attempts));
+
+        try {
+            fetchCursorRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            // 수동 실행과 스케줄 실행이 같은 새 커서를 동시에 만든 경우. 다음 실행에서 다시 전진한다.
+            log.warn("[FetchCursor] 커서 동시 생성 충돌 source={}, keyword={}", entity.getSource(), entity.getKeyword());
+        } catch (OptimisticLockingFailureException e) {
+            // 그사이 다른 실행이 같은 커서를 전진시켰다. 덮어쓰지 않고 다음 실행에서 최신 커서로 다시 전진한다.
+            log.warn("[FetchCursor] 커서 동시 갱신 충돌 source={}, keyword={}", entity.getSource(), entity.getKeyword());
+        }
+    }
+
+    private Map<String, Integer> readAttempts(FetchCursor entity) {
+        if (entity.getFailedUrlAttempts() == null || entity.getFailedUrlAttempts().isBlank()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return objectMapper.readValue(entity.getFailedUrlAttempts(),
+                    new TypeReference<LinkedHashMap<String, Integer>>() {});
+        } catch (Exception e) {
+            return new LinkedHashMap<>();   // 깨진 값은 버리고 새로 센다
+        }
+    }
+
+    private String writeAttempts(Map<String, Integer> attempts) {
+        if (attempts.isEmpty()) return null;
+        try {
+            return objectMapper.writeValueAsString(attempts);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 한 번의 수집 동안 쓰는 커서 뷰 (엔티티 + 역직렬화된 Bloom filter). */
+    public static class Cursor {
+
+        private final FetchCursor entity;
+        private final BloomFilter bloom;
+
+        Cursor(FetchCursor entity, BloomFilter bloom) {
+            this.entity = entity;
+            this.bloom = bloom;
+        }
+
+        /** 한 번도 수집한 적 없는 커서인지. 첫 수집은 과거 전체를 훑지 않고 첫 페이지만 읽는다. */
+        public boolean isFirstFetch() {
+            return entity.getLastPublishedAt() == null;
+        }
+
+        /** watermark보다 오래된 기사인지. 최신순 목록에서 이 지점부터는 모두 지난 실행에서 본 구간이다. */
+        public boolean isBeforeWatermark(LocalDateTime publishedAt) {
+            LocalDateTime watermark = entity.getLastPublishedAt();
+            return watermark != null && publishedAt != null && publishedAt.isBefore(watermark);
+        }
+
+        /** 최근 URL Bloom filter 기준으로 이미 본 URL인지 (오탐 시 1건 누락을 감수한다). */
+        public boolean isSeen(String url) {
+            return url != null && bloom.mightContain(url);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.insk.insk_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 최신순 keyset 페이지 커서 — 직전 페이지 마지막 행의 (시각, id).
+ *
+ * <p>OFFSET 대신 "이 행보다 오래된 것부터"로 이어 읽어, 몇 번째 페이지든 인덱스 범위 스캔 한 번이다.
+ * 클라이언트에는 Base64URL 문자열로만 보이고, 깨진 값은 IllegalArgumentException(400).
+ * 피드백 목록(createdAt, id)과 관심기사(publishedAt, articleId)가 같이 쓴다.
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((at + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor 값입니다.");
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
  * <p>일시적 실패(타임아웃·rate limit·5xx)는 지수 백오프로 재시도하고,
  * 재시도가 모두 실패하면 저비용 폴백 모델로 1회 더 시도한다.
  * 폴백까지 실패하면 예외가 호출부로 전파되어 DLQ(ANALYSIS_FAILED)로 처리된다.
+ * 결과에는 실제로 답한 모델을 적어(AnalysisResponse.model), 폴백 결과가 주 모델 결과로 캐시되지 않게 한다.
  */
 @Slf4j
 @Service
@@ -44,7 +45,7 @@ public class LlmAnalysisService {
                     random = true)
     )
     public OpenAIDto.AnalysisResponse analyze(String body) {
-        return openAIClient.analyzeArticle(body, analysisModel);
+        return withModel(openAIClient.analyzeArticle(body, analysisModel), analysisModel);
     }
 
     /**
@@ -53,6 +54,11 @@ public class LlmAnalysisService {
     @Recover
     public OpenAIDto.AnalysisResponse recover(OpenAiAnalysisException e, String body) {
         log.warn("주 모델({}) 재시도 모두 실패 → 폴백 모델({}) 시도: {}", analysisModel, fallbackModel, e.getMessage());
-        return openAIClient.analyzeArticle(body, fallbackModel);
+        return withModel(openAIClient.analyzeArticle(body, fallbackModel), fallbackModel);
+    }
+
+    private static OpenAIDto.AnalysisResponse withModel(OpenAIDto.AnalysisResponse result, String model) {
+        if (result != null) result.setModel(model);
+        return result;
     }
 }
@@ -0,0 +1,59 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.client.MainTextExtractor;
+import com.insk.insk_backend.client.TokenEstimator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 분석·임베딩 직전의 본문 정리 단계.
+ *
+ * <p>스크래핑 본문에 남은 정형 문구(저작권·기자 이메일 등)를 지우고, 토큰 예산을 넘으면 문장 경계에서 자른다.
+ * 분석 품질은 기사 앞부분(리드·핵심 문단)에서 대부분 결정되므로 예산 밖 꼬리는 비용·지연만 늘린다.
+ * 본문 추출(보일러플레이트 영역 제거·본문 컨테이너 선택)은 스크래핑 시점에 {@link MainTextExtractor}가 한다.
+ *
+ * <p>지표: pipeline.llm.body.tokens.saved (기사당 절감 토큰 분포), pipeline.llm.body.truncated (잘린 기사 수).
+ */
+@Component
+public class LlmBodyPreparer {
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${pipeline.llm.max-body-tokens:3000}")
+    private int maxBodyTokens = 3000;
+
+    private final DistributionSummary tokensSaved;
+    private final DistributionSummary tokensSent;
+    private final Counter truncated;
+
+    public LlmBodyPreparer(MeterRegistry meterRegistry) {
+        this.tokensSaved = DistributionSummary.builder("pipeline.llm.body.tokens.saved")
+                .description("본문 정리·절단으로 줄인 추정 토큰 수 (기사당)")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.tokensSent = DistributionSummary.builder("pipeline.llm.body.tokens.sent")
+                .description("LLM에 보내는 본문의 추정 토큰 수 (기사당)")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.truncated = Counter.builder("pipeline.llm.body.truncated")
+                .description("토큰 예산을 넘어 잘린 기사 수")
+                .register(meterRegistry);
+    }
+
+    /** 분석·임베딩에 넘길 본문. null·공백은 그대로 돌려준다(호출부가 건너뛴다). */
+    public String prepare(String body) {
+        if (body == null || body.isBlank()) return body;
+
+        int before = TokenEstimator.estimate(body);
+        String cleaned = MainTextExtractor.stripBoilerplate(body);
+        String prepared = TokenEstimator.truncateToBudget(cleaned, maxBodyTokens);
+        if (prepared.length() < cleaned.length()) truncated.increment();
+
+        int after = TokenEstimator.estimate(prepared);
+        tokensSaved.record(Math.max(0, before - after));
+        tokensSent.record(after);
+        return prepared;
+    }
+}
@@ -2,20 +2,18 @@ package com.insk.insk_backend.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.insk.insk_backend.client.AITimesClient;
-import com.insk.insk_backend.client.QdrantClient;
+import com.insk.insk_backend.client.VectorIndex;
 import com.insk.insk_backend.client.EmbeddingClient;
 import com.insk.insk_backend.client.NaverNewsClient;
+import com.insk.insk_backend.client.NewsSource;
 import com.insk.insk_backend.client.OpenAiAnalysisException;
-import com.insk.insk_backend.client.TheGuruClient;
+import com.insk.insk_backend.client.OpenAiBatchException;
+import com.insk.insk_backend.client.OpenAiReactiveGateway;
 import com.insk.insk_backend.domain.AnalysisStatus;
 import com.insk.insk_backend.domain.Article;
 import com.insk.insk_backend.domain.Keyword;
 import com.insk.insk_backend.domain.User;
-import com.insk.insk_backend.dto.AITimesDto;
-import com.insk.insk_backend.dto.NaverNewsDto;
 import com.insk.insk_backend.dto.OpenAIDto;
-import com.insk.insk_backend.dto.TheGuruDto;
 import com.insk.insk_backend.repository.ArticleRepository;
 import com.insk.insk_backend.repository.KeywordRepository;
 import com.insk.insk_backend.repository.UserRepository;
@@ -25,14 +23,30 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -43,9 +57,10 @@ public class NewsPipelineService {
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
 
+    // DLQ 재처리 시 원문 재스크래핑용
     private final NaverNewsClient naverNewsClient;
-    private final AITimesClient aiTimesClient;
-    private final TheGuruClient theGuruClient;
+    // 등록된 모든 뉴스 소스 (새 소스는 NewsSource 빈 등록만으로 fan-out에 포함)
+    private final List<NewsSource> newsSources;
 
     private final EmbeddingClient embeddingClient;
     private final LlmAnalysisService llmAnalysisService;
@@ -53,8 +68,20 @@ public class NewsPipelineService {
     private final ArticlePersistenceService persistenceService;
     // 멘토 #4: 기사별 처리 병렬화 전용 풀 (빈 이름과 필드명이 같아 by-name 주입).
     private final Executor pipelineItemExecutor;
-    // 멘토 #1: 분석 임베딩을 VectorDB(Qdrant)에 색인 (brute-force cosine 대체)
-    private final QdrantClient qdrantClient;
+    // 소스 fan-out 전용 풀 (빈 이름과 필드명이 같아 by-name 주입).
+    private final Executor newsSourceExecutor;
+    // 멘토 #1: 분석 임베딩을 VectorDB(Qdrant/로컬 HNSW)에 색인 (brute-force cosine 대체)
+    private final VectorIndex vectorIndex;
+    // URL 중복 판정 Bloom filter 앞단 (음성이면 DB 조회 생략)
+    private final ArticleUrlIndex articleUrlIndex;
+    // 정기 수집·DLQ 재처리용 Batch API 분석 경로
+    private final BatchAnalysisService batchAnalysisService;
+    // 본문 해시 기반 분석 결과 캐시 (재배포 기사·DLQ 재분석의 LLM 호출 생략)
+    private final AnalysisCacheService analysisCacheService;
+    // 분석·임베딩 직전 본문 정리(정형 문구 제거·토큰 예산 절단)
+    private final LlmBodyPreparer llmBodyPreparer;
+    // Batch 누락분 재분석·임베딩 fan-out용 논블로킹 경로 (스레드 수와 무관하게 동시 호출)
+    private final OpenAiReactiveGateway openAiReactiveGateway;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -66,18 +93,45 @@ public class NewsPipelineService {
     @Value("${pipeline.dedup-window-days:7}")
     private int dedupWindowDays;
 
+    // 소스별 목록 조회 deadline. 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값.
+    @Value("${pipeline.source-deadline-ms:30000}")
+    private long sourceDeadlineMs = 30000;
+
     // DLQ 재처리 한도 (멘토 피드백 #5). 초과 시 DEAD로 격리해 영구 실패 기사의 유료 호출을 차단.
     // 비용 knob이라 외부화. 필드 초기값(3)은 Spring 미주입 환경(단위 테스트)용 안전값.
     @Value("${openai.dlq.max-reprocess-attempts:3}")
     private int maxReprocessAttempts = 3;
 
+    // 정기 수집(8시 cron)·DLQ 재처리를 Batch API로 분석할지. 사용자 요청(run-pipeline)은 항상 실시간.
+    @Value("${pipeline.batch.enabled:true}")
+    private boolean batchEnabled = true;
+
+    // Batch 결과 일괄 저장 묶음 크기 (한 트랜잭션에 담을 기사 수)
+    @Value("${pipeline.batch.persist-chunk-size:50}")
+    private int persistChunkSize = 50;
+
+    // 소스 1개가 pipelineItemExecutor에 한 번에 올리는 기사 수. 소스 3개가 동시에 올려도
+    // 풀(최대 8 스레드 + 대기열 200)을 넘지 않게 묶음 단위로 차례로 올린다.
+    @Value("${pipeline.item.max-in-flight-per-source:32}")
+    private int itemsInFlightPerSource = 32;
+
+    // Batch 결과 후처리(누락분 재분석·임베딩)에서 동시에 띄울 OpenAI 호출 수 상한
+    @Value("${pipeline.batch.llm-concurrency:16}")
+    private int llmConcurrency = 16;
+
     // 본문 임베딩 dedup 임계치는 제거됨 (cheap heuristic으로 대체).
     // 운영 데이터로 ROC tuning 후 application.yml로 외부화 예정.
 
+    // Batch 완료 대기가 길어 스케줄러 스레드를 막지 않도록 전용 풀에서 실행
+    @Async("batchPipelineExecutor")
     @Scheduled(cron = "0 0 8 * * *")
     public void runPipeline() {
         // 스케줄러는 사용자 정보 없이 실행 (전체 사용자 대상)
-        runPipelineSync(null);
+        if (batchEnabled) {
+            runPipelineBatch();
+        } else {
+            runPipelineSync(null);
+        }
     }
 
     /**
@@ -89,6 +143,33 @@ public class NewsPipelineService {
     }
 
     public void runPipelineSync(String userEmail) {
+        commitSources(collectAndProcess(userEmail, null));
+    }
+
+    /**
+     * 정기 수집 Batch 모드: 수집·중복 제거·본문 로드까지는 실시간과 같고, 분석만 모아서
+     * Batch API로 한 번에 제출한 뒤 결과를 일괄 저장한다. 지연은 늘지만 단가가 낮고
+     * 실시간 경로의 rate limit 여유를 쓰지 않는다.
+     */
+    public void runPipelineBatch() {
+        Queue<PendingAnalysis> deferred = new ConcurrentLinkedQueue<>();
+        List<SourceRun> runs = collectAndProcess(null, deferred);
+
+        // 같은 실행에서 여러 소스가 같은 기사를 가져온 경우 한 건만 분석 (저장되면 양쪽 소스 모두 처리 완료)
+        Map<String, PendingAnalysis> unique = new LinkedHashMap<>();
+        for (PendingAnalysis p : deferred) {
+            unique.merge(p.article().getCanonicalUrl(), p, PendingAnalysis::absorb);
+        }
+        analyzeDeferred(new ArrayList<>(unique.values()));
+        // 커서는 분석 결과까지 저장(또는 FAILED 보존)한 뒤에 전진시킨다.
+        commitSources(runs);
+    }
+
+    /**
+     * deferred가 null이면 기사별 실시간 분석, 아니면 분석 대기열에 모은다(Batch 모드).
+     * deadline 안에 목록 조회를 마친 소스의 실행 결과를 돌려준다 (커서 전진용).
+     */
+    private List<SourceRun> collectAndProcess(String userEmail, Queue<PendingAnalysis> deferred) {
         try {
             log.info("🚀 뉴스 파이프라인 실행 시작 (사용자: {})", userEmail);
             // 현재 사용자의 승인된 키워드만 사용
@@ -102,32 +183,19 @@ public class NewsPipelineService {
             
             if (keywords.isEmpty()) {
                 log.warn("⚠️ 승인된 키워드 없음 (사용자: {})", userEmail);
-                return;
+                return List.of();
             }
             log.info("📝 사용할 키워드 수: {} (사용자: {})", keywords.size(), userEmail);
 
-        // -----------------------
-        // 네이버 뉴스
-        // -----------------------
-        for (Keyword k : keywords) {
-            log.info("🔍 키워드로 검색 중: {} (사용자: {})", k.getKeyword(), userEmail);
-            List<NaverNewsDto> list = naverNewsClient.searchNews(k.getKeyword(), 10);
-            processNaver(list, k, userEmail);
-        }
-
-        // -----------------------
-        // AITimes RSS
-        // -----------------------
-        List<AITimesDto> aiList = aiTimesClient.fetchNews(10);
-        processAITimes(aiList, userEmail);
-
-        // -----------------------
-        // TheGuru RSS
-        // -----------------------
-        List<TheGuruDto> guruList = theGuruClient.fetchNews(10);
-        processTheGuru(guruList, userEmail);
+            // 등록된 모든 소스를 동시에 fan-out. 소스 하나가 느려도 전체 wall-clock은 가장 느린 소스 1개 수준.
+            User user = resolveUser(userEmail);
+            List<CompletableFuture<SourceRun>> perSource = newsSources.stream()
+                    .map(source -> runSource(source, keywords, user, deferred))
+                    .toList();
+            CompletableFuture.allOf(perSource.toArray(CompletableFuture[]::new)).join();
 
-        log.info("🎉 Pipeline 완료");
+            log.info("🎉 Pipeline 완료");
+            return perSource.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
         } catch (Exception e) {
             log.error("❌ 뉴스 파이프라인 실행 중 오류 발생", e);
             throw new RuntimeException("뉴스 파이프라인 실행 실패: " + e.getMessage(), e);
@@ -140,18 +208,24 @@ public class NewsPipelineService {
      * 재실패하면 retry_count를 올리고, 한도(maxReprocessAttempts) 초과 시 DEAD로 격리해
      * 재처리 풀(FAILED 조회)에서 빼 영구 실패 기사의 유료 호출 비용을 차단한다.
      */
+    @Async("batchPipelineExecutor")
     @Scheduled(cron = "${pipeline.dlq-reprocess-cron:0 0 */6 * * *}")  // 멘토 #5: DLQ 자동 드레인(기본 6시간마다)
     public void reprocessFailedAnalyses() {
         List<Article> failed = articleRepository.findByAnalysisStatus(AnalysisStatus.FAILED);
-        log.info("🔁 DLQ 재처리 시작: {}건", failed.size());
+        log.info("🔁 DLQ 재처리 시작: {}건 (batch={})", failed.size(), batchEnabled);
+
+        if (batchEnabled) {
+            reprocessFailedInBatch(failed);
+            return;
+        }
 
         for (Article a : failed) {
             // 외부 호출(스크랩·분석·임베딩)은 트랜잭션 밖, DB 쓰기만 persistenceService의 짧은 트랜잭션.
-            String body = naverNewsClient.scrapeArticleBody(a.getOriginalUrl());
+            String body = llmBodyPreparer.prepare(naverNewsClient.scrapeArticleBody(a.getOriginalUrl()));
             if (body == null || body.isBlank()) continue;
 
             try {
-                OpenAIDto.AnalysisResponse ar = llmAnalysisService.analyze(body);
+                OpenAIDto.AnalysisResponse ar = analyzeCached(body);
                 String embeddingJson = embedJson(body);
                 persistenceService.persistAnalyzed(a, embeddingJson, ar, null, null);
                 indexVector(a, embeddingJson);
@@ -168,107 +242,296 @@ public class NewsPipelineService {
         }
     }
 
-    private void processNaver(List<NaverNewsDto> list, Keyword keyword, String userEmail) {
-        User user = resolveUser(userEmail);
-        // 멘토 #4: 기사별 처리를 병렬 실행. #3로 각 기사가 독립 짧은 트랜잭션이라 스레드별 커넥션으로 안전.
-        runItemsInParallel(list.stream()
-                .map(item -> (Runnable) () -> processNaverItem(item, keyword, user))
-                .toList());
+    /** DLQ Batch 모드: 본문 재수집 후 한 배치로 분석. 결과 없는 기사는 기존 규칙대로 retry_count·DEAD 처리. */
+    private void reprocessFailedInBatch(List<Article> failed) {
+        List<PendingAnalysis> pending = new ArrayList<>();
+        for (Article a : failed) {
+            String body = llmBodyPreparer.prepare(naverNewsClient.scrapeArticleBody(a.getOriginalUrl()));
+            if (body == null || body.isBlank()) continue;
+            pending.add(new PendingAnalysis(a, body, null, null, () -> { }));
+        }
+        analyzeDeferred(pending);
     }
 
-    private void processNaverItem(NaverNewsDto item, Keyword keyword, User user) {
+    /**
+     * 모아 둔 기사를 Batch API로 분석하고 결과를 묶음 단위로 저장한다.
+     * 배치에서 항목 단위로 실패한 기사는 실시간과 같은 재시도+폴백 모델로 한 번 더 분석하고(논블로킹 게이트웨이로
+     * 최대 llmConcurrency건 동시), 그래도 실패하면
+     * 신규 기사는 FAILED 보존(DLQ), 재처리 기사는 retry_count 증가·한도 초과 시 DEAD.
+     * 배치가 통째로 실패하면(OpenAI 장애 등) 신규 기사는 FAILED로 보존만 하고 재처리 기사는 retry_count를 올리지 않는다.
+     * 저장(또는 FAILED 보존)까지 끝난 기사는 onStored로 알린다.
+     */
+    private void analyzeDeferred(List<PendingAnalysis> pending) {
+        if (pending.isEmpty()) return;
+
+        // 캐시 적중분과 같은 배치 안의 동일 본문(재배포 기사)은 제출하지 않는다.
+        Map<String, OpenAIDto.AnalysisResponse> results = new HashMap<>();
+        Map<String, String> bodies = new LinkedHashMap<>();
+        Map<String, String> firstIdByKey = new HashMap<>();
+        Map<String, String> aliasOf = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            String id = String.valueOf(i);
+            String body = pending.get(i).body();
+            OpenAIDto.AnalysisResponse cached = analysisCacheService.get(body);
+            if (cached != null) {
+                results.put(id, cached);
+                continue;
+            }
+            String first = firstIdByKey.putIfAbsent(analysisCacheService.key(body), id);
+            if (first != null) {
+                aliasOf.put(id, first);
+            } else {
+                bodies.put(id, body);
+            }
+        }
+        boolean batchFailed = false;
         try {
-            String url = item.getOriginalUrl();
-            if (articleRepository.existsByOriginalUrl(url)) return;     // [1] URL 매칭 ($0)
-
-            String cleanTitle = removeHtmlTags(item.getTitle());
-            if (isDuplicateByTitle(cleanTitle)) return;                // [2] 제목 Jaccard ($0)
+            batchAnalysisService.analyzeAll(bodies).forEach((id, ar) -> {
+                analysisCacheService.put(bodies.get(id), ar);
+                results.put(id, ar);
+            });
+        } catch (OpenAiBatchException e) {
+            batchFailed = true;
+            log.warn("Batch 전체 실패 → 신규 {}건 FAILED 보존, 재처리 기사는 횟수 차감 없이 다음 회차로: {}",
+                    bodies.size(), e.getMessage());
+        }
+        if (!batchFailed) {
+            Map<String, String> missing = new LinkedHashMap<>();
+            bodies.forEach((id, body) -> {
+                if (!results.containsKey(id)) missing.put(id, body);
+            });
+            reanalyzeMissing(missing).forEach((id, ar) -> {
+                analysisCacheService.put(missing.get(id), ar);
+                results.put(id, ar);
+            });
+        }
+        aliasOf.forEach((id, first) -> {
+            if (results.containsKey(first)) results.put(id, results.get(first));
+        });
+
+        List<PendingAnalysis> analyzedFrom = new ArrayList<>();
+        List<OpenAIDto.AnalysisResponse> analyses = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            PendingAnalysis p = pending.get(i);
+            Article a = p.article();
+            OpenAIDto.AnalysisResponse ar = results.get(String.valueOf(i));
+            if (ar != null) {
+                analyzedFrom.add(p);
+                analyses.add(ar);
+            } else if (a.getArticleId() == null) {
+                try {
+                    persistenceService.persistFailed(a);              // 신규 기사: 유실 대신 FAILED 보존(DLQ)
+                    articleUrlIndex.record(a.getOriginalUrl());
+                    p.onStored().run();
+                } catch (Exception e) {
+                    log.warn("FAILED 보존 실패(다음 수집에서 다시 받음): {} ({})", a.getOriginalUrl(), e.toString());
+                }
+            } else if (batchFailed) {
+                log.debug("Batch 장애로 재처리 보류(FAILED 유지): {}", a.getTitle());
+            } else if (persistenceService.persistReprocessFailure(a, maxReprocessAttempts)) {
+                log.warn("DLQ 재처리 {}회 초과 → DEAD 격리: {}", maxReprocessAttempts, a.getTitle());
+            }
+        }
 
-            String body = naverNewsClient.scrapeArticleBody(url);
-            if (body == null || body.isBlank()) return;
+        List<String> embeddings = embedAllJson(analyzedFrom.stream().map(PendingAnalysis::body).toList());
+        List<ArticlePersistenceService.AnalyzedArticle> analyzed = new ArrayList<>();
+        for (int i = 0; i < analyzedFrom.size(); i++) {
+            PendingAnalysis p = analyzedFrom.get(i);
+            analyzed.add(new ArticlePersistenceService.AnalyzedArticle(
+                    p.article(), embeddings.get(i), analyses.get(i), p.keyword(), p.user()));
+        }
 
-            Article a = Article.builder()
-                    .title(cleanTitle)
-                    .originalUrl(url)
-                    .publishedAt(item.getPubDate())
-                    .createdAt(LocalDateTime.now())
-                    .source("Naver")
-                    .country("KR")
-                    .language("ko")
-                    .build();
+        for (int from = 0; from < analyzed.size(); from += persistChunkSize) {
+            int to = Math.min(from + persistChunkSize, analyzed.size());
+            List<Boolean> saved = persistChunk(analyzed.subList(from, to));
+            for (int i = from; i < to; i++) {
+                if (saved.get(i - from)) analyzedFrom.get(i).onStored().run();
+            }
+        }
+        log.info("📦 Batch 분석 저장 완료: 성공 {}/{}건", analyzed.size(), pending.size());
+    }
 
-            persistOrDlq(a, body, keyword, user, cleanTitle);
+    /**
+     * 묶음 저장. 실패(예: 대기 중 다른 실행이 같은 URL을 저장)하면 건별 저장으로 재시도한다.
+     * 항목별 저장 성공 여부를 돌려준다.
+     */
+    private List<Boolean> persistChunk(List<ArticlePersistenceService.AnalyzedArticle> chunk) {
+        List<Boolean> wasNew = chunk.stream().map(it -> it.article().getArticleId() == null).toList();
+        List<Boolean> saved = new ArrayList<>(Collections.nCopies(chunk.size(), true));
+        try {
+            persistenceService.persistAnalyzedAll(chunk);
         } catch (Exception e) {
-            // URL 유니크 경쟁 등 개별 기사 실패는 배치 전체를 막지 않도록 건너뛴다.
-            log.warn("기사 처리 실패(건너뜀): {} ({})", item.getOriginalUrl(), e.toString());
+            log.warn("일괄 저장 실패 → 건별 저장으로 재시도: {}", e.getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                ArticlePersistenceService.AnalyzedArticle it = chunk.get(i);
+                // 롤백된 신규 기사는 IDENTITY id만 남아 있으므로 새 엔티티로 다시 저장한다.
+                Article article = wasNew.get(i) ? copyForInsert(it.article()) : it.article();
+                try {
+                    persistenceService.persistAnalyzed(article, it.embeddingJson(), it.analysis(), it.keyword(), it.user());
+                    chunk.set(i, new ArticlePersistenceService.AnalyzedArticle(
+                            article, it.embeddingJson(), it.analysis(), it.keyword(), it.user()));
+                } catch (Exception single) {
+                    saved.set(i, false);
+                    log.warn("기사 저장 실패(건너뜀): {} ({})", article.getOriginalUrl(), single.toString());
+                }
+            }
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!saved.get(i)) continue;
+            ArticlePersistenceService.AnalyzedArticle it = chunk.get(i);
+            articleUrlIndex.record(it.article().getOriginalUrl());
+            indexVector(it.article(), it.embeddingJson());
         }
+        return saved;
     }
 
-    private void processAITimes(List<AITimesDto> list, String userEmail) {
-        User user = resolveUser(userEmail);
-        runItemsInParallel(list.stream()
-                .map(item -> (Runnable) () -> processAITimesItem(item, user))
-                .toList());
+    private Article copyForInsert(Article a) {
+        return Article.builder()
+                .title(a.getTitle())
+                .originalUrl(a.getOriginalUrl())
+                .publishedAt(a.getPublishedAt())
+                .createdAt(a.getCreatedAt())
+                .source(a.getSource())
+                .country(a.getCountry())
+                .language(a.getLanguage())
+                .build();
     }
 
-    private void processAITimesItem(AITimesDto item, User user) {
-        try {
-            String url = item.getOriginalUrl();
-            if (articleRepository.existsByOriginalUrl(url)) return;     // [1] URL 매칭
-            if (isDuplicateByTitle(item.getTitle())) return;           // [2] 제목 Jaccard
-
-            String body = (item.getSummary() == null ? "" : item.getSummary());
-            if (body.length() < 10) body = item.getTitle() + " " + body;
-            if (body.isBlank()) return;
+    /**
+     * Batch 모드에서 분석을 기다리는 기사 (본문 로드까지 끝난 상태).
+     * onStored는 저장(또는 FAILED 보존)이 끝났을 때 호출돼 수집 항목을 처리 완료로 표시한다.
+     */
+    private record PendingAnalysis(Article article, String body, Keyword keyword, User user, Runnable onStored) {
+
+        /** 같은 URL을 가져온 다른 소스 항목(other)도 이 기사가 저장되면 처리 완료로 본다. */
+        PendingAnalysis absorb(PendingAnalysis other) {
+            Runnable mine = onStored;
+            return new PendingAnalysis(article, body, keyword, user, () -> {
+                mine.run();
+                other.onStored().run();
+            });
+        }
+    }
 
-            LocalDateTime parsedPubDate = item.getPublishedAt();
-            Article a = Article.builder()
-                    .title(item.getTitle())
-                    .originalUrl(url)
-                    .publishedAt(parsedPubDate != null ? parsedPubDate : LocalDateTime.now())
-                    .createdAt(LocalDateTime.now())
-                    .source("AITimes")
-                    .country("KR")
-                    .language("ko")
-                    .build();
+    /** 소스 1개 실행 결과: 목록 조회로 받은 기사와, 그중 처리(저장·FAILED 보존·중복 판정)를 마친 기사. */
+    private record SourceRun(NewsSource source, List<NewsSource.Item> items, Set<NewsSource.Item> handled) {
+    }
 
-            persistOrDlq(a, body, null, user, item.getTitle());
-        } catch (Exception e) {
-            log.warn("기사 처리 실패(건너뜀): {} ({})", item.getOriginalUrl(), e.toString());
+    /**
+     * 처리를 마친 기사만큼 소스별 커서를 전진시킨다. 처리 못 한 기사는 다음 실행에서 다시 받는다.
+     * 커서 저장 실패는 다음 실행에서 같은 목록을 다시 거르는 비용뿐이라 로그만 남긴다.
+     */
+    private void commitSources(List<SourceRun> runs) {
+        for (SourceRun run : runs) {
+            List<NewsSource.Item> handled = new ArrayList<>();
+            List<NewsSource.Item> unhandled = new ArrayList<>();
+            for (NewsSource.Item item : run.items()) {
+                (run.handled().contains(item) ? handled : unhandled).add(item);
+            }
+            try {
+                run.source().commit(handled, unhandled);
+            } catch (Exception e) {
+                log.warn("소스 {} 커서 전진 실패: {}", run.source().name(), e.toString());
+            }
+            if (!unhandled.isEmpty()) {
+                log.info("소스 {}: 처리 못 한 {}건은 다음 실행에서 다시 수집", run.source().name(), unhandled.size());
+            }
         }
     }
 
-    private void processTheGuru(List<TheGuruDto> list, String userEmail) {
-        User user = resolveUser(userEmail);
-        runItemsInParallel(list.stream()
-                .map(item -> (Runnable) () -> processTheGuruItem(item, user))
-                .toList());
+    /**
+     * 소스 1개 실행: 목록 조회는 newsSourceExecutor에서 deadline 안에 끝내고,
+     * 받은 기사들은 pipelineItemExecutor에서 병렬 처리한다 (itemsInFlightPerSource개씩 묶어 차례로 올린다).
+     * deadline 초과·조회 실패는 해당 소스만 건너뛰고 다른 소스 처리를 막지 않는다.
+     * 이때는 null을 돌려 커서를 전진시키지 않는다 (다음 실행에서 같은 구간을 다시 받는다).
+     * (deadline은 대기만 끊는다. 블로킹 I/O 자체는 각 클라이언트의 HTTP 타임아웃으로 끝난다.)
+     */
+    private CompletableFuture<SourceRun> runSource(NewsSource source, List<Keyword> keywords, User user,
+                                                   Queue<PendingAnalysis> deferred) {
+        return CompletableFuture.supplyAsync(() -> source.fetch(keywords), newsSourceExecutor)
+                .orTimeout(sourceDeadlineMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("⏱️ 소스 {} 조회가 deadline({}ms)을 넘어 이번 실행에서 제외", source.name(), sourceDeadlineMs);
+                    } else {
+                        log.warn("소스 {} 조회 실패(건너뜀): {}", source.name(), cause.toString());
+                    }
+                    return null;
+                })
+                .thenCompose(items -> {
+                    if (items == null) return CompletableFuture.completedFuture(null);
+                    log.info("📥 소스 {}: 후보 {}건", source.name(), items.size());
+                    SourceRun run = new SourceRun(source, items, ConcurrentHashMap.newKeySet());
+                    // 멘토 #4: 기사별 처리를 병렬 실행. #3로 각 기사가 독립 짧은 트랜잭션이라 스레드별 커넥션으로 안전.
+                    // 한꺼번에 올리면 풀 대기열을 넘어 거절되므로, 앞 묶음이 끝나야 다음 묶음을 올린다.
+                    int window = Math.max(1, itemsInFlightPerSource);
+                    CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                    for (int from = 0; from < items.size(); from += window) {
+                        List<NewsSource.Item> chunk = items.subList(from, Math.min(from + window, items.size()));
+                        chain = chain.thenCompose(v -> processChunk(source, chunk, user, deferred, run.handled()));
+                    }
+                    return chain.thenApply(v -> run);
+                });
+    }
+
+    /**
+     * 기사 묶음 하나를 pipelineItemExecutor에 올린다. 그래도 풀이 가득 차 거절된 기사는 건너뛴다 —
+     * handled에 넣지 않으므로 커서가 그 앞에서 멈추고 다음 실행에서 다시 받는다 (실행 전체를 실패시키지 않는다).
+     */
+    private CompletableFuture<Void> processChunk(NewsSource source, List<NewsSource.Item> chunk, User user,
+                                                 Queue<PendingAnalysis> deferred, Set<NewsSource.Item> handled) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunk.size()];
+        for (int i = 0; i < futures.length; i++) {
+            NewsSource.Item item = chunk.get(i);
+            try {
+                futures[i] = CompletableFuture.runAsync(
+                        () -> processItem(source, item, user, deferred, handled), pipelineItemExecutor);
+            } catch (RejectedExecutionException e) {
+                log.warn("기사 처리 풀 포화로 건너뜀(다음 실행에서 다시 수집): {}", item.url());
+                futures[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        return CompletableFuture.allOf(futures);
     }
 
-    private void processTheGuruItem(TheGuruDto item, User user) {
+    /**
+     * 소스 공통 기사 처리 경로: 비용 사다리(URL → 제목 Jaccard) 통과분만 본문 로드 후 분석.
+     * 중복으로 걸렀거나 저장(또는 FAILED 보존)까지 끝난 항목은 handled에 넣는다. Batch 모드는 분석 저장 뒤에 넣는다.
+     */
+    private void processItem(NewsSource source, NewsSource.Item item, User user, Queue<PendingAnalysis> deferred,
+                             Set<NewsSource.Item> handled) {
         try {
-            String url = item.getOriginalUrl();
-            if (articleRepository.existsByOriginalUrl(url)) return;     // [1] URL 매칭
-            if (isDuplicateByTitle(item.getTitle())) return;           // [2] 제목 Jaccard
+            String url = item.url();
+            if (articleUrlIndex.isKnown(url)                            // [1] URL 매칭 ($0, Bloom 음성이면 DB 생략)
+                    || isDuplicateByTitle(item.title())) {            // [2] 제목 Jaccard ($0)
+                handled.add(item);
+                return;
+            }
 
-            String body = (item.getSummary() == null ? "" : item.getSummary());
-            if (body.length() < 10) body = item.getTitle() + " " + body;
-            if (body.isBlank()) return;
+            String body = llmBodyPreparer.prepare(source.loadBody(item));
+            if (body == null || body.isBlank()) return;                 // 본문 로드 실패: 다음 실행에서 다시 받는다
 
-            LocalDateTime parsedPubDate = item.getPublishedAt();
             Article a = Article.builder()
-                    .title(item.getTitle().replaceAll("<[^>]+>", ""))
+                    .title(item.title())
                     .originalUrl(url)
-                    .publishedAt(parsedPubDate != null ? parsedPubDate : LocalDateTime.now())
+                    // 발행시각 없는 피드 항목은 수집 시각으로 저장한다 (커서 watermark에는 쓰지 않는다).
+                    .publishedAt(item.publishedAt() != null ? item.publishedAt() : LocalDateTime.now())
                     .createdAt(LocalDateTime.now())
-                    .source("TheGuru")
-                    .country("KR")
-                    .language("ko")
+                    .source(item.source())
+                    .country(item.country())
+                    .language(item.language())
                     .build();
 
-            persistOrDlq(a, body, null, user, item.getTitle());
+            if (deferred != null) {
+                deferred.add(new PendingAnalysis(a, body, item.keyword(), user, () -> handled.add(item)));
+            } else {
+                persistOrDlq(a, body, item.keyword(), user, item.title());
+                handled.add(item);
+            }
         } catch (Exception e) {
-            log.warn("기사 처리 실패(건너뜀): {} ({})", item.getOriginalUrl(), e.toString());
+            // URL 유니크 경쟁 등 개별 기사 실패는 배치 전체를 막지 않도록 건너뛴다.
+            log.warn("기사 처리 실패(건너뜀): {} ({})", item.url(), e.toString());
         }
     }
 
@@ -277,14 +540,6 @@ public class NewsPipelineService {
         return userRepository.findByEmail(userEmail).orElse(null);
     }
 
-    /** 멘토 #4: 작업들을 pipelineItemExecutor에서 병렬 실행하고 모두 끝날 때까지 대기. */
-    private void runItemsInParallel(List<Runnable> tasks) {
-        CompletableFuture<?>[] futures = tasks.stream()
-                .map(t -> CompletableFuture.runAsync(t, pipelineItemExecutor))
-                .toArray(CompletableFuture[]::new);
-        CompletableFuture.allOf(futures).join();
-    }
-
     /**
      * 분석(재시도+폴백) → 성공 시 임베딩 후 저장, 최종 실패 시 FAILED 보존(DLQ).
      * 외부 호출(분석·임베딩)은 트랜잭션 밖, DB 쓰기만 persistenceService의 짧은 트랜잭션.
@@ -292,25 +547,84 @@ public class NewsPipelineService {
     private void persistOrDlq(Article a, String body, Keyword keyword, User user, String title) {
         OpenAIDto.AnalysisResponse ar;
         try {
-            ar = llmAnalysisService.analyze(body);                      // 재시도+폴백
+            ar = analyzeCached(body);                                   // 캐시 → 재시도+폴백
         } catch (OpenAiAnalysisException e) {
             persistenceService.persistFailed(a);                        // 유실 대신 FAILED 보존(DLQ)
+            articleUrlIndex.record(a.getOriginalUrl());
             log.warn("분석 최종 실패, DLQ 저장: {} ({})", title, e.getMessage());
             return;
         }
         String embeddingJson = embedJson(body);
         persistenceService.persistAnalyzed(a, embeddingJson, ar, keyword, user);
-        indexVector(a, embeddingJson);   // 멘토 #1: 벡터를 Qdrant에 색인(트랜잭션 밖)
+        articleUrlIndex.record(a.getOriginalUrl());
+        indexVector(a, embeddingJson);   // 멘토 #1: 벡터를 VectorDB에 색인(트랜잭션 밖)
     }
 
-    /** 본문 임베딩 JSON을 파싱해 Qdrant에 벡터 색인(트랜잭션 밖 외부 호출). 실패는 무시. */
+    /** 분석 캐시를 먼저 보고, 미스일 때만 LLM 분석(재시도+폴백) 후 결과를 캐시에 남긴다. */
+    private OpenAIDto.AnalysisResponse analyzeCached(String body) {
+        OpenAIDto.AnalysisResponse cached = analysisCacheService.get(body);
+        if (cached != null) return cached;
+        OpenAIDto.AnalysisResponse ar = llmAnalysisService.analyze(body);
+        analysisCacheService.put(body, ar);
+        return ar;
+    }
+
+    /**
+     * Batch에서 항목 단위로 빠진 기사를 재시도+폴백 모델로 한 번 더 분석한다 (최대 llmConcurrency건 동시).
+     * 재시도·폴백까지 실패한 항목은 결과에서 빠진다.
+     */
+    private Map<String, OpenAIDto.AnalysisResponse> reanalyzeMissing(Map<String, String> missing) {
+        if (missing.isEmpty()) return Map.of();
+        try {
+            Map<String, OpenAIDto.AnalysisResponse> retried = openAiReactiveGateway.analyzeAll(missing, llmConcurrency).block();
+            log.info("Batch 누락 {}건 재분석: 성공 {}건", missing.size(), retried == null ? 0 : retried.size());
+            return retried == null ? Map.of() : retried;
+        } catch (Exception e) {
+            log.warn("Batch 누락 항목 재분석 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 본문들을 최대 llmConcurrency건씩 동시에 임베딩해 입력 순서대로 JSON 문자열로 돌려준다.
+     * 실패한 항목은 null(임베딩 없이 저장) — 건별 embedJson과 같은 규칙.
+     */
+    private List<String> embedAllJson(List<String> bodies) {
+        if (bodies.isEmpty()) return List.of();
+        try {
+            List<Optional<String>> jsons = Flux.fromIterable(bodies)
+                    .flatMapSequential(body -> Mono.defer(() -> openAiReactiveGateway.embed(body))
+                                    .map(v -> Optional.ofNullable(toJson(v)))
+                                    .onErrorResume(e -> {
+                                        log.error("Embedding 생성 실패: {}", e.getMessage());
+                                        return Mono.just(Optional.empty());
+                                    }),
+                            llmConcurrency)
+                    .collectList()
+                    .block();
+            return jsons.stream().map(j -> j.orElse(null)).toList();
+        } catch (Exception e) {
+            log.error("Embedding 일괄 생성 실패", e);
+            return new ArrayList<>(Collections.nCopies(bodies.size(), (String) null));
+        }
+    }
+
+    private String toJson(List<Double> embedding) {
+        try {
+            return objectMapper.writeValueAsString(embedding);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** 본문 임베딩 JSON을 파싱해 벡터 인덱스에 색인(트랜잭션 밖 외부 호출). 실패는 무시. */
     private void indexVector(Article a, String embeddingJson) {
         if (embeddingJson == null) return;
         try {
             List<Double> v = objectMapper.readValue(embeddingJson, new TypeReference<List<Double>>() {});
-            qdrantClient.upsert(a.getArticleId(), v);
+            vectorIndex.upsert(a.getArticleId(), v);
         } catch (Exception e) {
-            log.warn("Qdrant 색인 실패 articleId={}: {}", a.getArticleId(), e.getMessage());
+            log.warn("벡터 색인 실패 articleId={}: {}", a.getArticleId(), e.getMessage());
         }
     }
 
@@ -394,25 +708,4 @@ public class NewsPipelineService {
             return null;
         }
     }
-
-    /**
-     * HTML 태그 제거 (예: <b></b>, <strong></strong>, <em></em> 등)
-     */
-    private String removeHtmlTags(String text) {
-        if (text == null || text.isBlank()) {
-            return text;
-        }
-        // HTML 태그 제거 및 HTML 엔티티 디코딩
-        return text
-                .replaceAll("<[^>]+>", "") // HTML 태그 제거
-                .replaceAll("&nbsp;", " ") // &nbsp; → 공백
-                .replaceAll("&amp;", "&")  // &amp; → &
-                .replaceAll("&lt;", "<")   // &lt; → <
-                .replaceAll("&gt;", ">")   // &gt; → >
-                .replaceAll("&quot;", "\"") // &quot; → "
-                .replaceAll("&#39;", "'")   // &#39; → '
-                .trim();
-    }
 }
-
-
@@ -0,0 +1,307 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.dto.ArticleSearchDto;
+import com.insk.insk_backend.dto.PdfExportDto;
+import com.insk.insk_backend.exception.TooManyExportJobsException;
+import com.insk.insk_backend.repository.ArticleAnalysisRepository;
+import com.insk.insk_backend.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 여러 기사 PDF 일괄 내보내기 — 관심기사·검색 결과·카테고리+기간 단위.
+ *
+ * <p>예전에는 기사마다 /{articleId}/pdf를 따로 호출해 요청마다 폰트를 다시 읽었다. 이제
+ * <ol>
+ *   <li>요청 스레드에서 대상 기사 ID만 정하고(잘못된 요청은 바로 400) 작업 ID를 돌려준다.</li>
+ *   <li>기사별 PDF를 pdfExportExecutor(상한 있는 전용 풀)에서 병렬로 렌더링해 작업 디렉터리에 임시 파일로 쓴다.
+ *       폰트는 PdfFontCache가 한 번 파싱한 것을 스레드마다 빌려 쓴다.</li>
+ *   <li>클라이언트는 상태(완료/실패 건수)를 폴링하다 READY가 되면 ZIP 또는 병합 PDF로 내려받는다.
+ *       ZIP·병합 모두 응답 스트림에 바로 쓴다.</li>
+ * </ol>
+ * 작업 파일은 끝난 뒤 pdf.export.ttl-minutes 동안만 보관하고, 내려받는 중인 작업은 다운로드가 끝날 때까지 지우지 않는다.
+ * 작업은 만든 사용자만 조회·다운로드할 수 있다. 사용자당 진행 중 작업은 pdf.export.max-active-per-user개,
+ * 보관 작업은 서버 전체 pdf.export.max-jobs개까지이고 넘으면 429(TooManyExportJobsException)로 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PdfExportService {
+
+    public enum State { RUNNING, READY, FAILED }
+
+    public record Status(String jobId, State state, PdfExportDto.Format format, int total, int completed,
+                         int failed, Instant startedAt, Instant finishedAt) {
+    }
+
+    private final ArticleRepository articleRepository;
+    private final ArticleAnalysisRepository analysisRepository;
+    private final ArticleSearchService articleSearchService;
+    private final PdfReportLoader reportLoader;
+    private final ArticlePdfService pdfService;
+    private final Executor pdfExportExecutor;   // 빈 이름과 필드명이 같아 by-name 주입
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    // 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${pdf.export.dir:./data/pdf-exports}")
+    private String dir = "./data/pdf-exports";
+
+    @Value("${pdf.export.max-articles:100}")
+    private int maxArticles = 100;
+
+    @Value("${pdf.export.ttl-minutes:30}")
+    private long ttlMinutes = 30;
+
+    @Value("${pdf.export.max-active-per-user:2}")
+    private int maxActivePerUser = 2;
+
+    @Value("${pdf.export.max-jobs:200}")
+    private int maxJobs = 200;
+
+    @Value("${pdf.render.max-main-memory-bytes:8388608}")
+    private long maxMainMemoryBytes = 8L * 1024 * 1024;
+
+    private static final class Job {
+        private final String id;
+        private final String owner;
+        private final PdfExportDto.Format format;
+        private final List<Long> articleIds;
+        private final Path dir;
+        private final Path[] files;   // 기사 순서대로, 실패한 자리는 null
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final Instant startedAt = Instant.now();
+        private volatile State state = State.RUNNING;
+        private volatile Instant finishedAt;
+        private int downloads;      // 진행 중인 다운로드 수 (job 모니터로 보호)
+        private boolean purged;     // 정리돼 파일이 없어짐 (job 모니터로 보호)
+
+        private Job(String id, String owner, PdfExportDto.Format format, List<Long> articleIds, Path dir) {
+            this.id = id;
+            this.owner = owner;
+            this.format = format;
+            this.articleIds = articleIds;
+            this.dir = dir;
+            this.files = new Path[articleIds.size()];
+        }
+
+        private Status status() {
+            return new Status(id, state, format, articleIds.size(), completed.get(), failed.get(),
+                    startedAt, finishedAt);
+        }
+    }
+
+    public Status start(String userEmail, PdfExportDto.Request request) throws IOException {
+        if (request == null || request.getSource() == null) {
+            throw new IllegalArgumentException("내보낼 대상(source)이 필요합니다.");
+        }
+        List<Long> articleIds = resolveArticleIds(userEmail, request);
+        if (articleIds.isEmpty()) {
+            throw new IllegalArgumentException("내보낼 기사가 없습니다.");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path jobDir = Path.of(dir, id);
+        PdfExportDto.Format format = request.getFormat() != null ? request.getFormat() : PdfExportDto.Format.ZIP;
+        Job job = new Job(id, userEmail, format, articleIds, jobDir);
+        register(job);
+        try {
+            Files.createDirectories(jobDir);
+        } catch (IOException e) {
+            jobs.remove(id);
+            throw e;
+        }
+
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[articleIds.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            int index = i;
+            try {
+                tasks[i] = CompletableFuture.runAsync(() -> renderOne(job, index), pdfExportExecutor);
+            } catch (RejectedExecutionException e) {
+                job.failed.incrementAndGet();
+                tasks[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        CompletableFuture.allOf(tasks).whenComplete((ignored, error) -> {
+            job.state = job.completed.get() > 0 ? State.READY : State.FAILED;
+            job.finishedAt = Instant.now();
+            log.info("📦 PDF 내보내기 {} 완료: {}/{}건 (실패 {})", id, job.completed.get(),
+                    job.articleIds.size(), job.failed.get());
+        });
+
+        return job.status();
+    }
+
+    public Status status(String userEmail, String jobId) {
+        return find(userEmail, jobId).status();
+    }
+
+    /** READY 작업을 ZIP 또는 병합 PDF로 out에 쓴다. 쓰는 동안에는 purgeExpired가 작업 파일을 지우지 않는다. */
+    public void writeTo(String userEmail, String jobId, OutputStream out) throws IOException {
+        Job job = find(userEmail, jobId);
+        if (job.state != State.READY) {
+            throw new IllegalStateException("내보내기가 아직 끝나지 않았습니다: " + job.state);
+        }
+        synchronized (job) {
+            if (job.purged) throw new IllegalArgumentException("내보내기 작업 없음");
+            job.downloads++;
+        }
+        try {
+            write(job, out);
+        } finally {
+            synchronized (job) {
+                job.downloads--;
+            }
+        }
+    }
+
+    private void write(Job job, OutputStream out) throws IOException {
+        if (job.format == PdfExportDto.Format.MERGED) {
+            PDFMergerUtility merger = new PDFMergerUtility();
+            for (Path file : job.files) {
+                if (file != null) merger.addSource(file.toFile());
+            }
+            merger.setDestinationStream(out);
+            // 원본은 디스크에서 읽고, 병합 중간 버퍼도 상한을 넘으면 임시 파일로
+            merger.mergeDocuments(MemoryUsageSetting.setupMixed(maxMainMemoryBytes));
+            return;
+        }
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.BEST_SPEED);   // PDF 콘텐츠 스트림은 이미 압축돼 있어 높은 압축 수준은 CPU만 쓴다
+        for (int i = 0; i < job.files.length; i++) {
+            Path file = job.files[i];
+            if (file == null) continue;
+            zip.putNextEntry(new ZipEntry(String.format("%03d_article_%d.pdf", i + 1, job.articleIds.get(i))));
+            Files.copy(file, zip);
+            zip.closeEntry();
+        }
+        zip.finish();
+    }
+
+    @Scheduled(fixedDelayString = "${pdf.export.cleanup-ms:300000}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(Duration.ofMinutes(ttlMinutes));
+        jobs.values().removeIf(job -> {
+            if (job.finishedAt == null || job.finishedAt.isAfter(cutoff)) return false;
+            synchronized (job) {
+                if (job.downloads > 0) return false;   // 내려받는 중 — 다음 정리 때 다시 본다
+                job.purged = true;
+            }
+            deleteDir(job.dir);
+            return true;
+        });
+    }
+
+    /** 사용자당 진행 중 작업 수·전체 보관 작업 수 상한을 확인하고 작업을 등록한다. */
+    private synchronized void register(Job job) {
+        if (jobs.size() >= maxJobs) {
+            throw new TooManyExportJobsException("내보내기 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        long active = jobs.values().stream()
+                .filter(j -> j.state == State.RUNNING && Objects.equals(j.owner, job.owner))
+                .count();
+        if (active >= maxActivePerUser) {
+            throw new TooManyExportJobsException(
+                    "진행 중인 내보내기가 " + active + "건입니다. 끝난 뒤 다시 요청해 주세요.");
+        }
+        jobs.put(job.id, job);
+    }
+
+    private void renderOne(Job job, int index) {
+        Long articleId = job.articleIds.get(index);
+        try {
+            PdfReportLoader.ArticleReport report = reportLoader.loadArticle(articleId);
+            Path file = job.dir.resolve("article_" + articleId + ".pdf");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+                pdfService.writeArticlePdf(report, out);
+            }
+            job.files[index] = file;
+            job.completed.incrementAndGet();
+        } catch (Exception e) {
+            job.failed.incrementAndGet();
+            log.warn("PDF 내보내기 {} 기사 {} 렌더링 실패: {}", job.id, articleId, e.getMessage());
+        }
+    }
+
+    private List<Long> resolveArticleIds(String userEmail, PdfExportDto.Request request) {
+        return switch (request.getSource()) {
+            case FAVORITES -> {
+                if (userEmail == null || userEmail.isBlank()) {
+                    throw new IllegalArgumentException("관심기사 내보내기는 로그인이 필요합니다.");
+                }
+                yield articleRepository.findFavoriteArticleIds(userEmail, PageRequest.of(0, maxArticles));
+            }
+            case SEARCH -> {
+                if (request.getQuery() == null || request.getQuery().isBlank()) {
+                    throw new IllegalArgumentException("검색어(query)가 필요합니다.");
+                }
+                int limit = request.getLimit() == null || request.getLimit() <= 0
+                        ? 20 : Math.min(request.getLimit(), maxArticles);
+                yield articleSearchService.search(request.getQuery(), limit).getArticles().stream()
+                        .map(ArticleSearchDto.ArticleSummary::getArticleId)
+                        .toList();
+            }
+            case CATEGORY -> {
+                if (request.getCategory() == null || request.getFrom() == null || request.getTo() == null
+                        || request.getTo().isBefore(request.getFrom())) {
+                    throw new IllegalArgumentException("카테고리와 기간(from ≤ to)이 필요합니다.");
+                }
+                yield analysisRepository.findArticleIdsByCategoryAndPublishedBetween(request.getCategory(),
+                        request.getFrom().atStartOfDay(), request.getTo().plusDays(1).atStartOfDay(),
+                        PageRequest.of(0, maxArticles));
+            }
+        };
+    }
+
+    private Job find(String userEmail, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !Objects.equals(job.owner, userEmail)) {
+            throw new IllegalArgumentException("내보내기 작업 없음");
+        }
+        return job;
+    }
+
+    private static void deleteDir(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException ignore) {
+                    // 지우지 못한 파일은 남겨 둔다 (작업 목록에서는 빠진다)
+                }
+            });
+        } catch (IOException e) {
+            log.debug("내보내기 디렉터리 정리 실패 {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.insk.insk_backend.service;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fontbox.ttf.TTFParser;
+import org.apache.fontbox.ttf.TrueTypeFont;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PDF 폰트 캐시 — 수십 MB짜리 CJK 폰트를 기동 시 한 번만 읽고 파싱해 두고, 문서마다 가벼운 서브셋 인스턴스만 만든다.
+ *
+ * <p>예전에는 PDF 요청마다 클래스패스에서 폰트 파일 전체를 다시 읽고(readAllBytes) 파싱해 첫 바이트까지 수백 ms가 걸렸다.
+ * <ul>
+ *   <li>PDFBox: 파싱된 {@link TrueTypeFont}를 풀(pdf.font.pool-size개)로 두고 문서 하나가 {@link Lease}로 빌려 쓴다.
+ *       FontBox의 TrueTypeFont는 서브셋을 만들 때(save) 내부 스트림을 seek하므로 동시에 두 문서가 쓰면 안 된다.
+ *       풀이 비면 잠깐 기다리고, 그래도 없으면 임시로 하나 더 파싱한다(풀 크기는 넘기지 않는다).</li>
+ *   <li>iText: {@link FontProgram}은 문서 간 공유용으로 설계돼 있어 하나만 두고 문서마다 PdfFont만 만든다.</li>
+ * </ul>
+ * 폰트 파일이 없거나 깨져 있어도 기동은 막지 않는다 — PDFBox는 요청 시 예외, iText는 기본 폰트로 대체(기존 동작).
+ */
+@Slf4j
+@Component
+public class PdfFontCache {
+
+    private final String pdfBoxFontPath;
+    private final String itextFontPath;
+    private final BlockingQueue<TrueTypeFont> pool;
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final int poolSize;
+    private final byte[] pdfBoxFontBytes;   // null이면 폰트 없음
+    private final FontProgram itextProgram;  // null이면 iText 기본 폰트
+
+    public PdfFontCache(
+            @Value("${pdf.font.pdfbox:/fonts/NotoSansCJK-Regular.otf}") String pdfBoxFontPath,
+            @Value("${pdf.font.itext:/fonts/NotoSansKR-Regular.ttf}") String itextFontPath,
+            @Value("${pdf.font.pool-size:4}") int poolSize) {
+        this.pdfBoxFontPath = pdfBoxFontPath;
+        this.itextFontPath = itextFontPath;
+        this.poolSize = Math.max(1, poolSize);
+        this.pool = new ArrayBlockingQueue<>(this.poolSize);
+
+        this.pdfBoxFontBytes = readResource(pdfBoxFontPath);
+        if (pdfBoxFontBytes != null) {
+            TrueTypeFont first = parse();
+            if (first != null) pool.offer(first);
+        }
+        this.itextProgram = loadItextProgram();
+    }
+
+    /**
+     * 문서에 쓸 PDFBox 폰트를 빌린다. 서브셋 임베딩은 save 때 일어나므로 document.save가 끝난 뒤 닫아야 한다.
+     *
+     * @throws IllegalStateException 폰트 파일이 없거나 파싱할 수 없을 때
+     */
+    public Lease lease(PDDocument document) throws IOException {
+        TrueTypeFont ttf = acquire();
+        try {
+            return new Lease(ttf, PDType0Font.load(document, ttf, true));
+        } catch (IOException | RuntimeException e) {
+            release(ttf);
+            throw e;
+        }
+    }
+
+    /** 문서마다 새 iText PdfFont (공유 FontProgram 위에 서브셋만 따로). 폰트가 없으면 기본 폰트. */
+    public PdfFont itextFont() throws IOException {
+        if (itextProgram == null) return PdfFontFactory.createFont();
+        return PdfFontFactory.createFont(itextProgram, PdfEncodings.IDENTITY_H,
+                PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+    }
+
+    /** 빌린 PDFBox 폰트. close하면 파싱된 폰트가 풀로 돌아간다. */
+    public final class Lease implements AutoCloseable {
+        private final TrueTypeFont ttf;
+        private final PDType0Font font;
+        private boolean closed;
+
+        private Lease(TrueTypeFont ttf, PDType0Font font) {
+            this.ttf = ttf;
+            this.font = font;
+        }
+
+        public PDType0Font font() {
+            return font;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            release(ttf);
+        }
+    }
+
+    private TrueTypeFont acquire() throws IOException {
+        if (pdfBoxFontBytes == null) {
+            throw new IllegalStateException("폰트 파일을 찾을 수 없습니다: " + pdfBoxFontPath);
+        }
+        TrueTypeFont ttf = pool.poll();
+        if (ttf != null) return ttf;
+        if (parsed.get() < poolSize) {
+            ttf = parse();
+        } else {
+            try {
+                ttf = pool.poll(200, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("폰트 대기 중 인터럽트", e);
+            }
+            if (ttf == null) ttf = parse();   // 몰릴 때는 임시로 하나 더 (반납 시 풀이 차 있으면 버린다)
+        }
+        if (ttf == null) throw new IllegalStateException("폰트를 파싱할 수 없습니다: " + pdfBoxFontPath);
+        return ttf;
+    }
+
+    private void release(TrueTypeFont ttf) {
+        if (!pool.offer(ttf)) {
+            try {
+                ttf.close();
+            } catch (IOException ignore) {
+                // 임시 인스턴스 정리 실패는 무시
+            }
+        }
+    }
+
+    private TrueTypeFont parse() {
+        try {
+            TrueTypeFont ttf = new TTFParser().parse(new ByteArrayInputStream(pdfBoxFontBytes));
+            int n = parsed.incrementAndGet();
+            log.debug("PDF 폰트 파싱 #{}: {}", n, pdfBoxFontPath);
+            return ttf;
+        } catch (IOException | RuntimeException e) {
+            log.warn("PDF 폰트 파싱 실패 {}: {}", pdfBoxFontPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private FontProgram loadItextProgram() {
+        byte[] bytes = readResource(itextFontPath);
+        if (bytes == null) return null;
+        try {
+            return FontProgramFactory.createFont(bytes);
+        } catch (IOException | RuntimeException e) {
+            log.warn("iText 폰트 로드 실패 {} — 기본 폰트 사용: {}", itextFontPath, e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] readResource(String path) {
+        try (InputStream in = getClass().getResourceAsStream(path)) {
+            if (in == null) {
+                log.warn("PDF 폰트 리소스 없음: {}", path);
+                return null;
+            }
+            byte[] bytes = in.readAllBytes();
+            return bytes.length > 0 ? bytes : null;
+        } catch (IOException e) {
+            log.warn("PDF 폰트 리소스 읽기 실패 {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.*;
+import com.insk.insk_backend.dto.ArticleDetailRow;
+import com.insk.insk_backend.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PDF 리포트에 들어갈 데이터만 읽기 전용 트랜잭션 안에서 모아 불변 스냅샷으로 돌려준다.
+ *
+ * <p>렌더링({@link ArticlePdfService})은 트랜잭션 밖에서 응답 스트림으로 바로 쓰므로, 느린 클라이언트가
+ * 다운로드하는 동안 DB 커넥션을 붙잡지 않고 LAZY 연관도 건드리지 않는다.
+ * 목록형 리포트의 기사·점수는 행마다 조회하지 않고 IN 쿼리로 한 번에 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PdfReportLoader {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleAnalysisRepository analysisRepository;
+    private final ArticleScoreRepository scoreRepository;
+    private final ArticleFeedbackRepository feedbackRepository;
+    private final UserArticleLogRepository userArticleLogRepository;
+
+    public record ScoreSnapshot(double score, int likeCount, int dislikeCount, double textScore, int viewCount) {
+        static ScoreSnapshot of(ArticleScore s) {
+            if (s == null) return null;
+            return new ScoreSnapshot(s.getScore(), s.getLikeCount(), s.getDislikeCount(),
+                    s.getTextRelevanceScore(), s.getViewCount());
+        }
+    }
+
+    /** analyzed=false면 summary~tags는 null. */
+    public record ArticleReport(String title, String source, LocalDateTime publishedAt, boolean analyzed,
+                                String summary, String insight, String category, String tags,
+                                ScoreSnapshot score, List<String> recentFeedbacks) {
+    }
+
+    public record DigestEntry(String title, String source, LocalDateTime publishedAt, ScoreSnapshot score,
+                              String summary, String insight) {
+    }
+
+    public record DepartmentEntry(String title, String source, LocalDateTime publishedAt, long viewCount,
+                                  ScoreSnapshot score) {
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleReport loadArticle(Long articleId) {
+
+        // 기사·분석·점수 한 번 + 최근 피드백 5건 한 번 (예전: 기사·분석·점수·피드백 전체 4번)
+        ArticleDetailRow row = articleRepository.findDetail(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("기사 없음"));
+
+        List<String> recentFeedbacks = feedbackRepository.findRecentFeedbackTexts(articleId, PageRequest.of(0, 5));
+
+        ScoreSnapshot score = row.scored()
+                ? new ScoreSnapshot(row.score(), row.likeCount(), row.dislikeCount(), row.textScore(), row.viewCount())
+                : null;
+
+        return new ArticleReport(row.title(), row.source(), row.publishedAt(), row.analyzed(),
+                row.summary(), row.insight(), row.category(), row.tags(), score, recentFeedbacks);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentEntry> loadDepartmentTop(DepartmentType department, int days, int limit) {
+
+        LocalDateTime from = LocalDateTime.now().minusDays(days);
+
+        List<Object[]> rows = userArticleLogRepository.findTopArticlesByDepartment(department, from)
+                .stream().limit(limit).toList();
+        List<Long> articleIds = rows.stream().map(row -> (Long) row[0]).toList();
+
+        // 기사·점수는 행마다 조회하지 않고 IN 한 번씩
+        Map<Long, Article> articles = new HashMap<>();
+        for (Article article : articleRepository.findAllById(articleIds)) {
+            articles.put(article.getArticleId(), article);
+        }
+        Map<Long, ArticleScore> scores = scoresOf(articleIds);
+
+        List<DepartmentEntry> entries = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long articleId = (Long) row[0];
+            Long viewCount = (Long) row[1];
+
+            Article article = articles.get(articleId);
+            if (article == null) continue;
+
+            entries.add(new DepartmentEntry(article.getTitle(), article.getSource(), article.getPublishedAt(),
+                    viewCount, ScoreSnapshot.of(scores.get(articleId))));
+        }
+        return entries;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DigestEntry> loadWeeklyDigest(int days, int limit) {
+
+        LocalDateTime from = LocalDateTime.now().minusDays(days);
+
+        List<ArticleAnalysis> analyses =
+                analysisRepository.findRecentWithArticle(from, PageRequest.of(0, limit));
+
+        Map<Long, ArticleScore> scores = scoresOf(
+                analyses.stream().map(a -> a.getArticle().getArticleId()).toList());
+
+        List<DigestEntry> entries = new ArrayList<>();
+        for (ArticleAnalysis analysis : analyses) {
+            Article article = analysis.getArticle();
+
+            entries.add(new DigestEntry(article.getTitle(), article.getSource(), article.getPublishedAt(),
+                    ScoreSnapshot.of(scores.get(article.getArticleId())), analysis.getSummary(), analysis.getInsight()));
+        }
+        return entries;
+    }
+
+    private Map<Long, ArticleScore> scoresOf(List<Long> articleIds) {
+        Map<Long, ArticleScore> scores = new HashMap<>();
+        if (articleIds.isEmpty()) return scores;
+        for (ArticleScore score : scoreRepository.findByArticle_ArticleIdIn(articleIds)) {
+            scores.put(score.getArticle().getArticleId(), score);
+        }
+        return scores;
+    }
+}
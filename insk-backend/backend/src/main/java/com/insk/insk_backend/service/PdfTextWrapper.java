@@ -1,35 +1,155 @@
 package com.insk.insk_backend.service;
 
-import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDFont;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * PDF 줄바꿈 — 글자 폭을 한 번씩만 더해 가며 끊는 O(n) 방식.
+ *
+ * <p>예전에는 글자마다 {@code current.toString() + c}를 만들고 줄 전체 폭을 font.getStringWidth로 다시 재서
+ * 한 줄에 O(n²) 시간·할당이 들었다 (긴 한국어 요약에서 특히 느림). 이제는
+ * <ul>
+ *   <li>글자 폭을 폰트별 캐시(코드 포인트로 인덱싱하는 BMP 배열)에서 꺼내 줄 폭에 누적하고,</li>
+ *   <li>라틴 문자는 공백에서(단어 단위), CJK(한글·한자·가나)는 글자 사이 어디서나 끊는다.
+ *       한 단어가 한 줄보다 길면 글자 단위로 자른다.</li>
+ *   <li>줄 끝 공백은 버리고, 줄바꿈 문자는 강제 줄바꿈으로 처리한다.</li>
+ * </ul>
+ * 폭 캐시는 폰트 이름 기준으로 문서 간에 공유된다 (PdfFontCache가 문서마다 PDType0Font를 새로 만들어도 폭은 같다).
+ */
 public class PdfTextWrapper {
 
-    public static List<String> wrap(String text, PDType0Font font, int fontSize, float maxWidth) throws Exception {
+    /** 글자 하나의 폭 (폰트 단위, 1/1000 em). */
+    @FunctionalInterface
+    public interface GlyphWidths {
+        float width(int codePoint) throws IOException;
+    }
+
+    private static final Map<String, float[]> WIDTH_CACHE = new ConcurrentHashMap<>();
+
+    public static List<String> wrap(String text, PDFont font, int fontSize, float maxWidth) throws IOException {
+        return wrap(text, widthsOf(font), fontSize, maxWidth);
+    }
+
+    /** 여러 문단을 같은 폰트·폭으로 한 번에 감싼다. 폭 캐시 조회를 한 번만 한다. */
+    public static List<List<String>> wrapAll(List<String> paragraphs, PDFont font, int fontSize, float maxWidth)
+            throws IOException {
+        GlyphWidths widths = widthsOf(font);
+        List<List<String>> result = new ArrayList<>(paragraphs.size());
+        for (String paragraph : paragraphs) {
+            result.add(wrap(paragraph, widths, fontSize, maxWidth));
+        }
+        return result;
+    }
+
+    public static List<String> wrap(String text, GlyphWidths widths, int fontSize, float maxWidth) throws IOException {
         List<String> lines = new ArrayList<>();
-        if (text == null) return lines;
+        if (text == null || text.isEmpty()) return lines;
+
+        float limit = maxWidth * 1000f / fontSize;   // 폰트 단위로 비교
+        int n = text.length();
 
-        StringBuilder current = new StringBuilder();
+        int lineStart = 0;
+        float lineWidth = 0;
+        int breakEnd = -1;          // 여기서 끊으면 줄 내용의 끝
+        int breakNext = -1;         // 그때 다음 줄의 시작
+        float widthToBreakNext = 0; // lineStart ~ breakNext 폭
 
-        for (char c : text.toCharArray()) {
-            String test = current.toString() + c;
-            float width = font.getStringWidth(test) / 1000f * fontSize;
+        int i = 0;
+        while (i < n) {
+            int cp = text.codePointAt(i);
+            int len = Character.charCount(cp);
 
-            if (width > maxWidth && current.length() > 0) {
-                lines.add(current.toString());
-                current = new StringBuilder();
-                current.append(c);
-            } else {
-                current.append(c);
+            if (cp == '\n' || cp == '\r') {
+                lines.add(trimEnd(text, lineStart, i));
+                i += (cp == '\r' && i + 1 < n && text.charAt(i + 1) == '\n') ? 2 : 1;
+                lineStart = i;
+                lineWidth = 0;
+                breakEnd = -1;
+                continue;
             }
-        }
 
-        if (current.length() > 0) {
-            lines.add(current.toString());
+            float w = widths.width(cp);
+
+            if (cp == ' ' || cp == '\t' || cp == '\u3000') {
+                // 공백은 줄 끝에 걸려도 넘침으로 보지 않는다 (버려지므로)
+                breakEnd = i;
+                breakNext = i + len;
+                lineWidth += w;
+                widthToBreakNext = lineWidth;
+                i += len;
+                continue;
+            }
+
+            if (i > lineStart && isCjk(cp)) {
+                breakEnd = i;
+                breakNext = i;
+                widthToBreakNext = lineWidth;
+            }
+
+            if (lineWidth + w > limit && i > lineStart) {
+                if (breakEnd > lineStart) {
+                    lines.add(trimEnd(text, lineStart, breakEnd));
+                    lineStart = breakNext;
+                    lineWidth -= widthToBreakNext;
+                } else {
+                    // 끊을 곳 없는 긴 단어 → 글자 단위
+                    lines.add(text.substring(lineStart, i));
+                    lineStart = i;
+                    lineWidth = 0;
+                }
+                breakEnd = -1;
+                continue;   // 같은 글자를 새 줄 기준으로 다시 본다 (남은 단어가 여전히 넘칠 수 있음)
+            }
+
+            lineWidth += w;
+            i += len;
         }
 
+        if (lineStart < n) {
+            String last = trimEnd(text, lineStart, n);
+            if (!last.isEmpty()) lines.add(last);
+        }
         return lines;
     }
-}
\ No newline at end of file
+
+    /** 폰트별 폭 캐시. 미스는 현재 문서의 폰트로 재서 채운다 (동시 채움은 같은 값이라 무해). */
+    static GlyphWidths widthsOf(PDFont font) {
+        float[] bmp = WIDTH_CACHE.computeIfAbsent(font.getName(), k -> {
+            float[] arr = new float[Character.MAX_VALUE + 1];
+            Arrays.fill(arr, Float.NaN);
+            return arr;
+        });
+        return cp -> {
+            if (cp > Character.MAX_VALUE) return measure(font, cp);
+            float w = bmp[cp];
+            if (Float.isNaN(w)) {
+                w = measure(font, cp);
+                bmp[cp] = w;
+            }
+            return w;
+        };
+    }
+
+    private static float measure(PDFont font, int cp) throws IOException {
+        return font.getStringWidth(new String(Character.toChars(cp)));
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static String trimEnd(String text, int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        return text.substring(start, end);
+    }
+}
@@ -0,0 +1,197 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 주간 다이제스트·부서별 리포트 PDF를 미리 만들어 디스크에 두는 아티팩트 저장소.
+ *
+ * <p>예전에는 다운로드마다 같은 리포트를 다시 조회·렌더링했다. 이제 스케줄러가 주기적으로(report.artifact.refresh-ms)
+ * 리포트 데이터를 읽어 데이터 버전(스냅샷 SHA-256)을 비교하고, 바뀐 리포트만 다시 렌더링한다.
+ * 파이프라인 실행(정기·사용자 요청)·DLQ 재처리·점수/조회수 변화가 모두 다음 주기에 반영된다.
+ * <ul>
+ *   <li>파일 이름은 {@code {key}-{데이터 버전 16자}.pdf} — 재기동 후에도 데이터가 같으면 기존 파일을 그대로 쓴다.</li>
+ *   <li>ETag는 PDF 바이트의 SHA-256. 컨트롤러가 파일 Resource로 내보내 Range·304를 Spring이 처리한다.</li>
+ *   <li>렌더링은 임시 파일에 쓴 뒤 원자적으로 옮기고, 이전 버전 파일은 그다음에 지운다.</li>
+ * </ul>
+ * 기본 파라미터(report.artifact.days / *-limit)와 다른 요청은 아티팩트 대상이 아니다 (컨트롤러가 즉석 렌더링).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportArtifactService {
+
+    static final String DIGEST_KEY = "weekly-digest";
+
+    private final PdfReportLoader reportLoader;
+    private final ArticlePdfService pdfService;
+
+    // 필드 초기값은 Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${report.artifact.dir:./data/report-artifacts}")
+    private String dir = "./data/report-artifacts";
+
+    @Value("${report.artifact.days:7}")
+    private int days = 7;
+
+    @Value("${report.artifact.digest-limit:10}")
+    private int digestLimit = 10;
+
+    @Value("${report.artifact.department-limit:5}")
+    private int departmentLimit = 5;
+
+    private final Map<String, Artifact> artifacts = new ConcurrentHashMap<>();
+
+    /** 디스크에 있는 렌더링 결과. etag는 PDF 바이트 해시, dataVersion은 입력 스냅샷 해시. */
+    public record Artifact(String key, Path file, String etag, long length, String dataVersion, Instant renderedAt) {
+    }
+
+    @FunctionalInterface
+    private interface Renderer<T> {
+        void write(List<T> entries, OutputStream out) throws Exception;
+    }
+
+    @Scheduled(initialDelayString = "${report.artifact.initial-delay-ms:60000}",
+            fixedDelayString = "${report.artifact.refresh-ms:600000}")
+    public void refreshAll() {
+        int rendered = 0;
+        if (refresh(DIGEST_KEY, () -> reportLoader.loadWeeklyDigest(days, digestLimit),
+                (entries, out) -> pdfService.writeWeeklyDigestPdf(days, entries, out))) {
+            rendered++;
+        }
+        for (DepartmentType department : DepartmentType.values()) {
+            if (refresh(departmentKey(department),
+                    () -> reportLoader.loadDepartmentTop(department, days, departmentLimit),
+                    (entries, out) -> pdfService.writeDepartmentTop5Pdf(department, days, entries, out))) {
+                rendered++;
+            }
+        }
+        if (rendered > 0) log.info("📄 리포트 아티팩트 {}건 재렌더링", rendered);
+    }
+
+    public Optional<Artifact> weeklyDigest(int days, int limit) {
+        if (days != this.days || limit != digestLimit) return Optional.empty();
+        return current(DIGEST_KEY);
+    }
+
+    public Optional<Artifact> department(DepartmentType department, int days, int limit) {
+        if (days != this.days || limit != departmentLimit) return Optional.empty();
+        return current(departmentKey(department));
+    }
+
+    private Optional<Artifact> current(String key) {
+        Artifact artifact = artifacts.get(key);
+        if (artifact == null || !Files.exists(artifact.file())) return Optional.empty();
+        return Optional.of(artifact);
+    }
+
+    /** @return 새로 렌더링했으면 true */
+    private <T> boolean refresh(String key, Supplier<List<T>> load, Renderer<T> renderer) {
+        try {
+            List<T> entries = load.get();
+            String dataVersion = sha256(key + "|" + days + "|" + entries).substring(0, 16);
+
+            Artifact existing = artifacts.get(key);
+            if (existing != null && existing.dataVersion().equals(dataVersion) && Files.exists(existing.file())) {
+                return false;
+            }
+
+            Path base = Path.of(dir);
+            Files.createDirectories(base);
+            Path target = base.resolve(key + "-" + dataVersion + ".pdf");
+
+            boolean rendered = false;
+            String etag;
+            if (Files.exists(target)) {
+                etag = hashFile(target);   // 재기동 직후: 같은 데이터로 만든 파일이 이미 있다
+            } else {
+                etag = render(base, target, key, entries, renderer);
+                rendered = true;
+            }
+
+            artifacts.put(key, new Artifact(key, target, etag, Files.size(target), dataVersion,
+                    Files.getLastModifiedTime(target).toInstant()));
+            deleteStale(base, key, target);
+            return rendered;
+        } catch (Exception e) {
+            // 이전 아티팩트는 그대로 두고 다음 주기에 다시 시도
+            log.warn("리포트 아티팩트 갱신 실패 {}: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private <T> String render(Path base, Path target, String key, List<T> entries, Renderer<T> renderer)
+            throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        Path tmp = Files.createTempFile(base, key + "-", ".tmp");
+        try {
+            try (OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)), md)) {
+                renderer.write(entries, out);
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return HexFormat.of().formatHex(md.digest());
+    }
+
+    /** 이전 버전 파일 삭제. 내려받는 중인 파일은 열린 핸들로 끝까지 읽힌다. */
+    private static void deleteStale(Path base, String key, Path keep) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(base, key + "-*.pdf")) {
+            for (Path file : files) {
+                if (!file.equals(keep)) Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.debug("이전 리포트 파일 정리 실패 {}: {}", key, e.getMessage());
+        }
+    }
+
+    static String departmentKey(DepartmentType department) {
+        return "department-" + department.name();
+    }
+
+    private static String hashFile(Path file) throws IOException {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), md)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String sha256(String material) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.insk.insk_backend.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 원소 수를 미리 알 수 없을 때 쓰는 Scalable Bloom filter (Almeida et al.).
+ *
+ * <p>현재 단계가 용량에 차면 용량 2배·오탐률 절반인 새 단계를 붙인다. 조회는 전 단계를 보고,
+ * 추가는 마지막 단계에만 한다. 단계별 오탐률이 등비급수라 전체 오탐률은 초기값의 2배 이내로 유지된다.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private final List<Stage> stages = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(int initialCapacity, double fpp) {
+        stages.add(new Stage(Math.max(1, initialCapacity), fpp));
+    }
+
+    public boolean mightContain(String key) {
+        for (Stage s : stages) {
+            if (s.filter.mightContain(key)) return true;
+        }
+        return false;
+    }
+
+    public synchronized void put(String key) {
+        Stage last = stages.get(stages.size() - 1);
+        if (last.count >= last.capacity) {
+            last = new Stage(last.capacity * GROWTH, last.fpp * TIGHTENING);
+            stages.add(last);
+        }
+        last.filter.put(key);
+        last.count++;
+    }
+
+    public int stageCount() {
+        return stages.size();
+    }
+
+    private static final class Stage {
+        private final BloomFilter filter;
+        private final int capacity;
+        private final double fpp;
+        private int count;
+
+        private Stage(int capacity, double fpp) {
+            this.filter = BloomFilter.create(capacity, fpp);
+            this.capacity = capacity;
+            this.fpp = fpp;
+        }
+    }
+}
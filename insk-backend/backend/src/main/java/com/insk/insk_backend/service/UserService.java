@@ -4,12 +4,17 @@ import com.insk.insk_backend.domain.User;
 import com.insk.insk_backend.dto.UserDto;
 import com.insk.insk_backend.jwt.JwtTokenProvider;
 import com.insk.insk_backend.repository.UserRepository;
+import com.insk.insk_backend.security.CustomUserDetails;
+import com.insk.insk_backend.security.UserStateCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -23,6 +28,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserStateCache userStateCache;
+    // 낡은 해시 재저장은 자체 짧은 트랜잭션으로 (CustomUserDetailsService)
+    private final UserDetailsPasswordService userDetailsPasswordService;
 
     @Transactional
     public UserDto.SignUpResponse signup(UserDto.SignUpRequest request) {
@@ -47,7 +55,11 @@ public class UserService {
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 트랜잭션을 걸지 않는다 — 해시(matches·encode)는 passwordHashExecutor 대기열에서 최대 hash-timeout-ms까지 기다릴 수 있어,
+     * 그동안 DB 커넥션을 쥐고 있으면 로그인 폭주가 커넥션 풀까지 말려 다른 요청을 굶긴다.
+     * 조회는 저장소의 읽기 전용 트랜잭션, 재해시 저장은 updatePassword의 짧은 트랜잭션에서 따로 한다.
+     */
     public UserDto.LoginResponse login(UserDto.LoginRequest requestDto) {
         try {
             User user = userRepository.findByEmail(requestDto.getEmail())
@@ -57,7 +69,13 @@ public class UserService {
                 throw new IllegalArgumentException("잘못된 비밀번호입니다.");
             }
 
-            String token = jwtTokenProvider.createToken(user.getEmail());
+            // 접두사 없는 예전 해시이거나 작업 계수가 바뀌었으면 평문을 아는 지금 재해시
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                String rehashed = passwordEncoder.encode(requestDto.getPassword());
+                userDetailsPasswordService.updatePassword(new CustomUserDetails(user), rehashed);
+            }
+
+            String token = jwtTokenProvider.createToken(user);
             return new UserDto.LoginResponse(token);
         } catch (Exception e) {
             log.error("로그인 처리 중 예외 발생!", e);
@@ -66,11 +84,12 @@ public class UserService {
     }
 
     @Transactional
-    public void updateDepartment(Long userId, UserDto.DepartmentUpdateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+    public void updateDepartment(String email, UserDto.DepartmentUpdateRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
         user.changeDepartment(request.getDepartment());
+        evictUserStateAfterCommit(email);
     }
 
     @Transactional
@@ -108,12 +127,30 @@ public class UserService {
         user.changePassword(encodedPassword);
         user.clearResetToken();
         userRepository.save(user);
+        evictUserStateAfterCommit(user.getEmail());   // 이전에 발급된 토큰 즉시 무효화 (다른 인스턴스는 캐시 TTL 안에)
 
         log.info("비밀번호 재설정 완료: email={}", user.getEmail());
 
         return new UserDto.ResetPasswordResponse("비밀번호가 성공적으로 재설정되었습니다.");
     }
 
+    /**
+     * 커밋 뒤에 사용자 상태 캐시를 비운다. 커밋 전에 비우면 동시 요청이 아직 커밋 안 된(예전) 행으로 캐시를 다시 채워
+     * 비밀번호 변경 전 토큰이 TTL 동안 계속 통과한다.
+     */
+    private void evictUserStateAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userStateCache.evict(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userStateCache.evict(email);
+            }
+        });
+    }
+
     private String generateResetToken() {
         SecureRandom random = new SecureRandom();
         byte[] bytes = new byte[32];
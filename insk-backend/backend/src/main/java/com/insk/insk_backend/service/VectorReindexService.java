@@ -0,0 +1,161 @@
+package com.insk.insk_backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insk.insk_backend.client.EmbeddingClient;
+import com.insk.insk_backend.client.QdrantClient;
+import com.insk.insk_backend.repository.ArticleEmbeddingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 색인 차원 변경 (예: 1536 → 512) 무중단 재색인 — blue/green.
+ *
+ * <ol>
+ *   <li>새 Qdrant 컬렉션 {qdrant.collection}_d{차원}_{시각}을 만든다 (green).</li>
+ *   <li>그 시점부터 새 기사 벡터는 기존(blue)·green 양쪽에 쓴다 (QdrantClient 이중 쓰기).</li>
+ *   <li>MySQL에 저장된 전체 임베딩을 id 순 페이지로 읽어 앞 차원만 잘라(Matryoshka 축소, 재임베딩 없음) green에 채운다.</li>
+ *   <li>별칭을 green으로 원자적으로 옮긴다. 검색은 전환 전까지 blue, 전환 후 green만 본다.</li>
+ * </ol>
+ * 중간에 실패하면 별칭은 blue에 그대로 남는다. 전환에 성공하면 롤백용으로 직전 컬렉션 하나만 남기고
+ * 그보다 오래된 컬렉션({qdrant.collection}, {qdrant.collection}_d{차원}_{시각})은 지운다 — 재색인마다 전체 벡터가
+ * 한 벌씩 쌓이지 않게.
+ * 색인 차원이 1536 → 512면 Qdrant 벡터 메모리·검색 요청 크기·KNN 내적 비용이 모두 1/3로 준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VectorReindexService {
+
+    public enum Phase { IDLE, CREATING, BACKFILLING, SWITCHING, DONE, FAILED }
+
+    public record Status(Phase phase, int dimensions, String collection, long processed, long total,
+                         String error, Instant startedAt, Instant finishedAt) {
+        static Status idle() {
+            return new Status(Phase.IDLE, 0, null, 0, 0, null, null, null);
+        }
+    }
+
+    private final QdrantClient qdrantClient;
+    private final ArticleEmbeddingRepository embeddingRepository;
+    private final Executor taskExecutor;   // 빈 이름과 필드명이 같아 by-name 주입
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Status status = Status.idle();
+
+    // Spring 미주입 환경(단위 테스트)용 안전값
+    @Value("${qdrant.collection:articles}")
+    private String collectionPrefix = "articles";
+
+    @Value("${openai.embedding.dimensions:1536}")
+    private int storedDimensions = 1536;
+
+    @Value("${vector.reindex.batch-size:256}")
+    private int batchSize = 256;
+
+    /**
+     * 재색인을 백그라운드로 시작한다. 이미 진행 중이면 false.
+     *
+     * @throws IllegalArgumentException 차원이 저장된 임베딩 차원을 넘거나 너무 작을 때
+     */
+    public boolean start(int dimensions) {
+        if (dimensions < 64 || dimensions > storedDimensions) {
+            throw new IllegalArgumentException(
+                    "색인 차원은 64~" + storedDimensions + " 사이여야 합니다 (저장된 임베딩 차원 이하): " + dimensions);
+        }
+        if (!running.compareAndSet(false, true)) return false;
+        String collection = collectionPrefix + "_d" + dimensions + "_" + Instant.now().getEpochSecond();
+        status = new Status(Phase.CREATING, dimensions, collection, 0, 0, null, Instant.now(), null);
+        try {
+            taskExecutor.execute(() -> run(dimensions, collection));
+        } catch (RuntimeException e) {
+            running.set(false);
+            status = failed(e);
+            throw e;
+        }
+        return true;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    private void run(int dimensions, String collection) {
+        String previous = qdrantClient.activeCollection();
+        try {
+            qdrantClient.createCollection(collection, dimensions);
+            qdrantClient.shadowWritesTo(collection, dimensions);
+
+            long total = embeddingRepository.count();
+            update(Phase.BACKFILLING, 0, total);
+            long processed = 0;
+            long afterId = 0;
+            while (true) {
+                List<Object[]> rows = embeddingRepository.findForIndexingAfter(afterId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) break;
+                Map<Long, List<Double>> batch = new LinkedHashMap<>();
+                for (Object[] row : rows) {
+                    afterId = (Long) row[0];
+                    Long articleId = (Long) row[1];
+                    String json = (String) row[2];
+                    if (articleId == null || json == null) continue;
+                    List<Double> vector = objectMapper.readValue(json, new TypeReference<List<Double>>() {});
+                    if (vector.size() >= dimensions) batch.put(articleId, EmbeddingClient.shorten(vector, dimensions));
+                }
+                if (!batch.isEmpty()) qdrantClient.upsertBatch(collection, batch);
+                processed += rows.size();
+                update(Phase.BACKFILLING, processed, Math.max(total, processed));
+            }
+
+            update(Phase.SWITCHING, processed, Math.max(total, processed));
+            qdrantClient.switchAlias(collection, dimensions);
+            status = new Status(Phase.DONE, dimensions, collection, processed, Math.max(total, processed),
+                    null, status.startedAt(), Instant.now());
+            log.info("🧭 벡터 재색인 완료: {} (dim={}, {}건). 이전 컬렉션 {}은 롤백용으로 남겨 둠",
+                    collection, dimensions, processed, previous);
+            dropOlderCollections(collection, previous);
+        } catch (Exception e) {
+            log.error("벡터 재색인 실패 — 별칭은 {}에 유지: {}", previous, e.getMessage(), e);
+            status = failed(e);
+        } finally {
+            qdrantClient.shadowWritesTo(null, 0);
+            running.set(false);
+        }
+    }
+
+    /** 새 컬렉션과 직전 컬렉션을 뺀 이 서비스의 컬렉션을 지운다. 실패해도 재색인 결과에는 영향이 없다(로그만). */
+    private void dropOlderCollections(String current, String previous) {
+        Pattern ours = Pattern.compile(Pattern.quote(collectionPrefix) + "(_d\\d+_\\d+)?");
+        try {
+            for (String name : qdrantClient.listCollections()) {
+                if (!ours.matcher(name).matches() || name.equals(current) || name.equals(previous)) continue;
+                qdrantClient.deleteCollection(name);
+                log.info("🧹 오래된 벡터 컬렉션 삭제: {}", name);
+            }
+        } catch (Exception e) {
+            log.warn("오래된 벡터 컬렉션 정리 실패(다음 재색인 때 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    private void update(Phase phase, long processed, long total) {
+        Status s = status;
+        status = new Status(phase, s.dimensions(), s.collection(), processed, total, null, s.startedAt(), null);
+    }
+
+    private Status failed(Exception e) {
+        Status s = status;
+        return new Status(Phase.FAILED, s.dimensions(), s.collection(), s.processed(), s.total(),
+                e.getMessage(), s.startedAt(), Instant.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.insk.insk_backend.util;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 기사 URL 정규화 (중복 판정 키).
+ *
+ * <p>같은 기사가 공유 경로마다 다른 URL로 들어오는 경우(http/https, www 유무, 추적 파라미터,
+ * 파라미터 순서, 끝 슬래시, #fragment)를 하나의 키로 모은다. 원문 링크(originalUrl)는 그대로 두고
+ * 중복 판정에만 쓴다. 파싱할 수 없는 URL은 앞뒤 공백만 제거해 돌려준다.
+ *
+ * <p>정규화 결과가 canonical_url 컬럼 길이({@link #MAX_LENGTH})를 넘으면(http→https로 한 글자 늘어나는 경우 등)
+ * 원문 URL을 그대로 키로 쓴다. 잘라 쓰면 서로 다른 기사가 같은 키로 묶일 수 있어서다.
+ */
+public final class UrlCanonicalizer {
+
+    /** 기사 내용과 무관한 유입 추적 파라미터 (utm_* 는 접두사로 따로 처리). */
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "yclid", "igshid",
+            "mc_cid", "mc_eid", "_ga", "_gl", "spm", "ref_src");
+
+    /** articles.canonical_url 컬럼 길이. */
+    public static final int MAX_LENGTH = 512;
+
+    private UrlCanonicalizer() {
+    }
+
+    public static String canonicalize(String url) {
+        if (url == null) return null;
+        String trimmed = url.trim();
+        try {
+            URI uri = new URI(trimmed);
+            String scheme = uri.getScheme();
+            String host = uri.getHost();
+            if (scheme == null || host == null) return trimmed;
+
+            scheme = scheme.toLowerCase(Locale.ROOT);
+            if (!scheme.equals("http") && !scheme.equals("https")) return trimmed;
+
+            host = host.toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) host = host.substring(4);
+
+            // http/https는 같은 기사로 본다. 기본 포트(80/443)는 생략.
+            int port = uri.getPort();
+            String portPart = (port == -1 || port == 80 || port == 443) ? "" : ":" + port;
+
+            String path = uri.getRawPath();
+            if (path == null || path.isEmpty()) path = "/";
+            if (path.length() > 1 && path.endsWith("/")) path = path.substring(0, path.length() - 1);
+
+            String query = canonicalQuery(uri.getRawQuery());
+            String canonical = "https://" + host + portPart + path + (query.isEmpty() ? "" : "?" + query);
+            return canonical.length() > MAX_LENGTH ? trimmed : canonical;
+        } catch (Exception e) {
+            return trimmed;
+        }
+    }
+
+    /** 추적 파라미터 제거 + 이름순 정렬 (순서만 다른 URL을 같은 키로). */
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) return "";
+        List<String> kept = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String name = (eq >= 0 ? pair.substring(0, eq) : pair).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) continue;
+            kept.add(pair);
+        }
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+}
@@ -0,0 +1,233 @@
+package com.insk.insk_backend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 HNSW 인덱스 recall·지연 벤치마크 (전수 비교 기준), int8 양자화 손실, 디스크 재적재, Qdrant 대비 비교.
+ *
+ * <p>기사 임베딩처럼 주제 군집이 있는 분포를 흉내 내려고 군집 중심 + 잡음으로 벡터를 만든다.
+ * Qdrant 비교는 QDRANT_BENCH_HOST(선택: QDRANT_BENCH_PORT)가 있을 때만 돈다 — 벤치마크 전용 컬렉션을 만든다.
+ */
+class LocalHnswVectorIndexBenchmarkTest {
+
+    private static final int N = 3_000;
+    private static final int DIM = 128;
+    private static final int QUERIES = 100;
+    private static final int K = 10;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("HNSW recall@10이 전수 비교 대비 0.9 이상이고 전수 비교보다 빠르다")
+    void recallAndLatency_againstBruteForce() throws Exception {
+        List<List<Double>> data = clustered(N, 1);
+        List<List<Double>> queries = clustered(QUERIES, 2);
+
+        try (LocalHnswVectorIndex index = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, false, 3)) {
+            index.ensureCollection(DIM);
+            long buildStarted = System.nanoTime();
+            for (int i = 0; i < N; i++) index.upsert(i, data.get(i));
+            long buildMs = (System.nanoTime() - buildStarted) / 1_000_000;
+
+            double recall = 0;
+            long hnswNanos = 0;
+            long bruteNanos = 0;
+            for (List<Double> q : queries) {
+                long t0 = System.nanoTime();
+                List<VectorIndex.ScoredId> hits = index.search(q, K);
+                hnswNanos += System.nanoTime() - t0;
+
+                long t1 = System.nanoTime();
+                Set<Long> truth = bruteForce(data, q, K);
+                bruteNanos += System.nanoTime() - t1;
+
+                recall += hits.stream().filter(h -> truth.contains(h.id())).count() / (double) K;
+            }
+            recall /= QUERIES;
+
+            System.out.printf("HNSW n=%d dim=%d build=%dms recall@%d=%.3f avg hnsw=%.3fms brute=%.3fms%n",
+                    N, DIM, buildMs, K, recall, hnswNanos / 1e6 / QUERIES, bruteNanos / 1e6 / QUERIES);
+            assertThat(recall).isGreaterThanOrEqualTo(0.9);
+            assertThat(hnswNanos).isLessThan(bruteNanos);
+        }
+    }
+
+    @Test
+    @DisplayName("int8 양자화는 벡터당 바이트를 약 1/4로 줄이고 rescore 후 recall 손실이 0.02 이내다")
+    void int8Quantization_recallLoss() throws Exception {
+        List<List<Double>> data = clustered(N, 1);
+        List<List<Double>> queries = clustered(QUERIES, 2);
+
+        double[] recall = new double[2];
+        long[] nanos = new long[2];
+        int[] bytes = new int[2];
+        boolean[] modes = {false, true};
+        for (int m = 0; m < modes.length; m++) {
+            try (LocalHnswVectorIndex index = new LocalHnswVectorIndex(
+                    dir.resolve("q" + m), 16, 100, 64, 10_000, modes[m], 3)) {
+                index.ensureCollection(DIM);
+                for (int i = 0; i < N; i++) index.upsert(i, data.get(i));
+                bytes[m] = index.searchBytesPerVector();
+                for (List<Double> q : queries) {
+                    Set<Long> truth = bruteForce(data, q, K);
+                    long started = System.nanoTime();
+                    List<VectorIndex.ScoredId> hits = index.search(q, K);
+                    nanos[m] += System.nanoTime() - started;
+                    recall[m] += hits.stream().filter(h -> truth.contains(h.id())).count() / (double) K;
+                }
+                recall[m] /= QUERIES;
+            }
+        }
+
+        System.out.printf("float32: %dB/vec recall@%d=%.3f avg=%.3fms | int8: %dB/vec recall@%d=%.3f avg=%.3fms%n",
+                bytes[0], K, recall[0], nanos[0] / 1e6 / QUERIES, bytes[1], K, recall[1], nanos[1] / 1e6 / QUERIES);
+        // 레코드 = dim바이트 + 배율 4바이트: 128차원 3.9배, 1536차원 4.0배
+        assertThat((double) bytes[0] / bytes[1]).isGreaterThan(3.8);
+        assertThat(recall[1]).isGreaterThanOrEqualTo(recall[0] - 0.02);
+    }
+
+    @Test
+    @DisplayName("float로 만든 인덱스를 양자화로 다시 열면 원본에서 int8 코드를 만들어 검색한다")
+    void enableQuantization_onExistingIndex() throws Exception {
+        List<List<Double>> data = clustered(500, 5);
+        try (LocalHnswVectorIndex index = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, false, 3)) {
+            index.ensureCollection(DIM);
+            for (int i = 0; i < data.size(); i++) index.upsert(i, data.get(i));
+        }
+
+        try (LocalHnswVectorIndex reopened = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, true, 3)) {
+            assertThat(reopened.searchBytesPerVector()).isEqualTo(DIM + Float.BYTES);
+            List<VectorIndex.ScoredId> hits = reopened.search(data.get(77), 1);
+            assertThat(hits.get(0).id()).isEqualTo(77L);
+            assertThat(hits.get(0).score()).isGreaterThan(0.999);   // rescore는 float 원본 점수
+        }
+    }
+
+    @Test
+    @DisplayName("flush 후 다시 열면 같은 결과를 돌려주고, 같은 id upsert는 건수를 늘리지 않는다")
+    void reload_fromDisk() throws Exception {
+        List<List<Double>> data = clustered(500, 3);
+        try (LocalHnswVectorIndex index = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, false, 3)) {
+            index.ensureCollection(DIM);
+            for (int i = 0; i < data.size(); i++) index.upsert(1_000 + i, data.get(i));
+            index.upsert(1_000, data.get(0));
+        }
+
+        try (LocalHnswVectorIndex reopened = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, false, 3)) {
+            reopened.ensureCollection(DIM);
+            assertThat(reopened.size()).isEqualTo(data.size());
+
+            List<VectorIndex.ScoredId> hits = reopened.search(data.get(42), 1);
+            assertThat(hits).hasSize(1);
+            assertThat(hits.get(0).id()).isEqualTo(1_042L);
+            assertThat(hits.get(0).score()).isGreaterThan(0.999);
+        }
+    }
+
+    @Test
+    @DisplayName("차원이 바뀌면 기존 인덱스를 비우고 새로 만든다")
+    void dimensionChange_resets() throws Exception {
+        try (LocalHnswVectorIndex index = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, false, 3)) {
+            index.ensureCollection(DIM);
+            index.upsert(1, clustered(1, 4).get(0));
+            index.ensureCollection(64);
+            assertThat(index.size()).isZero();
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "QDRANT_BENCH_HOST", matches = ".+")
+    @DisplayName("같은 데이터로 로컬 HNSW와 Qdrant의 recall·지연을 비교한다")
+    void compareWithQdrant() throws Exception {
+        String host = System.getenv("QDRANT_BENCH_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("QDRANT_BENCH_PORT", "6333"));
+        QdrantClient qdrant = new QdrantClient(new RestTemplate(), Executors.newCachedThreadPool(),
+                new SimpleMeterRegistry(), host, port, "hnsw_bench", false, 0.95, 150, 0);
+
+        List<List<Double>> data = clustered(N, 1);
+        List<List<Double>> queries = clustered(QUERIES, 2);
+        qdrant.ensureCollection(DIM);
+        try (LocalHnswVectorIndex local = new LocalHnswVectorIndex(dir, 16, 100, 64, 10_000, true, 3)) {
+            local.ensureCollection(DIM);
+            for (int i = 0; i < N; i++) {
+                local.upsert(i, data.get(i));
+                qdrant.upsert(i, data.get(i));
+            }
+
+            double[] recall = new double[2];
+            long[] nanos = new long[2];
+            VectorIndex[] targets = {local, qdrant};
+            for (List<Double> q : queries) {
+                Set<Long> truth = bruteForce(data, q, K);
+                for (int t = 0; t < targets.length; t++) {
+                    long started = System.nanoTime();
+                    List<VectorIndex.ScoredId> hits = targets[t].search(q, K);
+                    nanos[t] += System.nanoTime() - started;
+                    recall[t] += hits.stream().filter(h -> truth.contains(h.id())).count() / (double) K;
+                }
+            }
+
+            System.out.printf("local: recall@%d=%.3f avg=%.3fms | qdrant: recall@%d=%.3f avg=%.3fms%n",
+                    K, recall[0] / QUERIES, nanos[0] / 1e6 / QUERIES,
+                    K, recall[1] / QUERIES, nanos[1] / 1e6 / QUERIES);
+            assertThat(recall[0] / QUERIES).isGreaterThanOrEqualTo(0.9);
+        }
+    }
+
+    /** 군집 20개 중심 주변에 잡음을 섞은 벡터 (seed 고정). */
+    private static List<List<Double>> clustered(int n, long seed) {
+        Random centers = new Random(7);
+        double[][] c = new double[20][DIM];
+        for (double[] center : c) for (int d = 0; d < DIM; d++) center[d] = centers.nextGaussian();
+
+        Random rnd = new Random(seed);
+        List<List<Double>> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            double[] center = c[rnd.nextInt(c.length)];
+            List<Double> v = new ArrayList<>(DIM);
+            for (int d = 0; d < DIM; d++) v.add(center[d] + rnd.nextGaussian() * 0.8);
+            out.add(v);
+        }
+        return out;
+    }
+
+    private static Set<Long> bruteForce(List<List<Double>> data, List<Double> q, int k) {
+        double qn = norm(q);
+        double[] sims = new double[data.size()];
+        Integer[] order = new Integer[data.size()];
+        for (int i = 0; i < data.size(); i++) {
+            List<Double> v = data.get(i);
+            double dot = 0;
+            for (int d = 0; d < DIM; d++) dot += v.get(d) * q.get(d);
+            sims[i] = dot / (norm(v) * qn);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(sims[b], sims[a]));
+        Set<Long> top = new HashSet<>();
+        for (int i = 0; i < k; i++) top.add((long) order[i]);
+        return top;
+    }
+
+    private static double norm(List<Double> v) {
+        double s = 0;
+        for (double x : v) s += x * x;
+        return Math.sqrt(s);
+    }
+}
@@ -0,0 +1,161 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insk.insk_backend.dto.OpenAIDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OpenAI SSE 스트리밍 분석 — 로컬 대역 서버(JDK HttpServer)가 content를 잘게 쪼개 흘려보낸다.
+ */
+class OpenAIClientStreamingTest {
+
+    private static final String CONTENT =
+            "{\"summary\":\"SKT가 AI 데이터센터에 투자한다.\",\"categoryMajor\":\"INFRA\","
+                    + "\"insight\":\"GPU 인프라 경쟁력 강화\",\"tags\":[\"SKT\",\"데이터센터\",\"GPU\"]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CountDownLatch summarySeen = new CountDownLatch(1);
+    private volatile boolean stall;
+    private volatile boolean summaryBeforeRest;
+
+    private HttpServer server;
+    private OpenAIClient client;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", this::handleChat);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setReadTimeout(Duration.ofMillis(300));   // 유휴 타임아웃
+        client = new OpenAIClient(new RestTemplate(), new RestTemplate(factory), new OpenAiRateLimiter());
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("문자열 중간에서 끊긴 조각도 이어 붙여 파싱하고, 필드가 완성되는 순서대로 알린다")
+    void parser_handlesSplitFragments() throws Exception {
+        List<String> fields = new CopyOnWriteArrayList<>();
+        StreamingAnalysisParser parser = new StreamingAnalysisParser((field, value) -> fields.add(field));
+
+        for (int i = 0; i < CONTENT.length(); i += 3) {
+            parser.feed(CONTENT.substring(i, Math.min(CONTENT.length(), i + 3)));
+        }
+        OpenAIDto.AnalysisResponse result = parser.finish();
+
+        assertThat(fields).containsExactly("summary", "categoryMajor", "insight", "tags");
+        assertThat(result.getSummary()).isEqualTo("SKT가 AI 데이터센터에 투자한다.");
+        assertThat(result.getCategoryMajor()).isEqualTo("INFRA");
+        assertThat(result.getTags()).containsExactly("SKT", "데이터센터", "GPU");
+    }
+
+    @Test
+    @DisplayName("summary는 스트림이 끝나기 전에 listener로 전달된다")
+    void stream_deliversSummaryBeforeCompletion() {
+        // 대역 서버는 summary를 보낸 뒤 listener가 그것을 받았음을 확인해야 나머지를 보낸다
+        OpenAIDto.AnalysisResponse result = client.analyzeArticleStreaming("기사 본문", "gpt-4o", (field, value) -> {
+            if (field.equals("summary")) summarySeen.countDown();
+        });
+
+        assertThat(summaryBeforeRest).isTrue();
+        assertThat(result.getSummary()).isEqualTo("SKT가 AI 데이터센터에 투자한다.");
+        assertThat(result.getInsight()).isEqualTo("GPU 인프라 경쟁력 강화");
+        assertThat(result.getTags()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("토큰이 유휴 타임아웃 동안 안 오면 120초를 기다리지 않고 OpenAiAnalysisException")
+    void stalledStream_failsOnIdleTimeout() {
+        stall = true;
+        long started = System.nanoTime();
+
+        assertThatThrownBy(() -> client.analyzeArticle("기사 본문", "gpt-4o"))
+                .isInstanceOf(OpenAiAnalysisException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    // ----- 로컬 대역 서버 -----
+
+    private void handleChat(HttpExchange ex) throws IOException {
+        boolean streaming = objectMapper.readTree(ex.getRequestBody()).path("stream").asBoolean();
+        ex.getResponseHeaders().set("Content-Type", "text/event-stream");
+        ex.sendResponseHeaders(200, 0);   // chunked
+        try (OutputStream os = ex.getResponseBody()) {
+            if (!streaming) return;
+            int split = CONTENT.indexOf(",\"categoryMajor\"");
+            sendDelta(os, CONTENT.substring(0, 20));
+            sendDelta(os, CONTENT.substring(20, split));
+            if (stall) {
+                sleep(2_000);
+                return;
+            }
+            summaryBeforeRest = await(summarySeen);
+            for (int i = split; i < CONTENT.length(); i += 7) {
+                sendDelta(os, CONTENT.substring(i, Math.min(CONTENT.length(), i + 7)));
+            }
+            send(os, "data: {\"choices\":[],\"usage\":{\"total_tokens\":420}}\n\n");
+            send(os, "data: [DONE]\n\n");
+        } catch (IOException ignored) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        }
+    }
+
+    private void sendDelta(OutputStream os, String fragment) throws IOException {
+        String chunk = objectMapper.writeValueAsString(
+                Map.of("choices", List.of(Map.of("delta", Map.of("content", fragment)))));
+        send(os, "data: " + chunk + "\n\n");
+    }
+
+    private static void send(OutputStream os, String s) throws IOException {
+        os.write(s.getBytes(StandardCharsets.UTF_8));
+        os.flush();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
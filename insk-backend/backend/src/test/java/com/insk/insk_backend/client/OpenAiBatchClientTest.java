@@ -0,0 +1,153 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OpenAI Batch API 클라이언트 — 로컬 대역 서버(JDK HttpServer)로 업로드·제출·폴링·결과 다운로드를 검증한다.
+ *
+ * <p>대역 서버는 업로드된 JSONL의 custom_id마다 결과 줄을 만들고, custom_id가 "fail"로 시작하면 500으로 응답한다.
+ */
+class OpenAiBatchClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> uploadedLines = new CopyOnWriteArrayList<>();
+    private final AtomicInteger statusPolls = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile int pollsUntilComplete = 2;
+
+    private HttpServer server;
+    private OpenAiBatchClient client;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/files", this::handleFiles);
+        server.createContext("/v1/batches", this::handleBatches);
+        server.start();
+
+        client = new OpenAiBatchClient(new RestTemplate());
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/v1");
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("JSONL 업로드 → 배치 제출 → 완료까지 폴링 → 성공한 요청만 결과로 돌려준다")
+    void submitPollAndDownload() throws Exception {
+        Map<String, Object> bodies = new LinkedHashMap<>();
+        bodies.put("0", Map.of("model", "gpt-4o", "messages", List.of(Map.of("role", "user", "content", "기사 0"))));
+        bodies.put("1", Map.of("model", "gpt-4o", "messages", List.of(Map.of("role", "user", "content", "기사 1"))));
+        bodies.put("fail-2", Map.of("model", "gpt-4o", "messages", List.of()));
+
+        String batchId = client.submit("/v1/chat/completions", bodies);
+        OpenAiBatchClient.BatchStatus st = client.await(batchId, Duration.ofMillis(10), Duration.ofSeconds(5));
+        Map<String, JsonNode> results = client.downloadResults(st.outputFileId());
+
+        assertThat(uploadedLines).hasSize(3);
+        assertThat(uploadedLines.get(0).path("url").asText()).isEqualTo("/v1/chat/completions");
+        assertThat(uploadedLines.get(0).path("body").path("model").asText()).isEqualTo("gpt-4o");
+        assertThat(st.status()).isEqualTo("completed");
+        assertThat(statusPolls.get()).isGreaterThanOrEqualTo(pollsUntilComplete);
+        assertThat(results).containsOnlyKeys("0", "1");
+        assertThat(results.get("1").path("choices").path(0).path("message").path("content").asText())
+                .contains("요약 1");
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 배치를 취소하고 결과 없이 돌려준다")
+    void timeout_cancelsBatch() throws Exception {
+        pollsUntilComplete = Integer.MAX_VALUE;
+
+        String batchId = client.submit("/v1/chat/completions", Map.of("0", Map.of("model", "gpt-4o")));
+        OpenAiBatchClient.BatchStatus st = client.await(batchId, Duration.ofMillis(10), Duration.ofMillis(100));
+
+        assertThat(cancelled).isTrue();
+        assertThat(st.status()).isEqualTo("cancelled");
+        assertThat(st.outputFileId()).isNull();
+    }
+
+    // ----- 로컬 대역 서버 -----
+
+    private void handleFiles(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        if (ex.getRequestMethod().equals("POST")) {
+            // multipart 본문에서 JSONL 줄만 골라낸다
+            String body = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            for (String line : body.split("\r?\n")) {
+                if (line.startsWith("{\"custom_id\"")) uploadedLines.add(objectMapper.readTree(line));
+            }
+            respond(ex, "{\"id\":\"file-in\",\"purpose\":\"batch\"}");
+        } else if (path.endsWith("/file-out/content")) {
+            StringBuilder out = new StringBuilder();
+            for (JsonNode in : uploadedLines) {
+                String id = in.path("custom_id").asText();
+                if (id.startsWith("fail")) {
+                    out.append("{\"custom_id\":\"").append(id)
+                            .append("\",\"response\":{\"status_code\":500,\"body\":{}},\"error\":null}\n");
+                } else {
+                    String content = objectMapper.writeValueAsString(
+                            "{\"summary\":\"요약 " + id + "\",\"insight\":\"i\",\"categoryMajor\":\"LLM\",\"tags\":[]}");
+                    out.append("{\"custom_id\":\"").append(id).append("\",\"response\":{\"status_code\":200,")
+                            .append("\"body\":{\"choices\":[{\"message\":{\"content\":").append(content)
+                            .append("}}]}},\"error\":null}\n");
+                }
+            }
+            respond(ex, out.toString());
+        } else {
+            ex.sendResponseHeaders(404, -1);
+            ex.close();
+        }
+    }
+
+    private void handleBatches(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        if (path.endsWith("/cancel")) {
+            cancelled.set(true);
+            respond(ex, "{\"id\":\"batch_1\",\"status\":\"cancelling\"}");
+        } else if (ex.getRequestMethod().equals("POST")) {
+            respond(ex, "{\"id\":\"batch_1\",\"status\":\"validating\"}");
+        } else if (cancelled.get()) {
+            respond(ex, "{\"id\":\"batch_1\",\"status\":\"cancelled\",\"output_file_id\":null}");
+        } else if (statusPolls.incrementAndGet() >= pollsUntilComplete) {
+            respond(ex, "{\"id\":\"batch_1\",\"status\":\"completed\",\"output_file_id\":\"file-out\"}");
+        } else {
+            respond(ex, "{\"id\":\"batch_1\",\"status\":\"in_progress\"}");
+        }
+    }
+
+    private static void respond(HttpExchange ex, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
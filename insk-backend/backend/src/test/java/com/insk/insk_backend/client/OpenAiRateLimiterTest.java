@@ -0,0 +1,67 @@
+package com.insk.insk_backend.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 공유 OpenAI rate limiter — 한도를 넘는 호출은 거절 대신 대기 시간으로 흡수된다.
+ */
+class OpenAiRateLimiterTest {
+
+    private final OpenAiRateLimiter limiter = new OpenAiRateLimiter();
+
+    @Test
+    @DisplayName("TPM 잔량 안의 예약은 즉시, 넘는 예약은 빚을 갚는 시간만큼 기다린다")
+    void tokenBudget_queuesInsteadOfRejecting() {
+        ReflectionTestUtils.setField(limiter, "defaultTpm", 60_000L);   // 1 토큰/ms 충전
+
+        assertThat(limiter.reserve("gpt-4o", 50_000)).isZero();
+        long wait = limiter.reserve("gpt-4o", 20_000);
+
+        // 잔량 10,000 → 빚 10,000 토큰 ≈ 10초
+        assertThat(wait).isBetween(9_000L, 10_000L);
+        // 다른 모델 버킷은 독립
+        assertThat(limiter.reserve("gpt-4o-mini", 1_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 remaining이 로컬 잔량보다 적으면 서버 값으로 낮춘다")
+    void headers_lowerLocalBudget() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-limit-requests", "60");
+        headers.set("x-ratelimit-remaining-requests", "0");
+        headers.set("x-ratelimit-limit-tokens", "30000");
+        headers.set("x-ratelimit-remaining-tokens", "29000");
+
+        limiter.onResponse("gpt-4o", headers);
+
+        // 요청 잔량 0, 분당 60 → 다음 요청은 약 1초 뒤
+        assertThat(limiter.reserve("gpt-4o", 10)).isBetween(900L, 1_000L);
+    }
+
+    @Test
+    @DisplayName("429를 받으면 reset 시각까지 해당 모델의 예약을 미룬다")
+    void rateLimited_blocksUntilReset() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("x-ratelimit-reset-requests", "1s");
+        headers.set("x-ratelimit-reset-tokens", "6m0s");
+
+        limiter.onRateLimited("gpt-4o", headers);
+
+        assertThat(limiter.reserve("gpt-4o", 1)).isGreaterThan(359_000L);
+        assertThat(OpenAiRateLimiter.parseDurationMs("20ms")).isEqualTo(20);
+        assertThat(OpenAiRateLimiter.parseDurationMs("1h2m3.5s")).isEqualTo(3_723_500);
+    }
+
+    @Test
+    @DisplayName("토큰 추정: 영문은 4자당 1토큰, 한글은 1자당 1토큰")
+    void tokenEstimator_mixedText() {
+        assertThat(TokenEstimator.estimate("abcdefgh")).isEqualTo(2);
+        assertThat(TokenEstimator.estimate("인공지능")).isEqualTo(4);
+        assertThat(TokenEstimator.estimate(null)).isZero();
+    }
+}
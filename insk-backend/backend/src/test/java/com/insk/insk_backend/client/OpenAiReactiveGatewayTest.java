@@ -0,0 +1,162 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insk.insk_backend.dto.OpenAIDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 논블로킹 OpenAI 게이트웨이 — 로컬 대역 서버(JDK HttpServer)로 재시도·폴백·동시성을 검증한다.
+ */
+class OpenAiReactiveGatewayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, AtomicInteger> callsByModel = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile String failingModel;
+    private volatile long latencyMs;
+
+    private HttpServer server;
+    private ConnectionProvider pool;
+    private OpenAiReactiveGateway gateway;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", this::handleChat);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        pool = ConnectionProvider.create("openai-test", 100);
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/v1")
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(pool)))
+                .build();
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter();
+        ReflectionTestUtils.setField(limiter, "defaultRpm", 1_000_000L);
+        ReflectionTestUtils.setField(limiter, "defaultTpm", 1_000_000_000L);
+        gateway = new OpenAiReactiveGateway(webClient, new OpenAIClient(new RestTemplate(), new RestTemplate(), limiter), limiter);
+        ReflectionTestUtils.setField(gateway, "retryDelayMs", 5L);
+        ReflectionTestUtils.setField(gateway, "retryMaxDelayMs", 20L);
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        server.stop(0);
+        pool.dispose();
+    }
+
+    @Test
+    @DisplayName("주 모델이 계속 5xx면 5회 시도 후 폴백 모델로 1회 더 호출한다")
+    void analyze_retriesThenFallsBack() {
+        failingModel = "gpt-4o";
+
+        OpenAIDto.AnalysisResponse ar = gateway.analyze("기사 본문").block(Duration.ofSeconds(10));
+
+        assertThat(ar.getSummary()).isEqualTo("요약 gpt-4o-mini");
+        assertThat(ar.getModel()).isEqualTo("gpt-4o-mini");
+        assertThat(callsByModel.get("gpt-4o")).hasValue(5);
+        assertThat(callsByModel.get("gpt-4o-mini")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("폴백까지 실패하면 OpenAiAnalysisException으로 끝난다 (→ 호출부 DLQ)")
+    void analyze_fallbackFailure_propagates() {
+        failingModel = "*";
+
+        assertThatThrownBy(() -> gateway.analyze("기사 본문").block(Duration.ofSeconds(10)))
+                .isInstanceOf(OpenAiAnalysisException.class);
+        assertThat(callsByModel.get("gpt-4o-mini")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("스레드 수와 무관하게 수십 건을 동시에 띄운다")
+    void analyzeAll_keepsManyCallsInFlight() {
+        latencyMs = 500;
+        Map<String, String> bodies = new LinkedHashMap<>();
+        for (int i = 0; i < 64; i++) bodies.put(String.valueOf(i), "기사 " + i);
+
+        long started = System.nanoTime();
+        Map<String, OpenAIDto.AnalysisResponse> results = gateway.analyzeAll(bodies, 64).block(Duration.ofSeconds(10));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(results).hasSize(64);
+        assertThat(maxInFlight.get()).isGreaterThanOrEqualTo(32);
+        // 순차(64 × 500ms ≈ 32s)나 8스레드 풀(≈ 4s)보다 훨씬 빨리 끝난다
+        assertThat(elapsed).isLessThan(Duration.ofMillis(3_000));
+    }
+
+    @Test
+    @DisplayName("재시도 대기는 openai.retry.multiplier 배수로 늘고 max-delay에서 멈춘다")
+    void backoff_appliesMultiplier() {
+        ReflectionTestUtils.setField(gateway, "retryDelayMs", 100L);
+        ReflectionTestUtils.setField(gateway, "retryMaxDelayMs", 10_000L);
+        ReflectionTestUtils.setField(gateway, "retryMultiplier", 3.0);
+
+        // n번째 대기: [100 × 3^n, 100 × 3^(n+1)] (@Backoff(random = true)와 같은 범위)
+        assertThat(gateway.backoff(0).toMillis()).isBetween(100L, 300L);
+        assertThat(gateway.backoff(1).toMillis()).isBetween(300L, 900L);
+        assertThat(gateway.backoff(2).toMillis()).isBetween(900L, 2_700L);
+        assertThat(gateway.backoff(10).toMillis()).isEqualTo(10_000L);
+    }
+
+    // ----- 로컬 대역 서버 -----
+
+    private void handleChat(HttpExchange ex) throws IOException {
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            JsonNode req = objectMapper.readTree(ex.getRequestBody());
+            String model = req.path("model").asText();
+            callsByModel.computeIfAbsent(model, m -> new AtomicInteger()).incrementAndGet();
+            if (latencyMs > 0) Thread.sleep(latencyMs);
+
+            if ("*".equals(failingModel) || model.equals(failingModel)) {
+                respond(ex, 500, "{\"error\":{\"message\":\"server error\"}}");
+                return;
+            }
+            String content = objectMapper.writeValueAsString(
+                    "{\"summary\":\"요약 " + model + "\",\"insight\":\"i\",\"categoryMajor\":\"LLM\",\"tags\":[]}");
+            respond(ex, 200, "{\"choices\":[{\"message\":{\"content\":" + content + "}}],\"usage\":{\"total_tokens\":100}}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange ex, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.insk.insk_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Qdrant 양자화 설정·별칭 — 로컬 대역 서버(JDK HttpServer)가 받은 요청 본문을 확인한다.
+ */
+class QdrantClientQuantizationTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, JsonNode> received = new ConcurrentHashMap<>();   // "METHOD path" → 본문
+    private volatile boolean collectionExists;
+    private volatile String existingConfig = "{}";
+    private volatile boolean existingOnDisk;
+    private volatile String aliases = "[]";
+    private volatile int existingSize;
+    private volatile int servedDimension;   // >0이면 검색 벡터 차원이 다르면 400 차원 오류
+
+    private HttpServer server;
+    private QdrantClient client;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/collections", this::handle);
+        server.createContext("/aliases", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        client = new QdrantClient(new RestTemplate(new HttpComponentsClientHttpRequestFactory()),
+                Runnable::run, new SimpleMeterRegistry(), "127.0.0.1", server.getAddress().getPort(),
+                "articles", false, 0.95, 150, 0);
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("새 컬렉션은 int8 스칼라 양자화 + 원본 on_disk로 만든다")
+    void createCollection_withScalarQuantization() {
+        client.ensureCollection(1536);
+
+        JsonNode body = received.get("PUT /collections/articles");
+        assertThat(body.path("vectors").path("size").asInt()).isEqualTo(1536);
+        assertThat(body.path("vectors").path("on_disk").asBoolean()).isTrue();
+        assertThat(body.path("quantization_config").path("scalar").path("type").asText()).isEqualTo("int8");
+    }
+
+    @Test
+    @DisplayName("product 모드면 PQ 압축률로 만든다")
+    void createCollection_withProductQuantization() {
+        ReflectionTestUtils.setField(client, "quantizationMode", "product");
+        client.ensureCollection(1536);
+
+        JsonNode body = received.get("PUT /collections/articles");
+        assertThat(body.path("quantization_config").path("product").path("compression").asText()).isEqualTo("x16");
+    }
+
+    @Test
+    @DisplayName("양자화가 없는 기존 컬렉션에는 PATCH로 양자화와 원본 on_disk를 건다, 이미 같으면 건드리지 않는다")
+    void existingCollection_patchedOnlyWhenDifferent() {
+        collectionExists = true;
+        client.ensureCollection(1536);
+        JsonNode patch = received.get("PATCH /collections/articles");
+        assertThat(patch.path("quantization_config").has("scalar")).isTrue();
+        assertThat(patch.path("vectors").path("").path("on_disk").asBoolean()).isTrue();
+
+        received.clear();
+        existingOnDisk = true;
+        existingConfig = "{\"scalar\":{\"type\":\"int8\",\"quantile\":0.99,\"always_ram\":true}}";
+        client.ensureCollection(1536);
+        assertThat(received).doesNotContainKey("PATCH /collections/articles");
+    }
+
+    @Test
+    @DisplayName("같은 방식이어도 PQ 압축률이 바뀌었거나 원본이 RAM에 있으면 다시 PATCH한다")
+    void existingCollection_patchedWhenCompressionOrOnDiskDiffers() {
+        collectionExists = true;
+        existingOnDisk = true;
+        existingConfig = "{\"product\":{\"compression\":\"x32\",\"always_ram\":true}}";
+        ReflectionTestUtils.setField(client, "quantizationMode", "product");
+        client.ensureCollection(1536);
+        assertThat(received.get("PATCH /collections/articles")
+                .path("quantization_config").path("product").path("compression").asText()).isEqualTo("x16");
+
+        received.clear();
+        existingOnDisk = false;
+        existingConfig = "{\"product\":{\"compression\":\"x16\",\"always_ram\":true}}";
+        client.ensureCollection(1536);
+        assertThat(received).containsKey("PATCH /collections/articles");
+    }
+
+    @Test
+    @DisplayName("검색 요청에 rescore·oversampling을 싣고, none이면 싣지 않는다")
+    void search_sendsQuantizationParams() {
+        List<VectorIndex.ScoredId> hits = client.search(List.of(0.1, 0.2), 5);
+
+        assertThat(hits).containsExactly(new VectorIndex.ScoredId(7L, 0.9));
+        JsonNode params = received.get("POST /collections/articles/points/search").path("params").path("quantization");
+        assertThat(params.path("rescore").asBoolean()).isTrue();
+        assertThat(params.path("oversampling").asDouble()).isEqualTo(2.0);
+
+        ReflectionTestUtils.setField(client, "quantizationMode", "none");
+        client.search(List.of(0.1, 0.2), 5);
+        assertThat(received.get("POST /collections/articles/points/search").has("params")).isFalse();
+    }
+
+    @Test
+    @DisplayName("별칭이 없으면 만들어 걸고, 이후 검색은 별칭으로 보낸다")
+    void createsAlias_thenSearchesThroughIt() {
+        client.ensureCollection(1536);
+
+        JsonNode action = received.get("POST /collections/aliases").path("actions").get(0);
+        assertThat(action.path("create_alias").path("collection_name").asText()).isEqualTo("articles");
+        assertThat(action.path("create_alias").path("alias_name").asText()).isEqualTo("articles_live");
+
+        client.search(List.of(0.1, 0.2), 5);
+        assertThat(received).containsKey("POST /collections/articles_live/points/search");
+    }
+
+    @Test
+    @DisplayName("별칭이 512차원 컬렉션을 가리키면 1536차원 입력을 512차원으로 잘라 쓴다")
+    void existingAlias_shortensToActiveDimension() {
+        aliases = "[{\"alias_name\":\"articles_live\",\"collection_name\":\"articles_d512_1\"}]";
+        existingSize = 512;
+        client.ensureCollection(1536);
+        assertThat(client.activeCollection()).isEqualTo("articles_d512_1");
+        assertThat(client.dimension()).isEqualTo(512);
+
+        List<Double> full = new ArrayList<>();
+        for (int i = 0; i < 1536; i++) full.add(1.0);
+        client.upsert(9L, full);
+
+        JsonNode point = received.get("PUT /collections/articles_live/points").path("points").get(0);
+        assertThat(point.path("vector").size()).isEqualTo(512);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 별칭을 256차원 컬렉션으로 옮기면 차원 오류를 보고 다시 확인해 재시도한다")
+    void aliasMovedElsewhere_dimensionErrorTriggersRefresh() {
+        aliases = "[{\"alias_name\":\"articles_live\",\"collection_name\":\"articles_d512_1\"}]";
+        existingSize = 512;
+        client.ensureCollection(1536);
+        assertThat(client.dimension()).isEqualTo(512);
+
+        aliases = "[{\"alias_name\":\"articles_live\",\"collection_name\":\"articles_d256_2\"}]";
+        servedDimension = 256;
+        List<Double> full = new ArrayList<>();
+        for (int i = 0; i < 1536; i++) full.add(1.0);
+
+        assertThat(client.search(full, 5)).containsExactly(new VectorIndex.ScoredId(7L, 0.9));
+        assertThat(client.activeCollection()).isEqualTo("articles_d256_2");
+        assertThat(client.dimension()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("확인 주기가 지나면 오류 없이도 별칭이 가리키는 컬렉션·차원을 다시 읽는다")
+    void aliasRefreshedAfterTtl() {
+        aliases = "[{\"alias_name\":\"articles_live\",\"collection_name\":\"articles_d512_1\"}]";
+        existingSize = 512;
+        client.ensureCollection(1536);
+
+        aliases = "[{\"alias_name\":\"articles_live\",\"collection_name\":\"articles_d256_2\"}]";
+        ReflectionTestUtils.setField(client, "aliasRefreshMs", 0L);
+        client.upsert(9L, List.of(1.0, 2.0, 3.0, 4.0));
+
+        assertThat(client.dimension()).isEqualTo(256);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String key = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        byte[] in = exchange.getRequestBody().readAllBytes();
+        if (in.length > 0) received.put(key, objectMapper.readTree(in));
+
+        String response;
+        int status = 200;
+        if (key.endsWith("/points/search") && servedDimension > 0
+                && received.get(key).path("vector").size() != servedDimension) {
+            status = 400;
+            response = "{\"status\":{\"error\":\"Wrong input: Vector dimension error: expected dim: "
+                    + servedDimension + ", got " + received.get(key).path("vector").size() + "\"}}";
+        } else if (key.equals("GET /aliases")) {
+            response = "{\"result\":{\"aliases\":" + aliases + "}}";
+        } else if (key.endsWith("/exists")) {
+            response = "{\"result\":{\"exists\":" + collectionExists + "}}";
+        } else if (key.equals("GET /collections/articles")) {
+            response = "{\"result\":{\"config\":{\"params\":{\"vectors\":{\"size\":" + existingSize
+                    + ",\"on_disk\":" + existingOnDisk + "}},"
+                    + "\"quantization_config\":" + existingConfig + "}}}";
+        } else if (key.startsWith("GET /collections/articles_d512_1")) {
+            response = "{\"result\":{\"config\":{\"params\":{\"vectors\":{\"size\":512}},"
+                    + "\"quantization_config\":{\"scalar\":{}}}}}";
+        } else if (key.startsWith("GET /collections/articles_d256_2")) {
+            response = "{\"result\":{\"config\":{\"params\":{\"vectors\":{\"size\":256}},"
+                    + "\"quantization_config\":{\"scalar\":{}}}}}";
+        } else if (key.endsWith("/points/search")) {
+            response = "{\"result\":[{\"id\":7,\"score\":0.9}]}";
+        } else {
+            response = "{\"result\":true}";
+        }
+        byte[] out = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, out.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(out);
+        }
+    }
+}
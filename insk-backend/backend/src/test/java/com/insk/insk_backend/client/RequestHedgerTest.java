@@ -0,0 +1,87 @@
+package com.insk.insk_backend.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 요청 헤징 — 느린 첫 요청은 두 번째 요청으로 대체되고, 예산을 넘으면 헤징하지 않는다.
+ */
+class RequestHedgerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤징 지연 안에 안 오면 두 번째 요청 결과를 먼저 쓴다")
+    void slowPrimary_hedgeWins() throws Exception {
+        RequestHedger hedger = hedger(0.1, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        long started = System.nanoTime();
+        String result = hedger.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(2_000);   // 꼬리 지연
+                return "slow";
+            }
+            return "fast";
+        });
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(elapsed).isLessThan(Duration.ofMillis(1_000));
+        assertThat(registry.get("http.client.hedge.sent").counter().count()).isEqualTo(1);
+        assertThat(registry.get("http.client.hedge.won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤징 예산이 없으면 두 번째 요청을 보내지 않고 첫 요청을 기다린다")
+    void noBudget_waitsForPrimary() throws Exception {
+        RequestHedger hedger = hedger(0, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = hedger.call(() -> {
+            calls.incrementAndGet();
+            Thread.sleep(300);
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(calls).hasValue(1);
+        assertThat(registry.get("http.client.hedge.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("표본이 쌓이면 헤징 지연이 최근 p95를 따라간다")
+    void hedgeDelay_tracksRecentP95() throws Exception {
+        RequestHedger hedger = hedger(0.1, 10);
+        for (int i = 0; i < 60; i++) {
+            hedger.call(() -> {
+                Thread.sleep(20);
+                return "ok";
+            });
+        }
+
+        long delayMs = hedger.hedgeDelayNanos() / 1_000_000;
+        // 버킷 폭(1.25배)과 sleep 오차를 감안한 범위, 초기값(100ms)과는 구분된다
+        assertThat(delayMs).isBetween(20L, 60L);
+    }
+
+    private RequestHedger hedger(double budgetRatio, int burst) {
+        return new RequestHedger("test", executor, registry, new RequestHedger.Settings(
+                0.95, Duration.ofMillis(100), Duration.ofMillis(5), Duration.ofSeconds(5), 50, budgetRatio, burst));
+    }
+}
@@ -0,0 +1,54 @@
+package com.insk.insk_backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 운영 API(/api/v1/admin/**)는 admin.operator-emails에 있는 운영자만 호출할 수 있다.
+ *
+ * <p>전체 벡터 재색인은 컬렉션을 새로 만들고 모든 임베딩을 다시 올리는 무거운 작업이라, 로그인만 한 일반 사용자에게는 막는다.
+ * 운영자 요청은 차원 검증(400)까지 내려가는지로 보안 필터를 통과했음을 확인한다(실제 재색인은 돌리지 않음).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "admin.operator-emails=ops@insk.com, oncall@insk.com")
+class AdminEndpointSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("미인증 POST /api/v1/admin/vector-index/reindex → 거부(4xx)")
+    void unauthenticatedReindex_rejected() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/vector-index/reindex").param("dimensions", "512"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @WithMockUser(username = "user@insk.com")
+    @DisplayName("운영자가 아닌 사용자의 재색인·상태 조회 → 403")
+    void nonOperator_forbidden() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/vector-index/reindex").param("dimensions", "512"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/vector-index/reindex"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "OnCall@insk.com")
+    @DisplayName("운영자(대소문자 무시)는 보안 필터를 통과한다")
+    void operator_allowed() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/vector-index/reindex").param("dimensions", "1"))
+                .andExpect(status().isBadRequest());
+    }
+}
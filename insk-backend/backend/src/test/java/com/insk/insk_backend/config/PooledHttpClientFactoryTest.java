@@ -0,0 +1,116 @@
+package com.insk.insk_backend.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대상별 커넥션 풀 — keep-alive 재사용, 라우트당 상한, 획득·점유 시간 지표.
+ */
+class PooledHttpClientFactoryTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean hold;
+
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/ping";
+    }
+
+    @AfterEach
+    void stopStandIn() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("순차 호출은 커넥션 1개를 재사용하고 획득·점유 시간을 기록한다")
+    void sequentialCalls_reuseOneConnection() {
+        RestTemplate rest = new RestTemplate(PooledHttpClientFactory.create("test", settings(4, 4, 1_000), registry));
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(rest.getForObject(url, String.class)).isEqualTo("pong");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(registry.get("http.client.pool.acquire").tag("pool", "test").timer().count()).isEqualTo(20);
+        assertThat(registry.get("http.client.pool.lease").tag("pool", "test").timer().count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("라우트당 상한을 넘는 호출은 커넥션을 기다리다 획득 타임아웃으로 실패한다")
+    void perRouteLimit_boundsConcurrentConnections() throws Exception {
+        hold = true;
+        RestTemplate rest = new RestTemplate(PooledHttpClientFactory.create("test", settings(10, 2, 5_000), registry));
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> a = callers.submit(() -> rest.getForObject(url, String.class));
+            Future<String> b = callers.submit(() -> rest.getForObject(url, String.class));
+            Thread.sleep(200);   // 두 호출이 커넥션 2개를 모두 점유
+
+            assertThatThrownBy(() -> rest.getForObject(url, String.class))
+                    .isInstanceOf(ResourceAccessException.class);
+
+            release.countDown();
+            assertThat(a.get(5, TimeUnit.SECONDS)).isEqualTo("pong");
+            assertThat(b.get(5, TimeUnit.SECONDS)).isEqualTo("pong");
+            assertThat(clientPorts).hasSize(2);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static PooledHttpClientFactory.PoolSettings settings(int maxTotal, int maxPerRoute, long readMs) {
+        return new PooledHttpClientFactory.PoolSettings(maxTotal, maxPerRoute,
+                Duration.ofSeconds(1), Duration.ofMillis(readMs), Duration.ofMillis(300),
+                Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        clientPorts.add(ex.getRemoteAddress().getPort());
+        if (hold) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] bytes = "pong".getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "text/plain");
+        ex.sendResponseHeaders(200, bytes.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
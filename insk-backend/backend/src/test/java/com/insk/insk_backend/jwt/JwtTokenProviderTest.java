@@ -0,0 +1,110 @@
+package com.insk.insk_backend.jwt;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.domain.User;
+import com.insk.insk_backend.repository.UserRepository;
+import com.insk.insk_backend.security.CustomUserDetails;
+import com.insk.insk_backend.security.CustomUserDetailsService;
+import com.insk.insk_backend.security.JwtPrincipal;
+import com.insk.insk_backend.security.UserStateCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 무상태 인증 — 한 번 파싱한 클레임으로 주체를 만들고, 사용자 상태는 TTL 캐시로만 확인한다.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItaW5zay1qd3QtdGVzdHMtb25seS0wMTIzNDU2Nzg5YWJjZGVm";
+    private static final DepartmentType DEPT = DepartmentType.values()[0];
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+    private final UserStateCache userStateCache = new UserStateCache(userRepository);
+    private final JwtTokenProvider provider = new JwtTokenProvider(userDetailsService, userStateCache);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "validityInMs", 3_600_000L);
+        provider.init();
+    }
+
+    @Test
+    @DisplayName("클레임으로 JwtPrincipal을 만들고, 같은 사용자의 반복 요청은 DB를 한 번만 읽는다")
+    void stateless_principalFromClaims() {
+        User user = user(null);
+        String token = provider.createToken(user);
+
+        Authentication first = provider.getAuthentication(token);
+        Authentication second = provider.getAuthentication(token);
+
+        assertThat(first.getPrincipal()).isEqualTo(new JwtPrincipal("a@insk.com", 42L, DEPT));
+        assertThat(second.getName()).isEqualTo("a@insk.com");
+        verify(userRepository, times(1)).findByEmail("a@insk.com");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경 전에 발급된 토큰·없는 계정·위조 토큰은 인증하지 않는다")
+    void revokedOrInvalid_rejected() {
+        String token = provider.createToken(user(null));
+
+        User reset = user(LocalDateTime.now().plusMinutes(1));
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.of(reset));
+        assertThat(provider.getAuthentication(token)).isNull();
+
+        userStateCache.evict("a@insk.com");
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.empty());
+        assertThat(provider.getAuthentication(token)).isNull();
+
+        assertThat(provider.getAuthentication(token.substring(0, token.length() - 2) + "xx")).isNull();
+        assertThat(provider.getAuthentication("not.a.jwt")).isNull();
+    }
+
+    @Test
+    @DisplayName("uid 클레임이 없는 예전 토큰은 기존처럼 UserDetailsService로 조회한다")
+    void legacyToken_fallsBackToUserDetailsService() {
+        String legacy = Jwts.builder()
+                .subject("a@insk.com")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+        User user = user(null);
+        when(userDetailsService.loadUserByUsername("a@insk.com")).thenReturn(new CustomUserDetails(user));
+
+        Authentication authentication = provider.getAuthentication(legacy);
+
+        assertThat(authentication.getPrincipal()).isInstanceOf(CustomUserDetails.class);
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    private User user(LocalDateTime credentialsChangedAt) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(42L);
+        when(user.getEmail()).thenReturn("a@insk.com");
+        when(user.getDepartment()).thenReturn(DEPT);
+        when(user.getCredentialsChangedAt()).thenReturn(credentialsChangedAt);
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.of(user));
+        return user;
+    }
+}
@@ -0,0 +1,112 @@
+package com.insk.insk_backend.security;
+
+import com.insk.insk_backend.config.SecurityConfig;
+import com.insk.insk_backend.exception.PasswordHashingBusyException;
+import com.insk.insk_backend.jwt.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 비밀번호 해시 — {bcrypt} 위임 인코더(기존 해시 호환·재해시 판단)와 상한 있는 전용 풀(포화 시 즉시 거절, 지표).
+ */
+class OffloadedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 해시도 검증되고 재해시 대상이며, 새 해시는 {bcrypt} 접두사와 설정한 작업 계수를 쓴다")
+    void delegating_legacyHashAndWorkFactor() {
+        pool(2, 16);
+        PasswordEncoder encoder = configuredEncoder(5);
+        String legacy = new BCryptPasswordEncoder(4).encode("pw");
+
+        assertThat(encoder.matches("pw", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+
+        String rehashed = encoder.encode("pw");
+        assertThat(rehashed).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("pw", rehashed)).isTrue();
+        assertThat(encoder.upgradeEncoding(rehashed)).isFalse();
+        assertThat(configuredEncoder(6).upgradeEncoding(rehashed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("해시는 전용 풀 스레드에서 돌고, 풀과 대기열이 차면 기다리지 않고 거절하며 지표에 남긴다")
+    void saturated_rejectsFast() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return true;
+            }
+        };
+        OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(blocking, pool(1, 1), 5_000, registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitUntil(() -> executor.getActiveCount() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntil(() -> executor.getThreadPoolExecutor().getQueue().size() == 1);
+
+        assertThat(registry.get("password.hash.queue.depth").gauge().value()).isEqualTo(1.0);
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("password-hash-");
+    }
+
+    private PasswordEncoder configuredEncoder(int strength) {
+        SecurityConfig config = new SecurityConfig(mock(JwtAuthenticationFilter.class),
+                mock(CustomUserDetailsService.class));
+        ReflectionTestUtils.setField(config, "bcryptStrength", strength);
+        ReflectionTestUtils.setField(config, "hashTimeoutMs", 5_000L);
+        return config.passwordEncoder(executor, new SimpleMeterRegistry());
+    }
+
+    private ThreadPoolExecutor pool(int threads, int queue) {
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queue);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor.getThreadPoolExecutor();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 250 && !condition.getAsBoolean(); i++) Thread.sleep(20);
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.AnalysisCacheEntry;
+import com.insk.insk_backend.dto.OpenAIDto;
+import com.insk.insk_backend.repository.AnalysisCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 본문 해시 기반 분석 캐시 — 공백·대소문자·전각 차이만 있는 재배포 본문은 같은 결과를 재사용한다.
+ *
+ * <p>저장소는 cache_key → 엔트리 맵으로 흉내낸다.
+ */
+class AnalysisCacheServiceTest {
+
+    private final AnalysisCacheRepository repository = mock(AnalysisCacheRepository.class);
+    private final Map<String, AnalysisCacheEntry> store = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AnalysisCacheService cache = new AnalysisCacheService(repository, meterRegistry);
+
+    AnalysisCacheServiceTest() {
+        when(repository.findByCacheKey(any())).thenAnswer(inv -> Optional.ofNullable(store.get(inv.<String>getArgument(0))));
+        when(repository.save(any(AnalysisCacheEntry.class))).thenAnswer(inv -> {
+            AnalysisCacheEntry e = inv.getArgument(0);
+            store.put(e.getCacheKey(), e);
+            return e;
+        });
+    }
+
+    @Test
+    @DisplayName("공백·대소문자·전각 차이만 있는 본문은 캐시에 적중한다")
+    void nearExactBody_hits() {
+        cache.put("SKT, AI 데이터센터 투자 발표.\n\n3조 원 규모", analysis("요약"));
+
+        OpenAIDto.AnalysisResponse hit = cache.get("  skt,   AI 데이터센터 투자 발표． 3조 원 규모 ");
+
+        assertThat(hit).isNotNull();
+        assertThat(hit.getSummary()).isEqualTo("요약");
+        assertThat(hit.getTags()).containsExactly("AI");
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(meterRegistry.counter("pipeline.llm.cache.hits").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모델이 바뀌면 키가 달라져 예전 결과를 재사용하지 않는다")
+    void differentModel_misses() {
+        cache.put("같은 본문", analysis("gpt-4o 결과"));
+        ReflectionTestUtils.setField(cache, "analysisModel", "gpt-4o-mini");
+
+        assertThat(cache.get("같은 본문")).isNull();
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(meterRegistry.counter("pipeline.llm.cache.misses").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("폴백 모델이 낸 결과는 주 모델 키로 캐시하지 않는다")
+    void fallbackModelResult_notCached() {
+        OpenAIDto.AnalysisResponse degraded = analysis("폴백 결과");
+        degraded.setModel("gpt-4o-mini");
+
+        cache.put("같은 본문", degraded);
+
+        assertThat(store).isEmpty();
+        assertThat(cache.get("같은 본문")).isNull();
+    }
+
+    private static OpenAIDto.AnalysisResponse analysis(String summary) {
+        OpenAIDto.AnalysisResponse ar = new OpenAIDto.AnalysisResponse();
+        ar.setSummary(summary);
+        ar.setInsight("인사이트");
+        ar.setCategoryMajor("INFRA");
+        ar.setTags(List.of("AI"));
+        return ar;
+    }
+}
@@ -0,0 +1,73 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.dto.ArticleDto;
+import com.insk.insk_backend.repository.ArticleAnalysisRepository;
+import com.insk.insk_backend.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관심기사 — 한 쿼리로 DB 정렬·LIMIT, 페이지 번호 방식과 keyset 커서 방식.
+ */
+class ArticleFavoritesTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleService service = new ArticleService(articleRepository, mock(ArticleAnalysisRepository.class));
+
+    @Test
+    @DisplayName("페이지 번호 방식은 요청 sort를 떼고 DB 쿼리의 publishedAt DESC 정렬을 그대로 쓴다")
+    void pageNumber_delegatesToQuery() {
+        Page<ArticleDto.Response> page = new PageImpl<>(List.of(article(5, T0)), PageRequest.of(1, 10), 11);
+        when(articleRepository.findFavorites(eq("a@insk.com"), any(Pageable.class))).thenReturn(page);
+
+        Page<ArticleDto.Response> result = service.getFavoriteArticles("a@insk.com",
+                PageRequest.of(1, 10, Sort.by("publishedAt")));
+
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        verify(articleRepository).findFavorites("a@insk.com", PageRequest.of(1, 10));
+    }
+
+    @Test
+    @DisplayName("커서 방식은 size+1건으로 다음 페이지를 판단하고, 마지막 (publishedAt, articleId)에서 이어 읽는다")
+    void cursor_pages() {
+        when(articleRepository.findFavoritesBefore(eq("a@insk.com"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(article(9, T0.plusHours(2)), article(8, T0.plusHours(1)), article(7, T0)));
+
+        ArticleDto.CursorResponse first = service.getFavoriteArticles("a@insk.com", null, 2);
+
+        assertThat(first.getArticles()).extracting(ArticleDto.Response::getArticleId).containsExactly(9L, 8L);
+        assertThat(first.isHasNext()).isTrue();
+
+        when(articleRepository.findFavoritesBefore(eq("a@insk.com"), eq(T0.plusHours(1)), eq(8L), any(Pageable.class)))
+                .thenReturn(List.of(article(7, T0)));
+
+        ArticleDto.CursorResponse second = service.getFavoriteArticles("a@insk.com", first.getNextCursor(), 2);
+
+        assertThat(second.getArticles()).extracting(ArticleDto.Response::getArticleId).containsExactly(7L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private static ArticleDto.Response article(long id, LocalDateTime publishedAt) {
+        return new ArticleDto.Response(id, "기사 " + id, "https://news.example/" + id, "", "",
+                "naver", "KR", "ko", publishedAt);
+    }
+}
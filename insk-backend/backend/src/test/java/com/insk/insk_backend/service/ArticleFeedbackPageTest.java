@@ -0,0 +1,81 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.dto.ArticleFeedbackDto;
+import com.insk.insk_backend.dto.FeedbackRow;
+import com.insk.insk_backend.repository.ArticleFeedbackRepository;
+import com.insk.insk_backend.repository.ArticleRepository;
+import com.insk.insk_backend.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 피드백 목록 — (createdAt, id) keyset 페이지, size+1로 다음 페이지 판단, 작성자는 프로젝션으로.
+ */
+class ArticleFeedbackPageTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private final ArticleFeedbackRepository feedbackRepository = mock(ArticleFeedbackRepository.class);
+    private final ArticleFeedbackService service = new ArticleFeedbackService(mock(ArticleRepository.class),
+            mock(UserRepository.class), feedbackRepository, mock(ArticleScoreService.class),
+            mock(ArticleFeedbackAggregateService.class));
+
+    @Test
+    @DisplayName("첫 페이지는 size+1건을 읽어 size건만 내려주고, 마지막 행 커서로 다음 페이지를 이어 받는다")
+    void firstPageThenCursor() {
+        // 최신순 10, 9, 8 (8과 7은 createdAt이 같아 id로 구분)
+        when(feedbackRepository.findPage(eq(7L), any(Pageable.class)))
+                .thenReturn(List.of(row(10, T0.plusMinutes(3)), row(9, T0.plusMinutes(2)), row(8, T0)));
+
+        ArticleFeedbackDto.PageResponse first = service.getFeedbacks(7L, null, 2);
+
+        assertThat(first.getFeedbacks()).extracting(ArticleFeedbackDto.Response::getFeedbackId)
+                .containsExactly(10L, 9L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getFeedbacks().get(0).getDepartment()).isEqualTo(DepartmentType.values()[0].name());
+
+        when(feedbackRepository.findPageBefore(eq(7L), eq(T0.plusMinutes(2)), eq(9L), any(Pageable.class)))
+                .thenReturn(List.of(row(8, T0), row(7, T0)));
+
+        ArticleFeedbackDto.PageResponse second = service.getFeedbacks(7L, first.getNextCursor(), 2);
+
+        assertThat(second.getFeedbacks()).extracting(ArticleFeedbackDto.Response::getFeedbackId)
+                .containsExactly(8L, 7L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        verify(feedbackRepository, never()).findByArticle_ArticleId(anyLong());
+    }
+
+    @Test
+    @DisplayName("size는 상한으로 자르고, 깨진 커서는 400(IllegalArgumentException)")
+    void sizeCapAndBadCursor() {
+        List<FeedbackRow> many = new ArrayList<>();
+        for (int i = 100; i > 0; i--) many.add(row(i, T0.plusMinutes(i)));
+        when(feedbackRepository.findPage(eq(7L), any(Pageable.class))).thenReturn(many);
+
+        assertThat(service.getFeedbacks(7L, null, 1000).getFeedbacks()).hasSize(50);
+        assertThatThrownBy(() -> service.getFeedbacks(7L, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static FeedbackRow row(long id, LocalDateTime createdAt) {
+        return new FeedbackRow(id, 7L, null, "댓글 " + id, "u" + id + "@insk.com",
+                DepartmentType.values()[0], createdAt);
+    }
+}
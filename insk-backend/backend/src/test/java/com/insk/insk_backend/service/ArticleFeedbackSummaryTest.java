@@ -0,0 +1,90 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.Article;
+import com.insk.insk_backend.domain.ArticleFeedback;
+import com.insk.insk_backend.dto.ArticleFeedbackDto;
+import com.insk.insk_backend.repository.ArticleFeedbackRepository;
+import com.insk.insk_backend.repository.ArticleRepository;
+import com.insk.insk_backend.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 피드백 요약 — 집계는 GROUP BY 한 번 + 최근 5건 LIMIT, 내 투표는 단건 조회, 전체 피드백은 읽지 않는다.
+ */
+class ArticleFeedbackSummaryTest {
+
+    private final ArticleFeedbackRepository feedbackRepository = mock(ArticleFeedbackRepository.class);
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleFeedbackAggregateService aggregateService = new ArticleFeedbackAggregateService(feedbackRepository);
+    private final ArticleFeedbackService service = new ArticleFeedbackService(articleRepository,
+            mock(UserRepository.class), feedbackRepository, mock(ArticleScoreService.class), aggregateService);
+
+    @Test
+    @DisplayName("좋아요·싫어요 수는 GROUP BY 결과로, 최근 댓글은 LIMIT 쿼리로, 내 투표는 단건 조회로 채운다")
+    void summary_usesBoundedQueries() {
+        when(feedbackRepository.countVotesByArticle(7L))
+                .thenReturn(List.of(new Object[]{true, 12L}, new Object[]{false, 3L}));
+        when(feedbackRepository.findRecentFeedbackTexts(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of("유용해요", "출처 확인 필요"));
+        ArticleFeedback mine = mock(ArticleFeedback.class);
+        when(mine.getLiked()).thenReturn(true);
+        when(feedbackRepository.findFirstByArticle_ArticleIdAndUser_EmailAndLikedIsNotNull(7L, "a@insk.com"))
+                .thenReturn(Optional.of(mine));
+
+        ArticleFeedbackDto.SummaryResponse summary = service.getFeedbackSummary(7L, "a@insk.com");
+
+        assertThat(summary.getLikes()).isEqualTo(12);
+        assertThat(summary.getDislikes()).isEqualTo(3);
+        assertThat(summary.getRecentComments()).containsExactly("유용해요", "출처 확인 필요");
+        assertThat(summary.getMyFeedback().getLiked()).isTrue();
+        verify(feedbackRepository, never()).findByArticle_ArticleId(anyLong());
+        verify(feedbackRepository, never()).countByArticleArticleIdAndLiked(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않았으면 내 투표는 조회하지 않는다")
+    void summary_anonymous() {
+        when(feedbackRepository.countVotesByArticle(7L)).thenReturn(List.of());
+        when(feedbackRepository.findRecentFeedbackTexts(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        ArticleFeedbackDto.SummaryResponse summary = service.getFeedbackSummary(7L, null);
+
+        assertThat(summary.getLikes()).isZero();
+        assertThat(summary.getMyFeedback()).isNull();
+        verify(feedbackRepository, never())
+                .findFirstByArticle_ArticleIdAndUser_EmailAndLikedIsNotNull(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("피드백을 만들면 기사 집계 캐시를 비운다")
+    void createFeedback_evictsAggregate() {
+        ArticleFeedbackAggregateService aggregate = mock(ArticleFeedbackAggregateService.class);
+        ArticleFeedbackService withMock = new ArticleFeedbackService(articleRepository,
+                mock(UserRepository.class), feedbackRepository, mock(ArticleScoreService.class), aggregate);
+        Article article = mock(Article.class);
+        when(article.getArticleId()).thenReturn(7L);
+        when(articleRepository.findById(7L)).thenReturn(Optional.of(article));
+        when(feedbackRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        ArticleFeedbackDto.CreateRequest req = new ArticleFeedbackDto.CreateRequest();
+        req.setFeedbackText("좋은 기사");
+        withMock.createFeedback(7L, req, null);
+
+        verify(aggregate).evict(7L);
+    }
+}
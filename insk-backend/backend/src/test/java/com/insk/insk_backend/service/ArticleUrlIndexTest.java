@@ -0,0 +1,57 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.repository.ArticleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * URL 중복 판정 Bloom filter 앞단 — 음성은 DB를 건너뛰고, 양성만 MySQL로 확인한다.
+ */
+class ArticleUrlIndexTest {
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final ArticleUrlIndex index = new ArticleUrlIndex(articleRepository);
+
+    @Test
+    @DisplayName("초기화된 필터에 없는 URL은 DB 조회 없이 새 기사로 판정한다")
+    void bloomNegative_skipsDb() {
+        index.initialize(List.of("https://news.example.com/a/1"));
+
+        assertThat(index.isKnown("https://news.example.com/a/2")).isFalse();
+        verify(articleRepository, never()).existsByCanonicalUrlOrOriginalUrl(any(), any());
+    }
+
+    @Test
+    @DisplayName("필터 양성은 정규화 URL로 DB 확인한다 (추적 파라미터가 붙은 중복도 잡힌다)")
+    void bloomPositive_confirmsWithCanonicalUrl() {
+        index.initialize(List.of("https://news.example.com/a/1"));
+        when(articleRepository.existsByCanonicalUrlOrOriginalUrl(eq("https://news.example.com/a/1"), any()))
+                .thenReturn(true);
+
+        assertThat(index.isKnown("http://www.news.example.com/a/1?utm_medium=rss")).isTrue();
+    }
+
+    @Test
+    @DisplayName("초기화 전에는 항상 DB로 확인하고, 그 사이 저장된 URL도 필터에 반영된다")
+    void beforeInit_fallsBackToDb_andKeepsPendingRecords() {
+        index.isKnown("https://news.example.com/a/1");
+        verify(articleRepository).existsByCanonicalUrlOrOriginalUrl(any(), any());
+
+        index.record("https://news.example.com/a/9");
+        index.initialize(List.of());
+        when(articleRepository.existsByCanonicalUrlOrOriginalUrl(any(), any())).thenReturn(true);
+
+        assertThat(index.isKnown("https://news.example.com/a/9")).isTrue();
+        assertThat(index.confirmedDbChecks()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,203 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.client.NaverNewsClient;
+import com.insk.insk_backend.client.NaverNewsSource;
+import com.insk.insk_backend.client.NewsSource;
+import com.insk.insk_backend.domain.FetchCursor;
+import com.insk.insk_backend.domain.Keyword;
+import com.insk.insk_backend.dto.NaverNewsDto;
+import com.insk.insk_backend.repository.FetchCursorRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 증분 수집 커서 — 최신순 목록에서 지난 실행에서 본 구간은 다시 넘기지 않는다.
+ *
+ * <p>저장소는 save된 커서를 그대로 돌려주는 1건짜리 인메모리 흉내로 대체한다.
+ */
+class FetchCursorServiceTest {
+
+    private static final DateTimeFormatter RFC1123 =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+    private static final ZonedDateTime BASE = ZonedDateTime.of(2026, 5, 1, 9, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+
+    private final FetchCursorRepository repository = mock(FetchCursorRepository.class);
+    private final AtomicReference<FetchCursor> stored = new AtomicReference<>();
+    private final NaverNewsClient naverNewsClient = mock(NaverNewsClient.class);
+    private final FetchCursorService cursorService = new FetchCursorService(repository);
+    private final NaverNewsSource source = new NaverNewsSource(naverNewsClient, cursorService);
+
+    FetchCursorServiceTest() {
+        when(repository.findBySourceAndKeyword(any(), any())).thenAnswer(inv -> Optional.ofNullable(stored.get()));
+        when(repository.save(any(FetchCursor.class))).thenAnswer(inv -> {
+            stored.set(inv.getArgument(0));
+            return inv.getArgument(0);
+        });
+        ReflectionTestUtils.setField(source, "pageSize", 3);
+    }
+
+    @Test
+    @DisplayName("두 번째 실행은 지난 실행 이후 새 기사만 돌려주고, 커서에 닿으면 페이지를 더 넘기지 않는다")
+    void secondRun_returnsOnlyNewItems_andStopsAtCursor() {
+        Keyword kw = mock(Keyword.class);
+        when(kw.getKeyword()).thenReturn("AI");
+
+        // 1회차(첫 수집): 최신순 3건
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(3), dto(2), dto(1)));
+        List<NewsSource.Item> first = source.fetch(List.of(kw));
+        assertThat(first).hasSize(3);
+        source.commit(first, List.of());
+
+        // 2회차: 새 기사 1건이 앞에 붙고, 뒤로는 이미 본 기사들 (페이지 전체가 꽉 참)
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(5), dto(3), dto(2)));
+        List<NewsSource.Item> second = source.fetch(List.of(kw));
+
+        assertThat(second).extracting(NewsSource.Item::url)
+                .containsExactly("https://example.com/news/5");
+        // watermark(3번 기사)과 같은 시각은 Bloom filter로 걸렀고, 그보다 오래된 구간은 요청하지 않았다
+        verify(naverNewsClient, times(0)).searchNews(eq("AI"), anyInt(), eq(4), eq("date"));
+    }
+
+    @Test
+    @DisplayName("새 기사가 없으면 커서를 저장하지 않고 빈 목록을 돌려준다")
+    void noNewItems_returnsEmpty() {
+        Keyword kw = mock(Keyword.class);
+        when(kw.getKeyword()).thenReturn("AI");
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(2), dto(1)));
+        source.commit(source.fetch(List.of(kw)), List.of());
+
+        List<NewsSource.Item> again = source.fetch(List.of(kw));
+        source.commit(again, List.of());
+
+        assertThat(again).isEmpty();
+        verify(repository, times(1)).save(any(FetchCursor.class));
+    }
+
+    @Test
+    @DisplayName("fetch만으로는 커서가 움직이지 않고, 처리하지 못한 기사는 다음 실행에서 다시 받는다")
+    void unhandledItems_areFetchedAgain() {
+        Keyword kw = mock(Keyword.class);
+        when(kw.getKeyword()).thenReturn("AI");
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(3), dto(2), dto(1)));
+
+        // 파이프라인이 deadline을 넘겨 commit하지 못한 실행: 커서 저장 없음
+        List<NewsSource.Item> first = source.fetch(List.of(kw));
+        verify(repository, times(0)).save(any(FetchCursor.class));
+
+        // 다시 받은 목록 중 2번 기사만 본문 로드에 실패
+        List<NewsSource.Item> retry = source.fetch(List.of(kw));
+        assertThat(retry).isEqualTo(first);
+        source.commit(List.of(retry.get(0), retry.get(2)), List.of(retry.get(1)));
+
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(5), dto(3), dto(2)));
+        List<NewsSource.Item> next = source.fetch(List.of(kw));
+
+        assertThat(next).extracting(NewsSource.Item::url)
+                .containsExactly("https://example.com/news/5", "https://example.com/news/2");
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 기사는 한도(3회)까지만 다시 받고, 그 뒤로는 포기해 커서를 전진시킨다")
+    void permanentlyFailingItem_givenUpAfterMaxAttempts() {
+        Keyword kw = mock(Keyword.class);
+        when(kw.getKeyword()).thenReturn("AI");
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(3), dto(2), dto(1)));
+        List<NewsSource.Item> first = source.fetch(List.of(kw));
+        source.commit(List.of(first.get(0), first.get(2)), List.of(first.get(1)));   // 2번 기사 본문이 막힘
+
+        when(naverNewsClient.searchNews(eq("AI"), anyInt(), eq(1), eq("date")))
+                .thenReturn(List.of(dto(3), dto(2)));
+        for (int run = 2; run <= 3; run++) {
+            List<NewsSource.Item> again = source.fetch(List.of(kw));
+            assertThat(again).extracting(NewsSource.Item::url).containsExactly("https://example.com/news/2");
+            source.commit(List.of(), again);
+        }
+
+        assertThat(source.fetch(List.of(kw))).isEmpty();
+        // 묶여 있던 watermark가 포기한 기사의 발행시각까지 풀린다
+        assertThat(stored.get().getLastPublishedAt()).isEqualTo(BASE.plusMinutes(2).toLocalDateTime());
+        assertThat(stored.get().getFailedUrlAttempts()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 실행이 먼저 커서를 갱신했으면(버전 충돌) 덮어쓰지 않고 조용히 넘긴다")
+    void concurrentAdvance_versionConflict_isSkipped() {
+        when(repository.save(any(FetchCursor.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(FetchCursor.class, 1L));
+        FetchCursorService.Cursor cursor = cursorService.open("Feed", "");
+        NewsSource.Item item = new NewsSource.Item("Feed", "기사", "https://example.com/feed/1", null,
+                BASE.toLocalDateTime(), "KR", "ko", null);
+
+        assertThatCode(() -> cursorService.advance(cursor, List.of(item), List.of())).doesNotThrowAnyException();
+        assertThat(stored.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("발행시각이 없는 기사는 watermark를 움직이지 않고 Bloom filter로만 거른다")
+    void undatedItems_doNotMoveWatermark() {
+        FetchCursorService.Cursor cursor = cursorService.open("Feed", "");
+        NewsSource.Item undated = new NewsSource.Item("Feed", "발행시각 없음", "https://example.com/feed/9", null,
+                null, "KR", "ko", null);
+        cursorService.advance(cursor, List.of(undated), List.of());
+
+        FetchCursorService.Cursor reopened = cursorService.open("Feed", "");
+        assertThat(stored.get().getLastPublishedAt()).isNull();
+        assertThat(reopened.isSeen("https://example.com/feed/9")).isTrue();
+        assertThat(reopened.isBeforeWatermark(BASE.toLocalDateTime().minusYears(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Bloom filter는 직렬화 후에도 넣은 키를 모두 포함한다(false negative 없음)")
+    void bloomFilter_roundTrip_noFalseNegatives() {
+        BloomFilter bloom = BloomFilter.create(1000, 0.01);
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            urls.add("https://example.com/news/" + i);
+            bloom.put(urls.get(i));
+        }
+
+        BloomFilter restored = BloomFilter.fromBytes(bloom.toBytes());
+
+        assertThat(urls).allMatch(restored::mightContain);
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (restored.mightContain("https://other.com/" + i)) falsePositives++;
+        }
+        assertThat(falsePositives).isLessThan(300);   // 목표 1%, 여유 있게 3%
+    }
+
+    private static NaverNewsDto dto(int n) {
+        NaverNewsDto dto = new NaverNewsDto();
+        dto.setTitle("기사 " + n);
+        dto.setOriginallink("https://example.com/news/" + n);
+        dto.setPubDate(BASE.plusMinutes(n).format(RFC1123));
+        return dto;
+    }
+}
@@ -85,6 +85,7 @@ class LlmAnalysisServiceRetryTest {
         OpenAIDto.AnalysisResponse result = service.analyze("본문");
 
         assertThat(result).isSameAs(fallbackResult);
+        assertThat(result.getModel()).isEqualTo("fallback-model");   // 캐시가 주 모델 결과와 구분하도록
         verify(openAIClient, times(5)).analyzeArticle(any(), eq("primary-model"));  // 5회 재시도
         verify(openAIClient, times(1)).analyzeArticle(any(), eq("fallback-model")); // 폴백 1회
     }
@@ -101,6 +102,7 @@ class LlmAnalysisServiceRetryTest {
         OpenAIDto.AnalysisResponse result = service.analyze("본문");
 
         assertThat(result).isSameAs(ok);
+        assertThat(result.getModel()).isEqualTo("primary-model");
         verify(openAIClient, times(3)).analyzeArticle(any(), eq("primary-model"));
         verify(openAIClient, never()).analyzeArticle(any(), eq("fallback-model")); // 폴백 안 함
     }
@@ -0,0 +1,62 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.client.MainTextExtractor;
+import com.insk.insk_backend.client.TokenEstimator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LLM 직전 본문 정리 — 본문 컨테이너만 추출하고, 토큰 예산을 넘는 꼬리는 문장 경계에서 자른다.
+ */
+class LlmBodyPreparerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LlmBodyPreparer preparer = new LlmBodyPreparer(registry);
+
+    @Test
+    @DisplayName("셀렉터가 없을 때 메뉴·댓글·랭킹을 빼고 본문 문단만 추출한다")
+    void extract_dropsNavigationCommentsAndRanking() {
+        String html = "<html><body>"
+                + "<div class='gnb'><a href='#'>홈</a><a href='#'>정치</a><a href='#'>경제</a></div>"
+                + "<div id='wrap'><div class='news_view'>"
+                + "<p>SK텔레콤이 AI 데이터센터에 3조 원을 투자한다고 19일 밝혔다. 회사는 이번 투자로, 국내 최대 규모의 GPU 클러스터를 구축한다.</p>"
+                + "<p>업계에서는 이번 결정이 통신사의 AI 인프라 경쟁을 본격화할 것으로, 보고 있다. 홍길동 기자 hong@news.com</p>"
+                + "<p>ⓒ 뉴스 무단 전재 및 재배포 금지</p></div>"
+                + "<div class='comment_area'><p>댓글: 이거 진짜 좋은 소식이네요 정말 대단합니다 굿굿굿굿</p></div>"
+                + "<div class='ranking'><ul><li><a href='#'>많이 본 뉴스 1번 제목은 이것입니다 정말 길게 써봅니다</a></li></ul></div>"
+                + "</div></body></html>";
+
+        String body = MainTextExtractor.extract(Jsoup.parse(html));
+
+        assertThat(body).contains("3조 원을 투자", "인프라 경쟁");
+        assertThat(body).doesNotContain("댓글", "많이 본 뉴스", "정치", "hong@news.com", "무단 전재");
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘으면 문장 끝에서 자르고 절감 토큰을 기록한다")
+    void prepare_truncatesAtSentenceBoundary_andRecordsSavedTokens() {
+        ReflectionTestUtils.setField(preparer, "maxBodyTokens", 50);
+        String sentence = "인공지능 반도체 수요가 늘고 있다. ";   // 비ASCII 1자 = 1토큰
+        String body = sentence.repeat(20);
+
+        String prepared = preparer.prepare(body);
+
+        assertThat(TokenEstimator.estimate(prepared)).isLessThanOrEqualTo(50);
+        assertThat(prepared).endsWith(".");
+        assertThat(registry.get("pipeline.llm.body.truncated").counter().count()).isEqualTo(1);
+        assertThat(registry.get("pipeline.llm.body.tokens.saved").summary().totalAmount())
+                .isEqualTo(TokenEstimator.estimate(body) - TokenEstimator.estimate(prepared));
+    }
+
+    @Test
+    @DisplayName("예산 안의 짧은 본문은 그대로 통과한다")
+    void prepare_shortBody_untouched() {
+        assertThat(preparer.prepare("짧은 본문입니다.")).isEqualTo("짧은 본문입니다.");
+        assertThat(registry.get("pipeline.llm.body.truncated").counter().count()).isZero();
+    }
+}
@@ -1,24 +1,45 @@
 package com.insk.insk_backend.service;
 
 import com.insk.insk_backend.client.AITimesClient;
+import com.insk.insk_backend.client.AITimesNewsSource;
 import com.insk.insk_backend.client.EmbeddingClient;
 import com.insk.insk_backend.client.NaverNewsClient;
+import com.insk.insk_backend.client.NaverNewsSource;
+import com.insk.insk_backend.client.NewsSource;
 import com.insk.insk_backend.client.OpenAiAnalysisException;
+import com.insk.insk_backend.client.OpenAiBatchException;
+import com.insk.insk_backend.client.OpenAiReactiveGateway;
 import com.insk.insk_backend.client.QdrantClient;
 import com.insk.insk_backend.client.TheGuruClient;
+import com.insk.insk_backend.client.TheGuruNewsSource;
 import com.insk.insk_backend.domain.Article;
 import com.insk.insk_backend.domain.Keyword;
 import com.insk.insk_backend.dto.NaverNewsDto;
+import com.insk.insk_backend.dto.OpenAIDto;
+import com.insk.insk_backend.repository.AnalysisCacheRepository;
 import com.insk.insk_backend.repository.ArticleRepository;
+import com.insk.insk_backend.repository.FetchCursorRepository;
 import com.insk.insk_backend.repository.KeywordRepository;
 import com.insk.insk_backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,13 +68,26 @@ class NewsPipelineResilienceTest {
     private final LlmAnalysisService llmAnalysisService = mock(LlmAnalysisService.class);
     private final ArticlePersistenceService persistenceService = mock(ArticlePersistenceService.class);
     private final QdrantClient qdrantClient = mock(QdrantClient.class);
+    private final BatchAnalysisService batchAnalysisService = mock(BatchAnalysisService.class);
+    private final OpenAiReactiveGateway reactiveGateway = mock(OpenAiReactiveGateway.class);
+    // 캐시 저장소는 비어 있음 → 항상 미스
+    private final AnalysisCacheService analysisCacheService = new AnalysisCacheService(mock(AnalysisCacheRepository.class),
+            new SimpleMeterRegistry());
+    private final LlmBodyPreparer bodyPreparer = new LlmBodyPreparer(new SimpleMeterRegistry());
+    // 커서 저장소는 비어 있음 → 모든 소스가 첫 수집으로 동작
+    private final FetchCursorService fetchCursorService = new FetchCursorService(mock(FetchCursorRepository.class));
 
-    // 병렬 실행을 동기(인라인)로 만들어 검증을 결정적으로 — Executor.execute(r) → r.run()
+    // 병렬 실행(소스 fan-out·기사 처리)을 동기(인라인)로 만들어 검증을 결정적으로 — Executor.execute(r) → r.run()
     private final NewsPipelineService service = new NewsPipelineService(
             keywordRepository, articleRepository, userRepository,
-            naverNewsClient, aiTimesClient, theGuruClient,
+            naverNewsClient,
+            List.of(new NaverNewsSource(naverNewsClient, fetchCursorService),
+                    new AITimesNewsSource(aiTimesClient, fetchCursorService),
+                    new TheGuruNewsSource(theGuruClient, fetchCursorService)),
             embeddingClient, llmAnalysisService, persistenceService,
-            Runnable::run, qdrantClient);
+            Runnable::run, Runnable::run, qdrantClient,
+            new ArticleUrlIndex(articleRepository), batchAnalysisService, analysisCacheService, bodyPreparer,
+            reactiveGateway);
 
     @Test
     @DisplayName("재시도·폴백 모두 실패하면 기사를 버리지 않고 persistFailed로 보존 위임한다(DLQ)")
@@ -67,8 +101,8 @@ class NewsPipelineResilienceTest {
         when(dto.getTitle()).thenReturn("삼성전자, AI 반도체 전략 발표");
 
         when(keywordRepository.findByApprovedTrue()).thenReturn(List.of(kw));
-        when(naverNewsClient.searchNews(any(), anyInt())).thenReturn(List.of(dto));
-        when(articleRepository.existsByOriginalUrl(any())).thenReturn(false);
+        when(naverNewsClient.searchNews(any(), anyInt(), anyInt(), any())).thenReturn(List.of(dto));
+        when(articleRepository.existsByCanonicalUrlOrOriginalUrl(any(), any())).thenReturn(false);
         when(articleRepository.findTitlesPublishedAfter(any())).thenReturn(List.of());
         when(naverNewsClient.scrapeArticleBody(any())).thenReturn("기사 본문 내용");
         // 재시도·폴백까지 모두 실패한 상황: 예외 전파
@@ -84,4 +118,174 @@ class NewsPipelineResilienceTest {
         verify(persistenceService, times(1)).persistFailed(any(Article.class));
         verify(persistenceService, never()).persistAnalyzed(any(), any(), any(), any(), any());
     }
+
+    @Test
+    @DisplayName("소스 하나가 deadline을 넘겨도 나머지 소스의 기사는 처리된다(fan-out 격리)")
+    void slowSource_timesOut_otherSourcesStillProcessed() {
+        Keyword kw = mock(Keyword.class);
+        when(keywordRepository.findByApprovedTrue()).thenReturn(List.of(kw));
+        when(articleRepository.existsByCanonicalUrlOrOriginalUrl(any(), any())).thenReturn(false);
+        when(articleRepository.findTitlesPublishedAfter(any())).thenReturn(List.of());
+        when(llmAnalysisService.analyze(any()))
+                .thenThrow(new OpenAiAnalysisException("분석 최종 실패", new RuntimeException("boom")));
+
+        NewsSource slow = mock(NewsSource.class);
+        when(slow.name()).thenReturn("Slow");
+        when(slow.fetch(any())).thenAnswer(inv -> {
+            Thread.sleep(2_000);
+            return List.of();
+        });
+        NewsSource fast = mock(NewsSource.class);
+        when(fast.name()).thenReturn("Fast");
+        when(fast.fetch(any())).thenReturn(List.of(new NewsSource.Item(
+                "Fast", "빠른 소스 기사", "https://example.com/fast/1", "충분히 긴 요약 본문입니다",
+                LocalDateTime.now(), "KR", "ko", null)));
+        when(fast.loadBody(any())).thenReturn("충분히 긴 요약 본문입니다");
+
+        ExecutorService sourcePool = Executors.newFixedThreadPool(2);
+        try {
+            NewsPipelineService fanOut = new NewsPipelineService(
+                    keywordRepository, articleRepository, userRepository,
+                    naverNewsClient, List.of(slow, fast),
+                    embeddingClient, llmAnalysisService, persistenceService,
+                    Runnable::run, sourcePool, qdrantClient,
+                    new ArticleUrlIndex(articleRepository), batchAnalysisService, analysisCacheService, bodyPreparer,
+                    reactiveGateway);
+            ReflectionTestUtils.setField(fanOut, "sourceDeadlineMs", 200L);
+
+            long start = System.nanoTime();
+            fanOut.runPipelineSync(null);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            // 느린 소스를 기다리지 않고 deadline 근처에서 끝나며, 빠른 소스 기사는 DLQ까지 도달한다.
+            assertThat(elapsedMs).isLessThan(1_500);
+            verify(persistenceService, times(1)).persistFailed(any(Article.class));
+            // deadline을 넘긴 소스는 커서를 전진시키지 않고, 처리한 소스만 전진시킨다.
+            verify(slow, never()).commit(any(), any());
+            verify(fast, times(1)).commit(argThat(handled -> handled.size() == 1), argThat(List::isEmpty));
+        } finally {
+            sourcePool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Batch 모드: 결과가 온 기사는 일괄 저장, 빠진 기사는 실시간 경로(폴백 포함)로 재시도 후 실패하면 DLQ로 보존한다")
+    void batchMode_persistsResultsInBulk_missingGoToDlq() {
+        when(keywordRepository.findByApprovedTrue()).thenReturn(List.of(mock(Keyword.class)));
+        when(articleRepository.findTitlesPublishedAfter(any())).thenReturn(List.of());
+        NewsSource source = mock(NewsSource.class);
+        when(source.name()).thenReturn("Feed");
+        when(source.fetch(any())).thenReturn(List.of(
+                new NewsSource.Item("Feed", "첫 번째 기사 제목", "https://example.com/b/1", "본문 하나입니다",
+                        LocalDateTime.now(), "KR", "ko", null),
+                new NewsSource.Item("Feed", "완전히 다른 두 번째", "https://example.com/b/2", "본문 둘입니다",
+                        LocalDateTime.now(), "KR", "ko", null)));
+        when(source.loadBody(any())).thenAnswer(inv -> ((NewsSource.Item) inv.getArgument(0)).summary());
+        // custom_id "0"만 성공, "1"은 배치에서 실패하고 재시도·폴백 재분석도 실패
+        when(batchAnalysisService.analyzeAll(any())).thenReturn(Map.of("0", new OpenAIDto.AnalysisResponse()));
+        when(reactiveGateway.analyzeAll(any(), anyInt())).thenReturn(Mono.just(Map.of()));
+        when(reactiveGateway.embed(any())).thenReturn(Mono.just(List.of(0.1, 0.2)));
+
+        NewsPipelineService batch = new NewsPipelineService(
+                keywordRepository, articleRepository, userRepository,
+                naverNewsClient, List.of(source),
+                embeddingClient, llmAnalysisService, persistenceService,
+                Runnable::run, Runnable::run, qdrantClient,
+                new ArticleUrlIndex(articleRepository), batchAnalysisService, analysisCacheService, bodyPreparer,
+                reactiveGateway);
+
+        batch.runPipelineBatch();
+
+        // 배치에서 빠진 1건만 재시도+폴백 경로로 다시 분석하고, 블로킹 실시간 분석은 쓰지 않는다
+        verify(reactiveGateway, times(1)).analyzeAll(argThat(m -> m.keySet().equals(Set.of("1"))), anyInt());
+        verify(llmAnalysisService, never()).analyze(any());
+        verify(persistenceService, times(1)).persistAnalyzedAll(
+                argThat(list -> list.size() == 1
+                        && list.get(0).article().getOriginalUrl().equals("https://example.com/b/1")));
+        verify(persistenceService, times(1)).persistFailed(
+                argThat(a -> a.getOriginalUrl().equals("https://example.com/b/2")));
+        // 저장·FAILED 보존이 끝난 뒤에야 두 기사 모두 처리 완료로 커서에 반영
+        verify(source, times(1)).commit(argThat(handled -> handled.size() == 2), argThat(List::isEmpty));
+    }
+
+    @Test
+    @DisplayName("Batch가 통째로 실패하면 DLQ 기사의 재처리 횟수를 소모하지 않고 다음 회차로 넘긴다")
+    void wholeBatchFailure_doesNotBurnDlqRetries() {
+        Article failed = Article.builder()
+                .title("재처리 대기 기사").originalUrl("https://example.com/dlq/1")
+                .publishedAt(LocalDateTime.now()).createdAt(LocalDateTime.now()).build();
+        ReflectionTestUtils.setField(failed, "articleId", 7L);
+        when(articleRepository.findByAnalysisStatus(any())).thenReturn(List.of(failed));
+        when(naverNewsClient.scrapeArticleBody(any())).thenReturn("다시 받은 기사 본문");
+        when(batchAnalysisService.analyzeAll(any()))
+                .thenThrow(new OpenAiBatchException("Batch 결과 없음 (status=expired)", null));
+
+        service.reprocessFailedAnalyses();
+
+        verify(persistenceService, never()).persistReprocessFailure(any(), anyInt());
+        verify(reactiveGateway, never()).analyzeAll(any(), anyInt());
+        assertThat(failed.getRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("본문 로드에 실패한 기사는 처리 완료로 넘기지 않아 다음 실행에서 다시 받는다")
+    void bodyLoadFailure_leftUnhandledForNextRun() {
+        when(keywordRepository.findByApprovedTrue()).thenReturn(List.of(mock(Keyword.class)));
+        when(articleRepository.findTitlesPublishedAfter(any())).thenReturn(List.of());
+        NewsSource.Item ok = new NewsSource.Item("Feed", "본문이 있는 기사", "https://example.com/c/1", "본문 하나입니다",
+                LocalDateTime.now(), "KR", "ko", null);
+        NewsSource.Item broken = new NewsSource.Item("Feed", "스크랩이 막힌 기사", "https://example.com/c/2", null,
+                LocalDateTime.now(), "KR", "ko", null);
+        NewsSource source = mock(NewsSource.class);
+        when(source.name()).thenReturn("Feed");
+        when(source.fetch(any())).thenReturn(List.of(ok, broken));
+        when(source.loadBody(ok)).thenReturn("본문 하나입니다");
+        when(source.loadBody(broken)).thenReturn(null);
+        when(llmAnalysisService.analyze(any())).thenReturn(new OpenAIDto.AnalysisResponse());
+
+        NewsPipelineService pipeline = new NewsPipelineService(
+                keywordRepository, articleRepository, userRepository,
+                naverNewsClient, List.of(source),
+                embeddingClient, llmAnalysisService, persistenceService,
+                Runnable::run, Runnable::run, qdrantClient,
+                new ArticleUrlIndex(articleRepository), batchAnalysisService, analysisCacheService, bodyPreparer,
+                reactiveGateway);
+
+        pipeline.runPipelineSync(null);
+
+        verify(source, times(1)).commit(List.of(ok), List.of(broken));
+    }
+
+    @Test
+    @DisplayName("기사 처리 풀이 포화돼 거절된 기사는 실행을 깨지 않고 미처리로 남겨 커서를 그 앞에서 멈춘다")
+    void itemPoolRejection_leavesItemUnhandled() {
+        when(keywordRepository.findByApprovedTrue()).thenReturn(List.of(mock(Keyword.class)));
+        when(articleRepository.findTitlesPublishedAfter(any())).thenReturn(List.of());
+        NewsSource.Item first = new NewsSource.Item("Feed", "먼저 올라간 기사", "https://example.com/d/1", "본문 하나입니다",
+                LocalDateTime.now(), "KR", "ko", null);
+        NewsSource.Item rejected = new NewsSource.Item("Feed", "거절된 기사", "https://example.com/d/2", "본문 둘입니다",
+                LocalDateTime.now(), "KR", "ko", null);
+        NewsSource source = mock(NewsSource.class);
+        when(source.name()).thenReturn("Feed");
+        when(source.fetch(any())).thenReturn(List.of(first, rejected));
+        when(source.loadBody(any())).thenAnswer(inv -> inv.<NewsSource.Item>getArgument(0).summary());
+        when(llmAnalysisService.analyze(any())).thenReturn(new OpenAIDto.AnalysisResponse());
+
+        AtomicInteger submitted = new AtomicInteger();
+        NewsPipelineService pipeline = new NewsPipelineService(
+                keywordRepository, articleRepository, userRepository,
+                naverNewsClient, List.of(source),
+                embeddingClient, llmAnalysisService, persistenceService,
+                task -> {
+                    if (submitted.incrementAndGet() > 1) throw new RejectedExecutionException("queue full");
+                    task.run();
+                },
+                Runnable::run, qdrantClient,
+                new ArticleUrlIndex(articleRepository), batchAnalysisService, analysisCacheService, bodyPreparer,
+                reactiveGateway);
+
+        pipeline.runPipelineSync(null);
+
+        verify(source, times(1)).commit(List.of(first), List.of(rejected));
+    }
 }
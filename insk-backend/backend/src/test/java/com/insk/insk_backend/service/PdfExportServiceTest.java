@@ -0,0 +1,220 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.dto.PdfExportDto;
+import com.insk.insk_backend.exception.TooManyExportJobsException;
+import com.insk.insk_backend.repository.ArticleAnalysisRepository;
+import com.insk.insk_backend.repository.ArticleRepository;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PDF 일괄 내보내기 — 병렬 렌더링 후 ZIP/병합 PDF로 내려받기, 실패 건 집계, 작업 소유자 확인.
+ */
+class PdfExportServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final ArticleRepository articleRepository = mock(ArticleRepository.class);
+    private final PdfReportLoader reportLoader = mock(PdfReportLoader.class);
+    private final ArticlePdfService pdfService = mock(ArticlePdfService.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private PdfExportService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = new PdfExportService(articleRepository, mock(ArticleAnalysisRepository.class),
+                mock(ArticleSearchService.class), reportLoader, pdfService, executor);
+        ReflectionTestUtils.setField(service, "dir", dir.toString());
+
+        when(reportLoader.loadArticle(any())).thenAnswer(inv -> {
+            Long id = inv.getArgument(0);
+            if (id == 3L) throw new IllegalArgumentException("기사 없음");
+            return new PdfReportLoader.ArticleReport("기사 " + id, "naver", null, false,
+                    null, null, null, null, null, List.of());
+        });
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(1);
+            try (PDDocument doc = new PDDocument()) {
+                doc.addPage(new PDPage());
+                doc.save(out);
+            }
+            return null;
+        }).when(pdfService).writeArticlePdf(any(), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("관심기사를 병렬 렌더링해 ZIP으로 내려주고, 실패한 기사는 건너뛰고 집계한다")
+    void favorites_zip() throws Exception {
+        likes(1L, 2L, 3L, 4L);
+
+        PdfExportService.Status started = service.start("a@insk.com",
+                PdfExportDto.Request.builder().source(PdfExportDto.Source.FAVORITES).build());
+        PdfExportService.Status done = await("a@insk.com", started.jobId());
+
+        assertThat(done.state()).isEqualTo(PdfExportService.State.READY);
+        assertThat(done.total()).isEqualTo(4);
+        assertThat(done.completed()).isEqualTo(3);
+        assertThat(done.failed()).isEqualTo(1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeTo("a@insk.com", started.jobId(), out);
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry e = zip.getNextEntry(); e != null; e = zip.getNextEntry()) names.add(e.getName());
+        }
+        assertThat(names).containsExactly("001_article_1.pdf", "002_article_2.pdf", "004_article_4.pdf");
+    }
+
+    @Test
+    @DisplayName("MERGED 형식은 성공한 기사 PDF를 순서대로 한 문서로 합친다")
+    void favorites_merged() throws Exception {
+        likes(1L, 2L, 4L);
+
+        PdfExportService.Status started = service.start("a@insk.com", PdfExportDto.Request.builder()
+                .source(PdfExportDto.Source.FAVORITES).format(PdfExportDto.Format.MERGED).build());
+        await("a@insk.com", started.jobId());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeTo("a@insk.com", started.jobId(), out);
+        try (PDDocument merged = PDDocument.load(out.toByteArray())) {
+            assertThat(merged.getNumberOfPages()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회할 수 없고, 잘못된 기간은 작업을 만들기 전에 거부한다")
+    void ownershipAndValidation() throws Exception {
+        likes(1L);
+        PdfExportService.Status started = service.start("a@insk.com",
+                PdfExportDto.Request.builder().source(PdfExportDto.Source.FAVORITES).build());
+
+        assertThatThrownBy(() -> service.status("b@insk.com", started.jobId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start("a@insk.com", PdfExportDto.Request.builder()
+                .source(PdfExportDto.Source.CATEGORY).category("AI")
+                .from(LocalDate.of(2026, 10, 10)).to(LocalDate.of(2026, 10, 1)).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("사용자당 진행 중 작업 수를 넘으면 429로 거절하고, 다른 사용자는 영향을 받지 않는다")
+    void activeJobsPerUser_capped() throws Exception {
+        PdfExportService stalled = new PdfExportService(articleRepository, mock(ArticleAnalysisRepository.class),
+                mock(ArticleSearchService.class), reportLoader, pdfService, task -> { });   // 렌더링이 끝나지 않는 풀
+        ReflectionTestUtils.setField(stalled, "dir", dir.toString());
+        likes(1L);
+        when(articleRepository.findFavoriteArticleIds(eq("b@insk.com"), any())).thenReturn(List.of(1L));
+        PdfExportDto.Request favorites = PdfExportDto.Request.builder().source(PdfExportDto.Source.FAVORITES).build();
+
+        stalled.start("a@insk.com", favorites);
+        stalled.start("a@insk.com", favorites);
+
+        assertThatThrownBy(() -> stalled.start("a@insk.com", favorites))
+                .isInstanceOf(TooManyExportJobsException.class);
+        assertThat(stalled.start("b@insk.com", favorites).state()).isEqualTo(PdfExportService.State.RUNNING);
+    }
+
+    @Test
+    @DisplayName("만료 정리는 내려받는 중인 작업을 건너뛰고, 다운로드가 끝난 뒤에 지운다")
+    void purge_skipsJobBeingDownloaded() throws Exception {
+        likes(1L, 2L);
+        PdfExportService.Status started = service.start("a@insk.com",
+                PdfExportDto.Request.builder().source(PdfExportDto.Source.FAVORITES).build());
+        await("a@insk.com", started.jobId());
+        ReflectionTestUtils.setField(service, "ttlMinutes", 0L);
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        OutputStream slowClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                sink.write(b, off, len);
+            }
+        };
+        Future<?> download = executor.submit(() -> {
+            service.writeTo("a@insk.com", started.jobId(), slowClient);
+            return null;
+        });
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        service.purgeExpired();
+        assertThat(Files.exists(dir.resolve(started.jobId()))).isTrue();
+
+        release.countDown();
+        download.get(5, TimeUnit.SECONDS);
+        int entries = 0;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(sink.toByteArray()))) {
+            while (zip.getNextEntry() != null) entries++;
+        }
+        assertThat(entries).isEqualTo(2);
+
+        service.purgeExpired();
+        assertThat(Files.exists(dir.resolve(started.jobId()))).isFalse();
+        assertThatThrownBy(() -> service.status("a@insk.com", started.jobId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void likes(Long... articleIds) {
+        when(articleRepository.findFavoriteArticleIds(eq("a@insk.com"), any())).thenReturn(List.of(articleIds));
+    }
+
+    private PdfExportService.Status await(String email, String jobId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            PdfExportService.Status status = service.status(email, jobId);
+            if (status.state() != PdfExportService.State.RUNNING) return status;
+            Thread.sleep(20);
+        }
+        throw new AssertionError("내보내기가 끝나지 않음");
+    }
+}
@@ -0,0 +1,64 @@
+package com.insk.insk_backend.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PDF 폰트 캐시 — 폰트는 한 번만 파싱하고 문서마다 빌려 쓴다.
+ * 저장소의 CJK 폰트는 자리표시 파일이라 PDFBox jar에 들어 있는 LiberationSans로 대신한다.
+ */
+class PdfFontCacheTest {
+
+    private static final String BUNDLED_TTF = "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf";
+
+    @Test
+    @DisplayName("문서를 여러 개 만들어도 폰트 파싱은 한 번이고, 각 문서는 서브셋을 임베딩해 저장된다")
+    void parsesOnce_andEmbedsPerDocument() throws Exception {
+        PdfFontCache cache = new PdfFontCache(BUNDLED_TTF, "/fonts/none.ttf", 2);
+
+        for (int i = 0; i < 3; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (PDDocument document = new PDDocument();
+                 PdfFontCache.Lease lease = cache.lease(document)) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(lease.font(), 12);
+                    content.newLineAtOffset(50, 700);
+                    content.showText("report " + i);
+                    content.endText();
+                }
+                document.save(out);
+            }
+            try (PDDocument reloaded = PDDocument.load(out.toByteArray())) {
+                assertThat(reloaded.getNumberOfPages()).isEqualTo(1);
+            }
+        }
+
+        assertThat(((AtomicInteger) ReflectionTestUtils.getField(cache, "parsed")).get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폰트 파일이 없어도 기동은 되고, PDFBox는 요청 시 예외·iText는 기본 폰트로 대체한다")
+    void missingFont_failsLazily() throws Exception {
+        PdfFontCache cache = new PdfFontCache("/fonts/none.otf", "/fonts/none.ttf", 2);
+
+        try (PDDocument document = new PDDocument()) {
+            assertThatThrownBy(() -> cache.lease(document))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("/fonts/none.otf");
+        }
+        assertThat(cache.itextFont()).isNotNull();
+    }
+}
@@ -0,0 +1,144 @@
+package com.insk.insk_backend.service;
+
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PDF 줄바꿈 — 단어/글자 단위 끊기 규칙과, 예전 O(n²) 방식 대비 벤치마크.
+ *
+ * <p>저장소의 CJK 폰트는 자리표시 파일이라 한국어 요약은 고정 폭 표(한글 1em, 라틴 0.5em)로 잰다.
+ * 폭 함수만 다를 뿐 줄바꿈 경로는 실제 폰트와 같다.
+ */
+class PdfTextWrapperTest {
+
+    private static final PdfTextWrapper.GlyphWidths FIXED = cp -> {
+        if (cp == ' ') return 250f;
+        if (Character.UnicodeScript.of(cp) == Character.UnicodeScript.HANGUL) return 1000f;
+        return 500f;
+    };
+
+    @Test
+    @DisplayName("라틴 문자는 공백에서 끊고 줄 끝 공백은 버린다")
+    void latin_breaksOnWords() throws Exception {
+        assertThat(PdfTextWrapper.wrap("hello world again", FIXED, 10, 60f))
+                .containsExactly("hello world", "again");
+    }
+
+    @Test
+    @DisplayName("한글은 글자 사이 어디서나 끊는다")
+    void cjk_breaksOnCharacters() throws Exception {
+        assertThat(PdfTextWrapper.wrap("가나다라마바사", FIXED, 10, 50f))
+                .containsExactly("가나다라마", "바사");
+    }
+
+    @Test
+    @DisplayName("한 줄보다 긴 단어는 글자 단위로 자르고, 줄바꿈 문자는 강제 줄바꿈이다")
+    void longWordAndNewline() throws Exception {
+        assertThat(PdfTextWrapper.wrap("abcdefghijklmnop", FIXED, 10, 50f))
+                .containsExactly("abcdefghij", "klmnop");
+        assertThat(PdfTextWrapper.wrap("첫 줄\n\n셋째 줄", FIXED, 10, 500f))
+                .containsExactly("첫 줄", "", "셋째 줄");
+    }
+
+    @Test
+    @DisplayName("실제 PDFont 경로: 모든 줄이 폭 안에 들고 끊은 자리 공백만 빠진 채 원문이 보존된다")
+    void pdfFont_linesFitAndPreserveText() throws Exception {
+        PDType1Font font = PDType1Font.HELVETICA;
+        String text = "Semiconductor exports rose 12.4% year over year, driven by HBM demand from AI datacenters. "
+                + "Analysts expect capacity expansions through 2026 as hyperscalers extend procurement contracts.";
+
+        List<List<String>> wrapped = PdfTextWrapper.wrapAll(List.of(text, text), font, 11, 200f);
+
+        assertThat(wrapped.get(0)).isEqualTo(wrapped.get(1)).hasSizeGreaterThan(1);
+        for (String line : wrapped.get(0)) {
+            assertThat(font.getStringWidth(line) / 1000f * 11).isLessThanOrEqualTo(200f);
+        }
+        assertThat(String.join(" ", wrapped.get(0))).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 한국어 요약 배치에서 예전 O(n²) 방식보다 빠르고 모든 줄이 폭 안에 든다")
+    void benchmark_againstQuadraticWrap() throws Exception {
+        List<String> summaries = summaries(300);
+        float maxWidth = 512f;   // PDPage 기본(Letter) 폭 612 - 좌우 여백 50*2
+        int fontSize = 11;
+
+        // 워밍업
+        for (int r = 0; r < 3; r++) {
+            for (String s : summaries) {
+                PdfTextWrapper.wrap(s, FIXED, fontSize, maxWidth);
+                quadraticWrap(s, fontSize, maxWidth);
+            }
+        }
+
+        long t0 = System.nanoTime();
+        int lines = 0;
+        for (String s : summaries) {
+            List<String> wrapped = PdfTextWrapper.wrap(s, FIXED, fontSize, maxWidth);
+            lines += wrapped.size();
+            for (String line : wrapped) {
+                assertThat(width(line) / 1000f * fontSize).isLessThanOrEqualTo(maxWidth);
+            }
+        }
+        long linearNanos = System.nanoTime() - t0;
+
+        long t1 = System.nanoTime();
+        for (String s : summaries) quadraticWrap(s, fontSize, maxWidth);
+        long quadraticNanos = System.nanoTime() - t1;
+
+        System.out.printf("PdfTextWrapper summaries=%d lines=%d linear=%.2fms quadratic=%.2fms%n",
+                summaries.size(), lines, linearNanos / 1e6, quadraticNanos / 1e6);
+        assertThat(linearNanos).isLessThan(quadraticNanos);
+    }
+
+    /** 예전 구현 그대로 (접두사 전체 폭을 매 글자 다시 잰다). */
+    private static List<String> quadraticWrap(String text, int fontSize, float maxWidth) throws Exception {
+        List<String> lines = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            String test = current.toString() + c;
+            if (width(test) / 1000f * fontSize > maxWidth && current.length() > 0) {
+                lines.add(current.toString());
+                current = new StringBuilder();
+            }
+            current.append(c);
+        }
+        if (current.length() > 0) lines.add(current.toString());
+        return lines;
+    }
+
+    private static float width(String s) throws Exception {
+        float w = 0;
+        for (int i = 0; i < s.length(); i++) w += FIXED.width(s.charAt(i));
+        return w;
+    }
+
+    /** 파이프라인이 만드는 요약 분량(문장 9~12개, 400~550자)을 흉내 낸다. */
+    private static List<String> summaries(int count) {
+        String[] sentences = {
+                "삼성전자는 3분기 메모리 반도체 영업이익이 전 분기 대비 42% 증가했다고 밝혔다.",
+                "HBM3E 12단 제품의 엔비디아 품질 테스트 통과 여부가 하반기 실적의 핵심 변수로 꼽힌다.",
+                "정부는 반도체 특별법 개정안을 통해 R&D 인력의 주 52시간 예외 적용을 검토하고 있다.",
+                "업계는 AI 데이터센터 투자 확대로 DDR5 서버용 D램 수요가 2026년까지 이어질 것으로 본다.",
+                "환율 변동성과 미국의 대중 수출 규제 강화는 여전히 리스크 요인으로 남아 있다.",
+                "SK하이닉스는 청주 M15X 팹의 양산 시점을 앞당겨 HBM 생산능력을 두 배로 늘릴 계획이다.",
+        };
+        List<String> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int p = 0; p < 3 + i % 2; p++) {
+                for (int k = 0; k < 3; k++) {
+                    sb.append(sentences[(i + p * 3 + k) % sentences.length]).append(' ');
+                }
+            }
+            out.add(sb.toString().trim());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,120 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리포트 아티팩트 — 데이터 버전이 같으면 다시 렌더링하지 않고, 바뀌면 새 파일로 교체한다.
+ */
+class ReportArtifactServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final PdfReportLoader reportLoader = mock(PdfReportLoader.class);
+    private final ArticlePdfService pdfService = mock(ArticlePdfService.class);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private ReportArtifactService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        service = newService();
+        when(reportLoader.loadDepartmentTop(any(), anyInt(), anyInt())).thenReturn(List.of());
+        doAnswer(inv -> {
+            OutputStream out = inv.getArgument(2);
+            out.write(("%PDF digest #" + renders.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(pdfService).writeWeeklyDigestPdf(anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("데이터가 같으면 재렌더링하지 않고, 바뀌면 새로 만들고 이전 파일을 지운다")
+    void rerendersOnlyWhenDataVersionChanges() throws Exception {
+        when(reportLoader.loadWeeklyDigest(7, 10)).thenReturn(List.of(entry("반도체 수출 증가")));
+
+        service.refreshAll();
+        service.refreshAll();
+
+        ReportArtifactService.Artifact first = service.weeklyDigest(7, 10).orElseThrow();
+        verify(pdfService, times(1)).writeWeeklyDigestPdf(eq(7), any(), any());
+        assertThat(first.etag()).isEqualTo(sha256(Files.readAllBytes(first.file())));
+        assertThat(first.length()).isEqualTo(Files.size(first.file()));
+
+        when(reportLoader.loadWeeklyDigest(7, 10)).thenReturn(List.of(entry("반도체 수출 증가"), entry("HBM 증설")));
+        service.refreshAll();
+
+        ReportArtifactService.Artifact second = service.weeklyDigest(7, 10).orElseThrow();
+        verify(pdfService, times(2)).writeWeeklyDigestPdf(eq(7), any(), any());
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(first.file()).doesNotExist();
+        assertThat(second.file()).exists();
+    }
+
+    @Test
+    @DisplayName("재기동 후 같은 데이터면 디스크의 파일을 그대로 쓴다")
+    void reusesFileAfterRestart() throws Exception {
+        when(reportLoader.loadWeeklyDigest(7, 10)).thenReturn(List.of(entry("반도체 수출 증가")));
+        service.refreshAll();
+        String etag = service.weeklyDigest(7, 10).orElseThrow().etag();
+
+        ReportArtifactService restarted = newService();
+        restarted.refreshAll();
+
+        assertThat(restarted.weeklyDigest(7, 10)).get()
+                .extracting(ReportArtifactService.Artifact::etag).isEqualTo(etag);
+        verify(pdfService, times(1)).writeWeeklyDigestPdf(eq(7), any(), any());
+    }
+
+    @Test
+    @DisplayName("부서 리포트 10개도 함께 만들고, 기본 파라미터가 아니면 아티팩트를 주지 않는다")
+    void departmentsAndNonDefaultParams() throws Exception {
+        when(reportLoader.loadWeeklyDigest(7, 10)).thenReturn(List.of());
+        service.refreshAll();
+
+        verify(pdfService, times(DepartmentType.values().length))
+                .writeDepartmentTop5Pdf(any(), eq(7), any(), any());
+        assertThat(service.weeklyDigest(30, 10)).isEmpty();
+        assertThat(service.department(DepartmentType.T_CLOUD, 7, 5)).isPresent();
+        assertThat(service.department(DepartmentType.T_CLOUD, 7, 3)).isEmpty();
+    }
+
+    private ReportArtifactService newService() {
+        ReportArtifactService s = new ReportArtifactService(reportLoader, pdfService);
+        ReflectionTestUtils.setField(s, "dir", dir.toString());
+        return s;
+    }
+
+    private static PdfReportLoader.DigestEntry entry(String title) {
+        return new PdfReportLoader.DigestEntry(title, "naver", LocalDateTime.of(2026, 10, 12, 9, 0),
+                new PdfReportLoader.ScoreSnapshot(0.8, 3, 0, 0.7, 42), "요약", "인사이트");
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
@@ -0,0 +1,105 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.domain.DepartmentType;
+import com.insk.insk_backend.domain.User;
+import com.insk.insk_backend.dto.UserDto;
+import com.insk.insk_backend.jwt.JwtTokenProvider;
+import com.insk.insk_backend.repository.UserRepository;
+import com.insk.insk_backend.security.UserStateCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인·계정 변경 — 해시는 트랜잭션(DB 커넥션) 밖에서 돌고, 낡은 해시는 짧은 트랜잭션으로 따로 재저장한다.
+ */
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final UserStateCache userStateCache = mock(UserStateCache.class);
+    private final UserDetailsPasswordService passwordService = mock(UserDetailsPasswordService.class);
+    private final UserService userService =
+            new UserService(userRepository, passwordEncoder, jwtTokenProvider, userStateCache, passwordService);
+
+    @Test
+    @DisplayName("login은 트랜잭션을 걸지 않아 해시 대기 동안 DB 커넥션을 쥐지 않는다")
+    void login_isNotTransactional() throws Exception {
+        assertThat(UserService.class.getMethod("login", UserDto.LoginRequest.class)
+                .isAnnotationPresent(Transactional.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("낡은 해시는 로그인 성공 뒤 updatePassword(짧은 트랜잭션)로 재저장하고, 최신 해시는 건드리지 않는다")
+    void login_rehashesThroughPasswordService() {
+        User user = User.builder().email("a@insk.com").password("$2a$10$legacy").department(DepartmentType.values()[0])
+                .build();
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("pw12345678", "$2a$10$legacy")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("$2a$10$legacy")).thenReturn(true, false);
+        when(passwordEncoder.encode("pw12345678")).thenReturn("{bcrypt}$2a$12$fresh");
+        when(jwtTokenProvider.createToken(user)).thenReturn("jwt");
+
+        UserDto.LoginResponse response = userService.login(new UserDto.LoginRequest("a@insk.com", "pw12345678"));
+
+        assertThat(response.getToken()).isEqualTo("jwt");
+        verify(passwordService).updatePassword(argThat(d -> d.getUsername().equals("a@insk.com")),
+                eq("{bcrypt}$2a$12$fresh"));
+
+        userService.login(new UserDto.LoginRequest("a@insk.com", "pw12345678"));
+        verify(passwordEncoder, times(1)).encode(any());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 재해시하지 않는다")
+    void login_wrongPassword_noRehash() {
+        User user = User.builder().email("a@insk.com").password("$2a$10$legacy").build();
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(any(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.login(new UserDto.LoginRequest("a@insk.com", "wrong-password")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(passwordService, never()).updatePassword(any(), any());
+    }
+
+    @Test
+    @DisplayName("부서 변경은 커밋 뒤에야 사용자 상태 캐시를 비운다 (커밋 전 동시 요청이 예전 행으로 다시 채우지 않게)")
+    void updateDepartment_evictsAfterCommit() {
+        User user = User.builder().email("a@insk.com").password("x").department(DepartmentType.values()[0]).build();
+        when(userRepository.findByEmail("a@insk.com")).thenReturn(Optional.of(user));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.updateDepartment("a@insk.com",
+                    new UserDto.DepartmentUpdateRequest(DepartmentType.values()[0]));
+            verify(userStateCache, never()).evict(any());
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(userStateCache).evict("a@insk.com");
+    }
+}
@@ -0,0 +1,132 @@
+package com.insk.insk_backend.service;
+
+import com.insk.insk_backend.client.EmbeddingClient;
+import com.insk.insk_backend.client.QdrantClient;
+import com.insk.insk_backend.repository.ArticleEmbeddingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 색인 차원 변경 blue/green 재색인 — 새 컬렉션 생성 → 이중 쓰기 → 잘라서 백필 → 별칭 전환 순서를 고정한다.
+ */
+class VectorReindexServiceTest {
+
+    private final QdrantClient qdrantClient = mock(QdrantClient.class);
+    private final ArticleEmbeddingRepository embeddingRepository = mock(ArticleEmbeddingRepository.class);
+    private final VectorReindexService service =
+            new VectorReindexService(qdrantClient, embeddingRepository, Runnable::run);
+
+    @Test
+    @DisplayName("저장된 1536차원 임베딩을 512차원으로 잘라 새 컬렉션에 채운 뒤에야 별칭을 옮긴다")
+    void reindex_backfillsThenSwitchesAlias() throws Exception {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        when(qdrantClient.activeCollection()).thenReturn("articles");
+        when(embeddingRepository.count()).thenReturn(3L);
+        when(embeddingRepository.findForIndexingAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(row(1, 101), row(2, 102)));
+        when(embeddingRepository.findForIndexingAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(3, 103)));
+        when(embeddingRepository.findForIndexingAfter(eq(3L), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(service.start(512)).isTrue();
+
+        VectorReindexService.Status status = service.status();
+        assertThat(status.phase()).isEqualTo(VectorReindexService.Phase.DONE);
+        assertThat(status.processed()).isEqualTo(3);
+        assertThat(status.collection()).startsWith("articles_d512_");
+
+        InOrder order = inOrder(qdrantClient);
+        order.verify(qdrantClient).createCollection(status.collection(), 512);
+        order.verify(qdrantClient).shadowWritesTo(status.collection(), 512);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, List<Double>>> batches = ArgumentCaptor.forClass(Map.class);
+        order.verify(qdrantClient, times(2)).upsertBatch(eq(status.collection()), batches.capture());
+        order.verify(qdrantClient).switchAlias(status.collection(), 512);
+        order.verify(qdrantClient).shadowWritesTo(isNull(), eq(0));
+
+        assertThat(batches.getAllValues().get(0)).containsOnlyKeys(101L, 102L);
+        List<Double> shortened = batches.getAllValues().get(1).get(103L);
+        assertThat(shortened).hasSize(512);
+        assertThat(shortened.stream().mapToDouble(x -> x * x).sum()).isCloseTo(1.0, offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("전환 후에는 직전 컬렉션 하나만 롤백용으로 남기고 더 오래된 컬렉션은 지운다")
+    void switch_dropsCollectionsOlderThanPrevious() throws Exception {
+        when(qdrantClient.activeCollection()).thenReturn("articles_d1024_1");
+        when(embeddingRepository.findForIndexingAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(qdrantClient.listCollections()).thenAnswer(inv -> List.of(
+                "articles", "articles_d1024_1", service.status().collection(), "users_profile"));
+
+        service.start(512);
+
+        assertThat(service.status().phase()).isEqualTo(VectorReindexService.Phase.DONE);
+        verify(qdrantClient).deleteCollection("articles");
+        verify(qdrantClient, never()).deleteCollection("articles_d1024_1");
+        verify(qdrantClient, never()).deleteCollection(service.status().collection());
+        verify(qdrantClient, never()).deleteCollection("users_profile");
+    }
+
+    @Test
+    @DisplayName("백필이 실패하면 별칭은 옮기지 않고 이중 쓰기를 끈다")
+    void backfillFailure_keepsAlias() throws Exception {
+        when(embeddingRepository.findForIndexingAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(row(1, 101)));
+        doThrow(new RuntimeException("qdrant down")).when(qdrantClient).upsertBatch(anyString(), anyMap());
+
+        service.start(256);
+
+        assertThat(service.status().phase()).isEqualTo(VectorReindexService.Phase.FAILED);
+        assertThat(service.status().error()).contains("qdrant down");
+        verify(qdrantClient, never()).switchAlias(anyString(), anyInt());
+        verify(qdrantClient).shadowWritesTo(isNull(), eq(0));
+    }
+
+    @Test
+    @DisplayName("저장된 임베딩보다 큰 차원은 거부한다")
+    void rejectsDimensionAboveStored() {
+        assertThatThrownBy(() -> service.start(3072)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.status().phase()).isEqualTo(VectorReindexService.Phase.IDLE);
+    }
+
+    @Test
+    @DisplayName("Matryoshka 축소는 앞 dim개 성분을 남기고 단위 길이로 맞춘다")
+    void shorten_keepsPrefixAndNormalizes() {
+        List<Double> v = List.of(3.0, 4.0, 12.0);
+
+        assertThat(EmbeddingClient.shorten(v, 2)).containsExactly(0.6, 0.8);
+        assertThat(EmbeddingClient.shorten(v, 3)).isSameAs(v);
+    }
+
+    private static Object[] row(long id, long articleId) {
+        List<Double> v = new ArrayList<>(1536);
+        for (int i = 0; i < 1536; i++) v.add(Math.sin(articleId + i));
+        return new Object[]{id, articleId, v.toString()};
+    }
+}
@@ -0,0 +1,36 @@
+package com.insk.insk_backend.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기사 URL 정규화 — 중복 판정 키는 추적 파라미터·scheme·host 차이를 지우고, 컬럼 길이를 넘지 않는다.
+ */
+class UrlCanonicalizerTest {
+
+    @Test
+    @DisplayName("추적 파라미터·scheme·www·끝 슬래시·fragment·파라미터 순서 차이는 같은 URL로 정규화된다")
+    void canonicalize_normalizesTrackingAndHost() {
+        String canonical = UrlCanonicalizer.canonicalize("https://news.example.com/a/1?id=7&page=2");
+
+        assertThat(UrlCanonicalizer.canonicalize(
+                "HTTP://WWW.News.Example.com:80/a/1/?page=2&utm_source=naver&id=7&fbclid=xyz#top"))
+                .isEqualTo(canonical);
+        assertThat(UrlCanonicalizer.canonicalize("https://news.example.com/a/1?id=8&page=2"))
+                .isNotEqualTo(canonical);
+    }
+
+    @Test
+    @DisplayName("http→https로 컬럼 길이(512)를 넘게 되면 원문 URL을 그대로 키로 쓴다")
+    void canonicalize_overLength_fallsBackToOriginal() {
+        String prefix = "http://news.example.com/a/";
+        String original = prefix + "x".repeat(UrlCanonicalizer.MAX_LENGTH - prefix.length());
+        assertThat(original).hasSize(UrlCanonicalizer.MAX_LENGTH);
+
+        assertThat(UrlCanonicalizer.canonicalize(original)).isEqualTo(original);
+        assertThat(UrlCanonicalizer.canonicalize("http://news.example.com/a/1"))
+                .isEqualTo("https://news.example.com/a/1");
+    }
+}
@@ -23,14 +23,26 @@ export const createFeedback = async (
   return response.data;
 };
 
+/**
+ * 피드백 목록 한 페이지 (최신순). nextCursor를 다음 호출의 cursor로 넘기면 이어서 받는다.
+ */
+export interface ArticleFeedbackPageResponse {
+  feedbacks: ArticleFeedbackResponse[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 /**
  * 피드백 목록 조회
  */
 export const getFeedbacks = async (
-  articleId: number
-): Promise<ArticleFeedbackResponse[]> => {
-  const response = await apiClient.get<ArticleFeedbackResponse[]>(
-    `/articles/${articleId}/feedbacks`
+  articleId: number,
+  cursor?: string,
+  size?: number
+): Promise<ArticleFeedbackPageResponse> => {
+  const response = await apiClient.get<ArticleFeedbackPageResponse>(
+    `/articles/${articleId}/feedbacks`,
+    { params: { cursor, size } }
   );
   return response.data;
 };